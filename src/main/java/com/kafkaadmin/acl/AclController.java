@@ -1,16 +1,21 @@
 package com.kafkaadmin.acl;
 
+import com.kafkaadmin.common.ETags;
 import com.kafkaadmin.common.ErrorResponse;
+import com.kafkaadmin.common.NdjsonResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,14 +28,17 @@ import java.util.List;
 public class AclController {
 
     private final AclService aclService;
+    private final NdjsonResponses ndjsonResponses;
 
-    public AclController(AclService aclService) {
+    public AclController(AclService aclService, NdjsonResponses ndjsonResponses) {
         this.aclService = aclService;
+        this.ndjsonResponses = ndjsonResponses;
     }
 
     /**
      * Lists all ACLs in the cluster.
      *
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of ACLs sorted by resource type, name, and principal
      */
     @GetMapping
@@ -38,10 +46,28 @@ public class AclController {
             description = "Returns a list of all access control entries in the Kafka cluster")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved ACLs"),
+            @ApiResponse(responseCode = "304", description = "ACLs unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<AclResponse>> listAcls() {
-        return ResponseEntity.ok(aclService.listAcls());
+    public ResponseEntity<List<AclResponse>> listAcls(WebRequest request) {
+        return ETags.ok(request, aclService.listAcls());
+    }
+
+    /**
+     * Streams all ACLs in the cluster as newline-delimited JSON.
+     *
+     * @return streaming response writing one ACL per line, sorted by resource type, name, and principal
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all ACLs",
+            description = "Streams all access control entries in the Kafka cluster as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming ACLs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamAcls() {
+        return ndjsonResponses.stream(aclService.streamAcls());
     }
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service providing ACL operations.
@@ -12,6 +13,10 @@ import java.util.List;
 @Service
 public class AclService {
 
+    private static final Comparator<Acl> ACL_ORDER = Comparator.comparing(Acl::resourceType)
+            .thenComparing(Acl::resourceName)
+            .thenComparing(Acl::principal);
+
     private final KafkaAdminPort kafkaAdminPort;
 
     public AclService(KafkaAdminPort kafkaAdminPort) {
@@ -24,11 +29,21 @@ public class AclService {
      * @return list of ACL responses sorted by resource type, resource name, and principal
      */
     public List<AclResponse> listAcls() {
-        return kafkaAdminPort.describeAcls().stream()
-                .map(AclResponse::from)
-                .sorted(Comparator.comparing(AclResponse::resourceType)
-                        .thenComparing(AclResponse::resourceName)
-                        .thenComparing(AclResponse::principal))
-                .toList();
+        return streamAcls().toList();
+    }
+
+    /**
+     * Streams all ACLs in the cluster.
+     *
+     * <p>ACLs are fetched before this method returns; each response is mapped only as the
+     * stream is consumed.
+     *
+     * @return stream of ACL responses sorted by resource type, resource name, and principal
+     */
+    public Stream<AclResponse> streamAcls() {
+        List<Acl> acls = kafkaAdminPort.describeAcls();
+        return acls.stream()
+                .sorted(ACL_ORDER)
+                .map(AclResponse::from);
     }
 }
@@ -0,0 +1,23 @@
+package com.kafkaadmin.alert;
+
+/**
+ * Firing lag alert for one group-partition.
+ *
+ * @param rule name of the rule that fired
+ * @param groupId the consumer group ID
+ * @param topic topic name
+ * @param partition partition number
+ * @param lag lag at the latest sample
+ * @param lagThreshold the rule's lag threshold
+ * @param sinceMs when the partition first exceeded the threshold, in epoch milliseconds
+ */
+public record LagAlert(
+        String rule,
+        String groupId,
+        String topic,
+        int partition,
+        long lag,
+        long lagThreshold,
+        long sinceMs
+) {
+}
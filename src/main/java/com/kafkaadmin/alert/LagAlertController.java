@@ -0,0 +1,59 @@
+package com.kafkaadmin.alert;
+
+import com.kafkaadmin.common.ETags;
+import com.kafkaadmin.common.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * REST controller for consumer lag alerts.
+ *
+ * <p>Provides an endpoint listing the alerts fired by the configured lag alert rules.
+ */
+@RestController
+@RequestMapping("/api/v1/alerts")
+@Tag(name = "Alerts", description = "Consumer lag alerts")
+public class LagAlertController {
+
+    private final LagAlertEngine lagAlertEngine;
+
+    /**
+     * Creates a controller with the given alert engine.
+     *
+     * @param lagAlertEngine the lag alert engine
+     */
+    public LagAlertController(LagAlertEngine lagAlertEngine) {
+        this.lagAlertEngine = lagAlertEngine;
+    }
+
+    /**
+     * Lists the firing lag alerts.
+     *
+     * @param request the current request, used for {@code If-None-Match} handling
+     * @return the firing alerts sorted by rule, group, topic and partition
+     */
+    @GetMapping
+    @Operation(summary = "List firing lag alerts",
+            description = "Returns the group-partitions whose lag has exceeded a configured rule's threshold "
+                    + "for at least the rule's duration, as of the latest background lag sample")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved firing alerts"),
+            @ApiResponse(responseCode = "304", description = "No alert evaluation since the given ETag"),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<LagAlertResponse>> getFiringAlerts(WebRequest request) {
+        return ETags.versioned(request, lagAlertEngine.evaluatedAtMs(), lagAlertEngine::getFiringAlerts);
+    }
+}
@@ -0,0 +1,268 @@
+package com.kafkaadmin.alert;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.lag.LagSampleListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates consumer lag alert rules against each background lag sample.
+ *
+ * <p>Rule patterns are compiled once, and the rules matching a group ID or topic are cached, as
+ * the same names repeat in every sample. A sample therefore only touches the rules matching
+ * each group-topic it contains. Per rule, the state of a group-topic is one {@code long[]}
+ * holding, per partition, when the lag first exceeded the threshold, when the partition was
+ * last sampled and its latest lag. A breach only counts as continuous if the partition was in
+ * every sample since it started, so group-partitions that disappear from a sample, e.g. because
+ * the group was deleted or its offsets could not be fetched, start over.
+ *
+ * <p>State is only touched by the sampler thread. After each sample the firing alerts are
+ * published as an immutable list, and their count per rule as the
+ * {@code kafka.admin.lag.alerts.firing} gauge tagged with the rule name.
+ */
+@Service
+public class LagAlertEngine implements LagSampleListener {
+
+    static final String FIRING_METRIC = "kafka.admin.lag.alerts.firing";
+
+    private static final int MAX_CACHED_NAMES = 100_000;
+
+    private static final Comparator<LagAlert> ALERT_ORDER = Comparator
+            .comparing(LagAlert::rule)
+            .thenComparing(LagAlert::groupId)
+            .thenComparing(LagAlert::topic)
+            .thenComparingInt(LagAlert::partition);
+
+    private final LagAlertProperties properties;
+    private final List<CompiledRule> rules;
+    private final Map<String, int[]> rulesByGroup = new HashMap<>();
+    private final Map<String, BitSet> rulesByTopic = new HashMap<>();
+    private volatile List<LagAlert> firing = List.of();
+    private volatile long evaluatedAtMs = -1;
+
+    /**
+     * Creates an engine for the configured rules and registers their gauges.
+     *
+     * @param properties the alert rule configuration
+     * @param meterRegistry the registry to publish the firing alert counts to
+     * @throws IllegalArgumentException if a rule has no name, a duplicate name, a negative
+     *                                  threshold or duration, or an invalid pattern
+     */
+    public LagAlertEngine(LagAlertProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        List<CompiledRule> compiled = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (LagAlertProperties.Rule rule : properties.rules()) {
+            if (rule.name() == null || rule.name().isBlank()) {
+                throw new IllegalArgumentException("Lag alert rule without a name");
+            }
+            if (!names.add(rule.name())) {
+                throw new IllegalArgumentException("Duplicate lag alert rule '" + rule.name() + "'");
+            }
+            if (rule.lagThreshold() < 0 || rule.forMs() < 0) {
+                throw new IllegalArgumentException(
+                        "Lag alert rule '" + rule.name() + "' has a negative threshold or duration");
+            }
+            CompiledRule compiledRule = new CompiledRule(rule);
+            Gauge.builder(FIRING_METRIC, compiledRule.firingCount, AtomicInteger::get)
+                    .description("Group-partitions for which the lag alert rule is firing")
+                    .tag("rule", rule.name())
+                    .register(meterRegistry);
+            compiled.add(compiledRule);
+        }
+        this.rules = List.copyOf(compiled);
+    }
+
+    /**
+     * Returns the alerts firing as of the latest sample.
+     *
+     * @return the firing alerts sorted by rule, group, topic and partition
+     */
+    public List<LagAlertResponse> getFiringAlerts() {
+        return firing.stream()
+                .map(LagAlertResponse::from)
+                .toList();
+    }
+
+    /**
+     * Returns when the sample the firing alerts were evaluated against was taken, which
+     * versions the firing alerts. It is published after the alerts, so it never runs ahead of them.
+     *
+     * @return the sample time in epoch milliseconds, or -1 if no sample has been evaluated
+     */
+    public long evaluatedAtMs() {
+        return evaluatedAtMs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSample(long timestampMs, Map<String, List<ConsumerGroupOffset>> offsets) {
+        if (!properties.enabled() || rules.isEmpty()) {
+            return;
+        }
+        if (rulesByGroup.size() > MAX_CACHED_NAMES) {
+            rulesByGroup.clear();
+        }
+        if (rulesByTopic.size() > MAX_CACHED_NAMES) {
+            rulesByTopic.clear();
+        }
+
+        offsets.forEach((groupId, groupOffsets) -> {
+            int[] groupRules = rulesByGroup.computeIfAbsent(groupId, this::matchGroup);
+            if (groupRules.length == 0) {
+                return;
+            }
+            for (ConsumerGroupOffset offset : groupOffsets) {
+                BitSet topicRules = rulesByTopic.computeIfAbsent(offset.topic(), this::matchTopic);
+                for (int index : groupRules) {
+                    if (topicRules.get(index)) {
+                        rules.get(index).record(groupId, offset, timestampMs);
+                    }
+                }
+            }
+        });
+
+        List<LagAlert> alerts = new ArrayList<>();
+        for (CompiledRule rule : rules) {
+            rule.collect(timestampMs, alerts);
+        }
+        alerts.sort(ALERT_ORDER);
+        firing = List.copyOf(alerts);
+        evaluatedAtMs = timestampMs;
+    }
+
+    private int[] matchGroup(String groupId) {
+        return IntStream.range(0, rules.size())
+                .filter(index -> rules.get(index).matchesGroup(groupId))
+                .toArray();
+    }
+
+    private BitSet matchTopic(String topic) {
+        BitSet matching = new BitSet(rules.size());
+        for (int index = 0; index < rules.size(); index++) {
+            if (rules.get(index).matchesTopic(topic)) {
+                matching.set(index);
+            }
+        }
+        return matching;
+    }
+
+    private record GroupTopic(String groupId, String topic) {
+    }
+
+    private static final class CompiledRule {
+
+        private final LagAlertProperties.Rule rule;
+        private final Pattern group;
+        private final Pattern topic;
+        private final AtomicInteger firingCount = new AtomicInteger();
+        private final Map<GroupTopic, PartitionCounters> counters = new HashMap<>();
+
+        CompiledRule(LagAlertProperties.Rule rule) {
+            this.rule = rule;
+            this.group = rule.group() == null ? null : Pattern.compile(rule.group());
+            this.topic = rule.topic() == null ? null : Pattern.compile(rule.topic());
+        }
+
+        boolean matchesGroup(String groupId) {
+            return group == null || group.matcher(groupId).matches();
+        }
+
+        boolean matchesTopic(String topicName) {
+            return topic == null || topic.matcher(topicName).matches();
+        }
+
+        void record(String groupId, ConsumerGroupOffset offset, long timestampMs) {
+            counters.computeIfAbsent(new GroupTopic(groupId, offset.topic()), key -> new PartitionCounters())
+                    .record(offset.partition(), offset.lag(), offset.lag() > rule.lagThreshold(), timestampMs);
+        }
+
+        void collect(long timestampMs, List<LagAlert> alerts) {
+            int count = 0;
+            Iterator<Map.Entry<GroupTopic, PartitionCounters>> entries = counters.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<GroupTopic, PartitionCounters> entry = entries.next();
+                PartitionCounters partitions = entry.getValue();
+                if (partitions.sampledAtMs != timestampMs) {
+                    entries.remove();
+                    continue;
+                }
+                for (int partition = 0; partition < partitions.partitions(); partition++) {
+                    long sinceMs = partitions.breachSinceMs(partition, timestampMs);
+                    if (sinceMs >= 0 && timestampMs - sinceMs >= rule.forMs()) {
+                        alerts.add(new LagAlert(rule.name(), entry.getKey().groupId(), entry.getKey().topic(),
+                                partition, partitions.lag(partition), rule.lagThreshold(), sinceMs));
+                        count++;
+                    }
+                }
+            }
+            firingCount.set(count);
+        }
+    }
+
+    /**
+     * Breach start, last sample time and lag per partition of one group-topic, interleaved in one array.
+     */
+    private static final class PartitionCounters {
+
+        private static final int FIELDS = 3;
+        private static final long NOT_BREACHED = -1;
+        private static final long NEVER_SAMPLED = Long.MIN_VALUE;
+
+        private long[] values = new long[0];
+        private long sampledAtMs = NEVER_SAMPLED;
+        private long previousSampleMs = NEVER_SAMPLED;
+
+        void record(int partition, long lag, boolean breached, long timestampMs) {
+            if (sampledAtMs != timestampMs) {
+                previousSampleMs = sampledAtMs;
+                sampledAtMs = timestampMs;
+            }
+            if ((partition + 1) * FIELDS > values.length) {
+                int oldLength = values.length;
+                values = Arrays.copyOf(values, (partition + 1) * FIELDS);
+                for (int base = oldLength; base < values.length; base += FIELDS) {
+                    values[base] = NOT_BREACHED;
+                    values[base + 1] = NEVER_SAMPLED;
+                }
+            }
+            int base = partition * FIELDS;
+            boolean continuous = values[base + 1] == previousSampleMs;
+            if (!breached) {
+                values[base] = NOT_BREACHED;
+            } else if (values[base] == NOT_BREACHED || !continuous) {
+                values[base] = timestampMs;
+            }
+            values[base + 1] = timestampMs;
+            values[base + 2] = lag;
+        }
+
+        int partitions() {
+            return values.length / FIELDS;
+        }
+
+        long breachSinceMs(int partition, long timestampMs) {
+            int base = partition * FIELDS;
+            return values[base + 1] == timestampMs ? values[base] : NOT_BREACHED;
+        }
+
+        long lag(int partition) {
+            return values[partition * FIELDS + 2];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.kafkaadmin.alert;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Configuration properties for consumer lag alert rules.
+ *
+ * <p>Properties are bound from the {@code kafka.admin.alerts} prefix in application configuration.
+ *
+ * @param enabled whether lag samples are evaluated against the rules
+ * @param rules the alert rules
+ */
+@ConfigurationProperties(prefix = "kafka.admin.alerts")
+public record LagAlertProperties(
+        Boolean enabled,
+        List<Rule> rules
+) {
+    public LagAlertProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * Alert rule firing for a group-partition whose lag stays above a threshold.
+     *
+     * <p>Patterns are regular expressions matched against the whole group ID or topic name.
+     *
+     * @param name unique rule name, used in responses and metric tags
+     * @param group pattern of the group IDs the rule applies to, or null for every group
+     * @param topic pattern of the topics the rule applies to, or null for every topic
+     * @param lagThreshold lag above which a partition is in breach
+     * @param forMs how long in milliseconds a partition must stay in breach before the alert fires
+     */
+    public record Rule(
+            String name,
+            String group,
+            String topic,
+            long lagThreshold,
+            long forMs
+    ) {
+    }
+}
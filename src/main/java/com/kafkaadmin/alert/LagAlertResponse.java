@@ -0,0 +1,51 @@
+package com.kafkaadmin.alert;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Response representing a firing lag alert for API responses.
+ *
+ * @param rule name of the rule that fired
+ * @param groupId the consumer group ID
+ * @param topic topic name
+ * @param partition partition number
+ * @param lag lag at the latest sample
+ * @param lagThreshold the rule's lag threshold
+ * @param since when the partition first exceeded the threshold
+ */
+@Schema(description = "Firing consumer lag alert")
+public record LagAlertResponse(
+        @Schema(description = "Rule name", example = "orders-lag")
+        String rule,
+
+        @Schema(description = "Consumer group ID", example = "my-consumer-group")
+        String groupId,
+
+        @Schema(description = "Topic name", example = "orders")
+        String topic,
+
+        @Schema(description = "Partition number", example = "0")
+        int partition,
+
+        @Schema(description = "Lag at the latest sample", example = "150000")
+        long lag,
+
+        @Schema(description = "Lag threshold of the rule", example = "100000")
+        long lagThreshold,
+
+        @Schema(description = "When the lag first exceeded the threshold", example = "2026-01-01T00:00:00Z")
+        Instant since
+) {
+    public static LagAlertResponse from(LagAlert alert) {
+        return new LagAlertResponse(
+                alert.rule(),
+                alert.groupId(),
+                alert.topic(),
+                alert.partition(),
+                alert.lag(),
+                alert.lagThreshold(),
+                Instant.ofEpochMilli(alert.sinceMs()));
+    }
+}
@@ -1,12 +1,17 @@
 package com.kafkaadmin.cluster;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kafkaadmin.common.Fields;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Response representing broker details with configuration for API responses.
  *
+ * <p>Fields not selected with the {@code fields} query parameter are null and omitted.
+ *
  * @param id broker identifier
  * @param host broker hostname
  * @param port broker port
@@ -15,32 +20,41 @@ import java.util.Map;
  * @param configs non-default broker configuration key-value pairs
  */
 @Schema(description = "Broker details with configuration")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record BrokerDetailResponse(
         @Schema(description = "Broker ID", example = "1")
-        int id,
+        Integer id,
 
         @Schema(description = "Broker host", example = "kafka-broker-1")
         String host,
 
         @Schema(description = "Broker port", example = "9092")
-        int port,
+        Integer port,
 
         @Schema(description = "Rack ID", example = "rack-1")
         String rack,
 
         @Schema(description = "Whether this broker is the controller", example = "true")
-        boolean isController,
+        Boolean isController,
 
         @Schema(description = "Non-default broker configuration")
         Map<String, String> configs
 ) {
+
+    /** Fields that can be selected with the {@code fields} query parameter. */
+    public static final Set<String> FIELDS = Set.of("id", "host", "port", "rack", "isController", "configs");
+
     public static BrokerDetailResponse from(Broker broker, Map<String, String> configs) {
+        return from(broker, configs, Fields.ALL);
+    }
+
+    public static BrokerDetailResponse from(Broker broker, Map<String, String> configs, Fields fields) {
         return new BrokerDetailResponse(
-                broker.id(),
-                broker.host(),
-                broker.port(),
-                broker.rack(),
-                broker.isController(),
-                configs);
+                fields.select("id", broker.id()),
+                fields.select("host", broker.host()),
+                fields.select("port", broker.port()),
+                fields.select("rack", broker.rack()),
+                fields.select("isController", broker.isController()),
+                fields.select("configs", configs));
     }
 }
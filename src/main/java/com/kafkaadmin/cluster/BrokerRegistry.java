@@ -0,0 +1,187 @@
+package com.kafkaadmin.cluster;
+
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.AsyncResults;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Registry of the brokers in the cluster, indexed by broker ID.
+ *
+ * <p>Brokers are held in an immutable open-addressing table keyed by primitive int, so a lookup
+ * is a single probe sequence without boxing. While a cluster snapshot is available, the table is
+ * built from the brokers of the current snapshot and rebuilt when its version changes, so broker
+ * lookups always agree with the snapshot-served broker list and add no cluster requests.
+ *
+ * <p>Without a snapshot, the table is loaded with one {@code describeCluster} call and reused for
+ * up to {@code kafka.admin.broker-registry.max-age-ms}. A lookup miss reloads it, at most once
+ * per {@code kafka.admin.broker-registry.min-refresh-interval-ms}, so repeated lookups of an
+ * unknown ID do not each describe the cluster. Callers that miss while another caller is loading
+ * use its result.
+ */
+@Service
+public class BrokerRegistry {
+
+    private final AsyncKafkaAdminPort asyncKafkaAdminPort;
+    private final ClusterSnapshotService snapshotService;
+    private final BrokerRegistryProperties properties;
+    private final Clock clock;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile SnapshotTable snapshotTable;
+    private volatile LoadedTable loadedTable;
+
+    /**
+     * Creates a registry with the given Kafka admin port, snapshot service and properties.
+     *
+     * @param asyncKafkaAdminPort the asynchronous Kafka admin port, used while no snapshot is available
+     * @param snapshotService the cluster metadata snapshot service
+     * @param properties the registry configuration
+     */
+    @Autowired
+    public BrokerRegistry(AsyncKafkaAdminPort asyncKafkaAdminPort, ClusterSnapshotService snapshotService,
+                          BrokerRegistryProperties properties) {
+        this(asyncKafkaAdminPort, snapshotService, properties, Clock.systemUTC());
+    }
+
+    BrokerRegistry(AsyncKafkaAdminPort asyncKafkaAdminPort, ClusterSnapshotService snapshotService,
+                   BrokerRegistryProperties properties, Clock clock) {
+        this.asyncKafkaAdminPort = asyncKafkaAdminPort;
+        this.snapshotService = snapshotService;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Looks up a broker by ID.
+     *
+     * @param brokerId the broker ID
+     * @return the broker
+     * @throws BrokerNotFoundException if the broker is not in the cluster
+     * @throws KafkaAdminException if no snapshot is available and describing the cluster fails
+     */
+    public Broker get(int brokerId) {
+        Optional<ClusterSnapshot> snapshot = snapshotService.current();
+        Broker broker = snapshot.isPresent()
+                ? fromSnapshot(snapshot.get()).get(brokerId)
+                : fromCluster(brokerId);
+        if (broker == null) {
+            throw new BrokerNotFoundException(brokerId);
+        }
+        return broker;
+    }
+
+    /**
+     * Confirms with a fresh {@code describeCluster} call that a broker is still in the cluster.
+     *
+     * <p>Used after a request to the broker failed, to tell a broker that has left the cluster
+     * since the registry was built from one that is failing.
+     *
+     * @param brokerId the broker ID
+     * @throws BrokerNotFoundException if the broker is no longer in the cluster
+     * @throws KafkaAdminException if describing the cluster fails
+     */
+    public void confirm(int brokerId) {
+        boolean present = AsyncResults.await(asyncKafkaAdminPort.listBrokers(), "confirming broker: " + brokerId)
+                .stream()
+                .anyMatch(broker -> broker.id() == brokerId);
+        if (!present) {
+            throw new BrokerNotFoundException(brokerId);
+        }
+    }
+
+    private BrokerTable fromSnapshot(ClusterSnapshot snapshot) {
+        SnapshotTable current = snapshotTable;
+        if (current == null || current.version() != snapshot.version()) {
+            current = new SnapshotTable(snapshot.version(), BrokerTable.of(snapshot.clusterInfo().brokers()));
+            snapshotTable = current;
+        }
+        return current.table();
+    }
+
+    private Broker fromCluster(int brokerId) {
+        LoadedTable current = loadedTable;
+        if (current != null && !isExpired(current)) {
+            Broker broker = current.table().get(brokerId);
+            if (broker != null) {
+                return broker;
+            }
+        }
+
+        loadLock.lock();
+        try {
+            LoadedTable latest = loadedTable;
+            if (latest != null && !isExpired(latest)) {
+                Broker broker = latest.table().get(brokerId);
+                if (broker != null || latest != current
+                        || clock.millis() - latest.loadedAtMs() < properties.minRefreshIntervalMs()) {
+                    return broker;
+                }
+            }
+            long loadedAtMs = clock.millis();
+            BrokerTable table = BrokerTable.of(
+                    AsyncResults.await(asyncKafkaAdminPort.listBrokers(), "loading broker registry"));
+            loadedTable = new LoadedTable(loadedAtMs, table);
+            return table.get(brokerId);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private boolean isExpired(LoadedTable table) {
+        return clock.millis() - table.loadedAtMs() > properties.maxAgeMs();
+    }
+
+    private record SnapshotTable(long version, BrokerTable table) {
+    }
+
+    private record LoadedTable(long loadedAtMs, BrokerTable table) {
+    }
+
+    /**
+     * Open-addressing table of brokers keyed by ID, with linear probing and a load factor of at most one half.
+     */
+    private static final class BrokerTable {
+
+        private final int[] ids;
+        private final Broker[] brokers;
+        private final int mask;
+
+        private BrokerTable(int capacity) {
+            this.ids = new int[capacity];
+            this.brokers = new Broker[capacity];
+            this.mask = capacity - 1;
+        }
+
+        static BrokerTable of(Collection<Broker> brokers) {
+            int capacity = Integer.highestOneBit(Math.max(brokers.size(), 1) * 2 - 1) << 1;
+            BrokerTable table = new BrokerTable(capacity);
+            for (Broker broker : brokers) {
+                int slot = table.slot(broker.id());
+                table.ids[slot] = broker.id();
+                table.brokers[slot] = broker;
+            }
+            return table;
+        }
+
+        Broker get(int brokerId) {
+            return brokers[slot(brokerId)];
+        }
+
+        private int slot(int brokerId) {
+            int hash = brokerId * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (brokers[slot] != null && ids[slot] != brokerId) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
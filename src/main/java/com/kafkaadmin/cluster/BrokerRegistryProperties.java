@@ -0,0 +1,27 @@
+package com.kafkaadmin.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the broker registry.
+ *
+ * <p>Properties are bound from the {@code kafka.admin.broker-registry} prefix in application configuration.
+ * They only apply while no cluster snapshot is available; otherwise brokers are looked up in the snapshot.
+ *
+ * @param maxAgeMs maximum age in milliseconds of brokers loaded directly from the cluster
+ * @param minRefreshIntervalMs minimum time in milliseconds between reloads triggered by a lookup miss
+ */
+@ConfigurationProperties(prefix = "kafka.admin.broker-registry")
+public record BrokerRegistryProperties(
+        long maxAgeMs,
+        long minRefreshIntervalMs
+) {
+    public BrokerRegistryProperties {
+        if (maxAgeMs <= 0) {
+            maxAgeMs = 10000;
+        }
+        if (minRefreshIntervalMs <= 0) {
+            minRefreshIntervalMs = 1000;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.kafkaadmin.cluster;
 
+import com.kafkaadmin.common.ETags;
 import com.kafkaadmin.common.ErrorResponse;
+import com.kafkaadmin.common.Fields;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
+import com.kafkaadmin.snapshot.SnapshotHeaders;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,19 +29,23 @@ import java.util.List;
 public class ClusterController {
 
     private final ClusterService clusterService;
+    private final ClusterSnapshotService snapshotService;
 
     /**
-     * Creates a controller with the given service.
+     * Creates a controller with the given services.
      *
      * @param clusterService the cluster service
+     * @param snapshotService the cluster snapshot service used for freshness headers
      */
-    public ClusterController(ClusterService clusterService) {
+    public ClusterController(ClusterService clusterService, ClusterSnapshotService snapshotService) {
         this.clusterService = clusterService;
+        this.snapshotService = snapshotService;
     }
 
     /**
      * Retrieves cluster information.
      *
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return cluster information including controller and brokers
      */
     @GetMapping
@@ -44,33 +53,38 @@ public class ClusterController {
             description = "Returns information about the Kafka cluster including controller and brokers")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved cluster info"),
+            @ApiResponse(responseCode = "304", description = "Cluster info unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<ClusterInfoResponse> getClusterInfo() {
-        return ResponseEntity.ok(clusterService.getClusterInfo());
+    public ResponseEntity<ClusterInfoResponse> getClusterInfo(WebRequest request) {
+        return SnapshotHeaders.conditional(snapshotService, request, clusterService::getClusterInfo);
     }
 
     /**
      * Lists all brokers in the cluster.
      *
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of brokers sorted by ID
      */
     @GetMapping("/brokers")
     @Operation(summary = "List all brokers", description = "Returns a list of all Kafka brokers in the cluster")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved brokers"),
+            @ApiResponse(responseCode = "304", description = "Brokers unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<BrokerResponse>> listBrokers() {
-        return ResponseEntity.ok(clusterService.listBrokers());
+    public ResponseEntity<List<BrokerResponse>> listBrokers(WebRequest request) {
+        return SnapshotHeaders.conditional(snapshotService, request, clusterService::listBrokers);
     }
 
     /**
      * Retrieves details for a specific broker.
      *
      * @param id the broker ID
+     * @param fields comma-separated response fields to include, or null for all
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return broker details including configuration
      */
     @GetMapping("/brokers/{id}")
@@ -78,6 +92,9 @@ public class ClusterController {
             description = "Returns detailed information about a specific broker including configuration")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved broker details"),
+            @ApiResponse(responseCode = "304", description = "Broker details unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Broker not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -85,14 +102,18 @@ public class ClusterController {
     })
     public ResponseEntity<BrokerDetailResponse> getBroker(
             @Parameter(description = "Broker ID", required = true)
-            @PathVariable int id) {
-        return ResponseEntity.ok(clusterService.getBroker(id));
+            @PathVariable int id,
+            @Parameter(description = "Comma-separated fields to include: id, host, port, rack, isController, configs")
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        return ETags.ok(request, clusterService.getBroker(id, Fields.parse(fields, BrokerDetailResponse.FIELDS)));
     }
 
     /**
      * Describes log directories for a specific broker.
      *
      * @param id the broker ID
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of log directory information
      */
     @GetMapping("/brokers/{id}/log-dirs")
@@ -100,6 +121,7 @@ public class ClusterController {
             description = "Returns log directory information for a specific broker")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved log directories"),
+            @ApiResponse(responseCode = "304", description = "Log directories unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Broker not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -107,13 +129,15 @@ public class ClusterController {
     })
     public ResponseEntity<List<LogDirInfoResponse>> getBrokerLogDirs(
             @Parameter(description = "Broker ID", required = true)
-            @PathVariable int id) {
-        return ResponseEntity.ok(clusterService.getBrokerLogDirs(id));
+            @PathVariable int id,
+            WebRequest request) {
+        return ETags.ok(request, clusterService.getBrokerLogDirs(id));
     }
 
     /**
      * Lists ongoing partition reassignments.
      *
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of partition reassignments
      */
     @GetMapping("/reassignments")
@@ -121,16 +145,18 @@ public class ClusterController {
             description = "Returns a list of ongoing partition reassignments in the cluster")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved reassignments"),
+            @ApiResponse(responseCode = "304", description = "Reassignments unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<PartitionReassignmentResponse>> listPartitionReassignments() {
-        return ResponseEntity.ok(clusterService.listPartitionReassignments());
+    public ResponseEntity<List<PartitionReassignmentResponse>> listPartitionReassignments(WebRequest request) {
+        return ETags.ok(request, clusterService.listPartitionReassignments());
     }
 
     /**
      * Describes Kafka features.
      *
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of Kafka features
      */
     @GetMapping("/features")
@@ -138,16 +164,18 @@ public class ClusterController {
             description = "Returns a list of Kafka features and their version information")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved features"),
+            @ApiResponse(responseCode = "304", description = "Features unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<KafkaFeatureResponse>> describeFeatures() {
-        return ResponseEntity.ok(clusterService.describeFeatures());
+    public ResponseEntity<List<KafkaFeatureResponse>> describeFeatures(WebRequest request) {
+        return ETags.ok(request, clusterService.describeFeatures());
     }
 
     /**
      * Describes the metadata quorum (KRaft mode).
      *
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return quorum information
      */
     @GetMapping("/quorum")
@@ -155,10 +183,11 @@ public class ClusterController {
             description = "Returns metadata quorum information (only available in KRaft mode)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved quorum info"),
+            @ApiResponse(responseCode = "304", description = "Quorum info unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<QuorumInfoResponse> describeMetadataQuorum() {
-        return ResponseEntity.ok(clusterService.describeMetadataQuorum());
+    public ResponseEntity<QuorumInfoResponse> describeMetadataQuorum(WebRequest request) {
+        return ETags.ok(request, clusterService.describeMetadataQuorum());
     }
 }
@@ -1,11 +1,16 @@
 package com.kafkaadmin.cluster;
 
+import com.kafkaadmin.common.Fields;
+import com.kafkaadmin.common.KafkaAdminException;
 import com.kafkaadmin.common.KafkaAdminPort;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
 import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Service providing cluster management operations.
@@ -14,32 +19,52 @@ import java.util.Map;
 public class ClusterService {
 
     private final KafkaAdminPort kafkaAdminPort;
+    private final ClusterSnapshotService snapshotService;
+    private final BrokerRegistry brokerRegistry;
 
     /**
-     * Creates a service with the given Kafka admin port.
+     * Creates a service with the given Kafka admin port, snapshot service and broker registry.
      *
      * @param kafkaAdminPort the Kafka admin port
+     * @param snapshotService the cluster metadata snapshot service
+     * @param brokerRegistry the registry used to look up brokers by ID
      */
-    public ClusterService(KafkaAdminPort kafkaAdminPort) {
+    public ClusterService(KafkaAdminPort kafkaAdminPort, ClusterSnapshotService snapshotService,
+                          BrokerRegistry brokerRegistry) {
         this.kafkaAdminPort = kafkaAdminPort;
+        this.snapshotService = snapshotService;
+        this.brokerRegistry = brokerRegistry;
     }
 
     /**
      * Retrieves cluster information.
      *
+     * <p>Served from the cluster snapshot when one is available.
+     *
      * @return cluster information DTO
      */
     public ClusterInfoResponse getClusterInfo() {
-        ClusterInfo clusterInfo = kafkaAdminPort.getClusterInfo();
+        ClusterInfo clusterInfo = snapshotService.current()
+                .map(ClusterSnapshot::clusterInfo)
+                .orElseGet(kafkaAdminPort::getClusterInfo);
         return ClusterInfoResponse.from(clusterInfo);
     }
 
     /**
      * Lists all brokers in the cluster.
      *
+     * <p>Served from the cluster snapshot when one is available.
+     *
      * @return list of broker DTOs sorted by ID
      */
     public List<BrokerResponse> listBrokers() {
+        Optional<ClusterSnapshot> snapshot = snapshotService.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().clusterInfo().brokers().stream()
+                    .map(BrokerResponse::from)
+                    .toList();
+        }
+
         return kafkaAdminPort.listBrokers().stream()
                 .map(BrokerResponse::from)
                 .sorted(Comparator.comparingInt(BrokerResponse::id))
@@ -49,25 +74,50 @@ public class ClusterService {
     /**
      * Retrieves details for a specific broker.
      *
+     * <p>The broker is looked up in the {@link BrokerRegistry}, so the only broker round trip is
+     * fetching its configuration, and only when {@code configs} is selected. If that fails, the
+     * broker's presence is confirmed with the cluster, so a broker that has left since the
+     * registry was built is reported as not found.
+     *
      * @param brokerId the broker ID
+     * @param fields the response fields to include
      * @return broker detail DTO
      * @throws BrokerNotFoundException if the broker does not exist
      */
-    public BrokerDetailResponse getBroker(int brokerId) {
-        Broker broker = kafkaAdminPort.getBroker(brokerId);
-        Map<String, String> configs = kafkaAdminPort.getBrokerConfigs(brokerId);
-        return BrokerDetailResponse.from(broker, configs);
+    public BrokerDetailResponse getBroker(int brokerId, Fields fields) {
+        Broker broker = brokerRegistry.get(brokerId);
+        Map<String, String> configs = null;
+        if (fields.includes("configs")) {
+            try {
+                configs = kafkaAdminPort.getBrokerConfigs(brokerId);
+            } catch (KafkaAdminException e) {
+                brokerRegistry.confirm(brokerId);
+                throw e;
+            }
+        }
+        return BrokerDetailResponse.from(broker, configs, fields);
     }
 
     /**
      * Describes log directories for a specific broker.
      *
+     * <p>The broker is looked up in the {@link BrokerRegistry} before its log directories are
+     * described. If describing them fails, the broker's presence is confirmed with the cluster.
+     *
      * @param brokerId the broker ID
      * @return list of log directory info DTOs sorted by path
      * @throws BrokerNotFoundException if the broker does not exist
      */
     public List<LogDirInfoResponse> getBrokerLogDirs(int brokerId) {
-        return kafkaAdminPort.describeLogDirs(brokerId).stream()
+        brokerRegistry.get(brokerId);
+        List<LogDirInfo> logDirs;
+        try {
+            logDirs = kafkaAdminPort.describeLogDirs(brokerId);
+        } catch (KafkaAdminException e) {
+            brokerRegistry.confirm(brokerId);
+            throw e;
+        }
+        return logDirs.stream()
                 .map(LogDirInfoResponse::from)
                 .sorted(Comparator.comparing(LogDirInfoResponse::path))
                 .toList();
@@ -0,0 +1,631 @@
+package com.kafkaadmin.common;
+
+import com.kafkaadmin.cluster.Broker;
+import com.kafkaadmin.cluster.BrokerNotFoundException;
+import com.kafkaadmin.cluster.ClusterInfo;
+import com.kafkaadmin.cluster.LogDirInfo;
+import com.kafkaadmin.cluster.LogDirPartition;
+import com.kafkaadmin.consumergroup.ConsumerGroup;
+import com.kafkaadmin.consumergroup.ConsumerGroupMember;
+import com.kafkaadmin.consumergroup.ConsumerGroupNotFoundException;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.topic.ProducerState;
+import com.kafkaadmin.topic.ReplicaLogDirInfo;
+import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicConfigs;
+import com.kafkaadmin.topic.TopicNotFoundException;
+import com.kafkaadmin.topic.TopicPartitionInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.*;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionReplica;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.GroupIdNotFoundException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing {@link AsyncKafkaAdminPort} by composing AdminClient futures.
+ *
+ * <p>No method blocks: each AdminClient {@link KafkaFuture} is bridged to a
+ * {@link CompletableFuture} and dependent requests are chained onto its completion.
+ * Failures are translated into the same domain exceptions the blocking port throws.
+ */
+@Component
+class AsyncKafkaAdminClientAdapter implements AsyncKafkaAdminPort {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncKafkaAdminClientAdapter.class);
+
+    /** Maximum number of topics described in a single describeTopics request. */
+    private static final int DESCRIBE_TOPICS_BATCH_SIZE = 1000;
+
+    /** Maximum number of resources included in a single describeConfigs request. */
+    private static final int DESCRIBE_CONFIGS_BATCH_SIZE = 1000;
+
+    /** Maximum number of groups included in a single describeConsumerGroups request. */
+    private static final int DESCRIBE_GROUPS_BATCH_SIZE = 1000;
+
+    /** Maximum number of groups included in a single listConsumerGroupOffsets request. */
+    private static final int LIST_GROUP_OFFSETS_BATCH_SIZE = 1000;
+
+    /** State reported for a group whose description failed. */
+    private static final String UNKNOWN_GROUP_STATE = "Unknown";
+
+    private final AdminClient adminClient;
+    private final EndOffsetCache endOffsetCache;
+
+    /**
+     * Creates an adapter with the given AdminClient.
+     *
+     * @param adminClient the Kafka AdminClient to use
+     * @param endOffsetCacheProperties the end offset cache configuration
+     * @param meterRegistry the registry for end offset cache metrics
+     */
+    AsyncKafkaAdminClientAdapter(AdminClient adminClient, EndOffsetCacheProperties endOffsetCacheProperties,
+                                 MeterRegistry meterRegistry) {
+        this.adminClient = adminClient;
+        this.endOffsetCache = new EndOffsetCache(this::listEndOffsets, endOffsetCacheProperties.ttlMs(), meterRegistry);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<String>> listTopicNames() {
+        return translate(
+                toCompletableFuture(adminClient.listTopics().names()).thenApply(List::copyOf),
+                cause -> new KafkaAdminException("Failed to list topics", cause));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Topic> getTopic(String topicName) {
+        CompletableFuture<TopicConfigs> configs = getTopicConfigs(List.of(topicName))
+                .thenApply(results -> results.get(0));
+
+        // The configs are fetched alongside the describe, but only looked at once the describe has
+        // succeeded, so the config error of a topic that does not exist is not logged
+        return describeTopic(topicName).thenCombine(configs, (description, topicConfigs) -> {
+            if (topicConfigs.error() != null) {
+                log.warn("Failed to get configs for topic {}: {}", topicName, topicConfigs.error());
+            }
+            return toTopic(description, topicConfigs.configs());
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Topic> getTopicMetadata(String topicName) {
+        return describeTopic(topicName).thenApply(description -> toTopic(description, Collections.emptyMap()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Boolean> topicExists(String topicName) {
+        return describeTopic(topicName).handle((description, ex) -> {
+            if (ex == null) {
+                return true;
+            }
+            Throwable cause = AsyncResults.unwrap(ex);
+            if (cause instanceof TopicNotFoundException) {
+                return false;
+            }
+            throw (KafkaAdminException) cause;
+        });
+    }
+
+    private CompletableFuture<TopicDescription> describeTopic(String topicName) {
+        return translate(
+                toCompletableFuture(adminClient.describeTopics(List.of(topicName)).topicNameValues().get(topicName)),
+                cause -> cause instanceof UnknownTopicOrPartitionException
+                        ? new TopicNotFoundException(topicName)
+                        : new KafkaAdminException("Failed to describe topic: " + topicName, cause));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<Topic>> describeTopics(Collection<String> topicNames) {
+        List<CompletableFuture<Topic>> topics = new ArrayList<>(topicNames.size());
+        for (List<String> batch : batches(topicNames, DESCRIBE_TOPICS_BATCH_SIZE)) {
+            Map<String, KafkaFuture<TopicDescription>> descriptions =
+                    adminClient.describeTopics(batch).topicNameValues();
+
+            for (String topicName : batch) {
+                topics.add(toCompletableFuture(descriptions.get(topicName)).handle((description, ex) -> {
+                    if (ex == null) {
+                        return toTopic(description, Collections.emptyMap());
+                    }
+                    Throwable cause = AsyncResults.unwrap(ex);
+                    if (cause instanceof UnknownTopicOrPartitionException) {
+                        log.debug("Topic {} was deleted before it could be described", topicName);
+                        return null;
+                    }
+                    throw new KafkaAdminException("Failed to describe topic: " + topicName, cause);
+                }));
+            }
+        }
+        return allOf(topics).thenApply(results -> results.stream()
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<TopicConfigs>> getTopicConfigs(Collection<String> topicNames) {
+        List<CompletableFuture<TopicConfigs>> results = new ArrayList<>(topicNames.size());
+        for (List<String> batch : batches(topicNames, DESCRIBE_CONFIGS_BATCH_SIZE)) {
+            List<ConfigResource> resources = batch.stream()
+                    .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                    .toList();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+            for (ConfigResource resource : resources) {
+                results.add(toCompletableFuture(configs.get(resource)).handle((config, ex) -> {
+                    if (ex == null) {
+                        return new TopicConfigs(resource.name(), nonDefaultConfigs(config, false), null);
+                    }
+                    Throwable cause = AsyncResults.unwrap(ex);
+                    String error = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+                    return new TopicConfigs(resource.name(), Collections.emptyMap(), error);
+                }));
+            }
+        }
+        return allOf(results);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<TopicPartitionInfo>> getTopicPartitions(String topicName) {
+        return getTopicMetadata(topicName).thenApply(Topic::partitions);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ProducerState>> describeProducers(String topicName, int partition) {
+        TopicPartition tp = new TopicPartition(topicName, partition);
+
+        // A missing topic fails the request itself, so no separate existence check is needed
+        return translate(
+                toCompletableFuture(adminClient.describeProducers(List.of(tp)).partitionResult(tp)),
+                cause -> cause instanceof UnknownTopicOrPartitionException
+                        ? new TopicNotFoundException(topicName)
+                        : new KafkaAdminException(
+                                "Failed to describe producers: " + topicName + "-" + partition, cause))
+                .thenApply(partitionState -> partitionState.activeProducers().stream()
+                        .map(p -> new ProducerState(
+                                p.producerId(),
+                                p.producerEpoch(),
+                                p.lastSequence(),
+                                p.lastTimestamp(),
+                                p.coordinatorEpoch().orElse(-1),
+                                p.currentTransactionStartOffset().orElse(-1L)))
+                        .toList());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ReplicaLogDirInfo>> describeReplicaLogDirs(String topicName) {
+        return getTopicMetadata(topicName).thenCompose(topic -> {
+            // Get all replicas for this topic
+            List<TopicPartitionReplica> replicas = new ArrayList<>();
+            for (TopicPartitionInfo partition : topic.partitions()) {
+                for (int brokerId : partition.replicas()) {
+                    replicas.add(new TopicPartitionReplica(topicName, partition.partition(), brokerId));
+                }
+            }
+
+            if (replicas.isEmpty()) {
+                return CompletableFuture.completedFuture(Collections.<ReplicaLogDirInfo>emptyList());
+            }
+
+            return translate(
+                    toCompletableFuture(adminClient.describeReplicaLogDirs(replicas).all()),
+                    cause -> new KafkaAdminException("Failed to describe replica log dirs: " + topicName, cause))
+                    .thenApply(logDirInfos -> logDirInfos.entrySet().stream()
+                            .map(entry -> {
+                                TopicPartitionReplica replica = entry.getKey();
+                                DescribeReplicaLogDirsResult.ReplicaLogDirInfo info = entry.getValue();
+                                return new ReplicaLogDirInfo(
+                                        replica.brokerId(),
+                                        replica.partition(),
+                                        info.getCurrentReplicaLogDir(),
+                                        info.getFutureReplicaLogDir(),
+                                        info.getCurrentReplicaOffsetLag() >= 0 ? 0 : -1,
+                                        info.getCurrentReplicaOffsetLag(),
+                                        info.getFutureReplicaOffsetLag() >= 0 ? 0 : -1,
+                                        info.getFutureReplicaOffsetLag());
+                            })
+                            .toList());
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<String>> listConsumerGroupIds() {
+        return translate(
+                toCompletableFuture(adminClient.listGroups(ListGroupsOptions.forConsumerGroups()).all())
+                        .thenApply(listings -> listings.stream()
+                                .map(GroupListing::groupId)
+                                .toList()),
+                cause -> new KafkaAdminException("Failed to list consumer groups", cause));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<ConsumerGroup> getConsumerGroup(String groupId) {
+        return translate(
+                toCompletableFuture(adminClient.describeConsumerGroups(List.of(groupId)).describedGroups().get(groupId)),
+                cause -> cause instanceof GroupIdNotFoundException
+                        ? new ConsumerGroupNotFoundException(groupId)
+                        : new KafkaAdminException("Failed to describe consumer group: " + groupId, cause))
+                .thenApply(description -> toConsumerGroup(groupId, description));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ConsumerGroup>> describeConsumerGroups(Collection<String> groupIds) {
+        List<CompletableFuture<ConsumerGroup>> groups = new ArrayList<>(groupIds.size());
+        for (List<String> batch : batches(groupIds, DESCRIBE_GROUPS_BATCH_SIZE)) {
+            // The AdminClient looks up the coordinators of the whole batch at once and sends
+            // one DescribeGroups request per coordinator
+            Map<String, KafkaFuture<ConsumerGroupDescription>> descriptions =
+                    adminClient.describeConsumerGroups(batch).describedGroups();
+
+            for (String groupId : batch) {
+                groups.add(toCompletableFuture(descriptions.get(groupId)).handle((description, ex) -> {
+                    if (ex == null) {
+                        return toConsumerGroup(groupId, description);
+                    }
+                    Throwable cause = AsyncResults.unwrap(ex);
+                    if (cause instanceof GroupIdNotFoundException) {
+                        log.debug("Consumer group {} was deleted before it could be described", groupId);
+                        return null;
+                    }
+                    log.warn("Failed to describe consumer group {}: {}", groupId, cause.toString());
+                    return new ConsumerGroup(groupId, UNKNOWN_GROUP_STATE, null, -1, List.of());
+                }));
+            }
+        }
+        return allOf(groups).thenApply(results -> results.stream()
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    private static ConsumerGroup toConsumerGroup(String groupId, ConsumerGroupDescription description) {
+        List<ConsumerGroupMember> members = description.members().stream()
+                .map(m -> new ConsumerGroupMember(
+                        m.consumerId(),
+                        m.clientId(),
+                        m.host(),
+                        TopicAssignment.of(m.assignment().topicPartitions())))
+                .toList();
+
+        return new ConsumerGroup(
+                groupId,
+                description.groupState().toString(),
+                description.partitionAssignor(),
+                description.coordinator() != null ? description.coordinator().id() : -1,
+                members);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ConsumerGroupOffset>> getConsumerGroupOffsets(String groupId) {
+        Function<Throwable, KafkaAdminException> failure =
+                cause -> new KafkaAdminException("Failed to get consumer group offsets: " + groupId, cause);
+
+        // The existence check runs alongside the offset fetch, and end offsets are looked up as
+        // soon as committed offsets arrive, so the lookup takes two round trips instead of three
+        CompletableFuture<ConsumerGroup> group = getConsumerGroup(groupId);
+        CompletableFuture<List<ConsumerGroupOffset>> offsets = translate(
+                toCompletableFuture(adminClient.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata()),
+                cause -> cause instanceof GroupIdNotFoundException
+                        ? new ConsumerGroupNotFoundException(groupId)
+                        : failure.apply(cause))
+                .thenCompose(committed -> {
+                    if (committed.isEmpty()) {
+                        return CompletableFuture.completedFuture(Collections.<ConsumerGroupOffset>emptyList());
+                    }
+
+                    // Get end offsets for lag calculation
+                    return translate(endOffsetCache.endOffsets(committed.keySet()), failure)
+                            .thenApply(endOffsets -> toConsumerGroupOffsets(committed, endOffsets));
+                });
+
+        // A missing group is reported even if the offset fetch failed for another reason
+        return group.thenCombine(offsets, (ignored, result) -> result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Map<String, List<ConsumerGroupOffset>>> getConsumerGroupsOffsets(
+            Collection<String> groupIds) {
+        Map<String, CompletableFuture<Map<TopicPartition, OffsetAndMetadata>>> committed = new LinkedHashMap<>();
+        for (List<String> batch : batches(new LinkedHashSet<>(groupIds), LIST_GROUP_OFFSETS_BATCH_SIZE)) {
+            Map<String, ListConsumerGroupOffsetsSpec> specs = new HashMap<>();
+            batch.forEach(groupId -> specs.put(groupId, new ListConsumerGroupOffsetsSpec()));
+            ListConsumerGroupOffsetsResult result = adminClient.listConsumerGroupOffsets(specs);
+
+            for (String groupId : batch) {
+                committed.put(groupId, toCompletableFuture(result.partitionsToOffsetAndMetadata(groupId))
+                        .handle((offsets, ex) -> {
+                            if (ex == null) {
+                                return offsets;
+                            }
+                            Throwable cause = AsyncResults.unwrap(ex);
+                            if (cause instanceof GroupIdNotFoundException) {
+                                log.debug("Consumer group {} was deleted before its offsets were fetched", groupId);
+                            } else {
+                                log.warn("Failed to get offsets for consumer group {}: {}", groupId, cause.toString());
+                            }
+                            return null;
+                        }));
+            }
+        }
+
+        return CompletableFuture.allOf(committed.values().toArray(CompletableFuture[]::new))
+                .thenCompose(ignored -> {
+                    // One end offset lookup for every partition committed by any of the groups
+                    Set<TopicPartition> partitions = new HashSet<>();
+                    committed.values().stream()
+                            .map(CompletableFuture::join)
+                            .filter(Objects::nonNull)
+                            .forEach(offsets -> partitions.addAll(offsets.keySet()));
+                    return translate(endOffsetCache.endOffsets(partitions),
+                            cause -> new KafkaAdminException("Failed to get end offsets for consumer groups", cause));
+                })
+                .thenApply(endOffsets -> {
+                    Map<String, List<ConsumerGroupOffset>> results = new LinkedHashMap<>();
+                    committed.forEach((groupId, offsets) -> {
+                        if (offsets.join() == null) {
+                            return;
+                        }
+                        List<ConsumerGroupOffset> groupOffsets = toConsumerGroupOffsets(offsets.join(), endOffsets);
+                        // A group none of whose committed partitions has an end offset cannot be reported
+                        if (!groupOffsets.isEmpty() || offsets.join().values().stream().noneMatch(Objects::nonNull)) {
+                            results.put(groupId, groupOffsets);
+                        }
+                    });
+                    return Collections.unmodifiableMap(results);
+                });
+    }
+
+    /**
+     * Lists the end offsets of the given partitions, omitting partitions whose lookup failed.
+     *
+     * <p>Each partition's result is read on its own, so a deleted topic or an offline leader
+     * only drops the affected partitions. The lookup fails only if no partition succeeded.
+     */
+    private CompletableFuture<Map<TopicPartition, Long>> listEndOffsets(Set<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+        partitions.forEach(tp -> latest.put(tp, OffsetSpec.latest()));
+        ListOffsetsResult result = adminClient.listOffsets(latest);
+
+        Map<TopicPartition, CompletableFuture<ListOffsetsResult.ListOffsetsResultInfo>> results = new HashMap<>();
+        partitions.forEach(tp -> results.put(tp, toCompletableFuture(result.partitionResult(tp))));
+        return CompletableFuture.allOf(results.values().stream()
+                        .map(info -> info.exceptionally(ex -> null))
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<TopicPartition, Long> endOffsets = new HashMap<>(results.size());
+                    Throwable failure = null;
+                    for (Map.Entry<TopicPartition, CompletableFuture<ListOffsetsResult.ListOffsetsResultInfo>> entry
+                            : results.entrySet()) {
+                        if (!entry.getValue().isCompletedExceptionally()) {
+                            endOffsets.put(entry.getKey(), entry.getValue().join().offset());
+                            continue;
+                        }
+                        failure = entry.getValue().exceptionNow();
+                        if (failure instanceof UnknownTopicOrPartitionException) {
+                            log.debug("Partition {} was deleted before its end offset was fetched", entry.getKey());
+                        } else {
+                            log.warn("Failed to get end offset for partition {}: {}", entry.getKey(), failure.toString());
+                        }
+                    }
+                    if (endOffsets.isEmpty() && failure != null) {
+                        throw new KafkaAdminException("Failed to list end offsets", failure);
+                    }
+                    return endOffsets;
+                });
+    }
+
+    private static List<ConsumerGroupOffset> toConsumerGroupOffsets(
+            Map<TopicPartition, OffsetAndMetadata> offsets,
+            Map<TopicPartition, Long> endOffsets) {
+        // Partitions without a committed offset or without an end offset are left out
+        return offsets.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && endOffsets.containsKey(entry.getKey()))
+                .map(entry -> {
+                    TopicPartition tp = entry.getKey();
+                    long currentOffset = entry.getValue().offset();
+                    long endOffset = endOffsets.get(tp);
+                    long lag = Math.max(0, endOffset - currentOffset);
+
+                    return new ConsumerGroupOffset(
+                            tp.topic(),
+                            tp.partition(),
+                            currentOffset,
+                            endOffset,
+                            lag);
+                })
+                .toList();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<ClusterInfo> getClusterInfo() {
+        DescribeClusterResult result = adminClient.describeCluster();
+        CompletableFuture<String> clusterId = toCompletableFuture(result.clusterId());
+        CompletableFuture<Node> controller = toCompletableFuture(result.controller());
+        CompletableFuture<Collection<Node>> nodes = toCompletableFuture(result.nodes());
+
+        return translate(
+                CompletableFuture.allOf(clusterId, controller, nodes).thenApply(ignored -> {
+                    int controllerId = controller.join().id();
+                    List<Broker> brokers = nodes.join().stream()
+                            .map(node -> new Broker(
+                                    node.id(),
+                                    node.host(),
+                                    node.port(),
+                                    node.rack(),
+                                    node.id() == controllerId))
+                            .toList();
+
+                    return new ClusterInfo(clusterId.join(), controllerId, brokers);
+                }),
+                cause -> new KafkaAdminException("Failed to get cluster info", cause));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<Broker>> listBrokers() {
+        return getClusterInfo().thenApply(ClusterInfo::brokers);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Broker> getBroker(int brokerId) {
+        return listBrokers().thenApply(brokers -> brokers.stream()
+                .filter(b -> b.id() == brokerId)
+                .findFirst()
+                .orElseThrow(() -> new BrokerNotFoundException(brokerId)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Map<String, String>> getBrokerConfigs(int brokerId) {
+        ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
+
+        return translate(
+                toCompletableFuture(adminClient.describeConfigs(List.of(resource)).all()),
+                cause -> new KafkaAdminException("Failed to get broker configs: " + brokerId, cause))
+                .thenApply(configs -> nonDefaultConfigs(configs.get(resource), true));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<LogDirInfo>> describeLogDirs(int brokerId) {
+        return translate(
+                toCompletableFuture(adminClient.describeLogDirs(List.of(brokerId)).allDescriptions()),
+                cause -> new KafkaAdminException("Failed to describe log dirs: " + brokerId, cause))
+                .thenApply(logDirs -> {
+                    Map<String, LogDirDescription> brokerLogDirs = logDirs.get(brokerId);
+
+                    if (brokerLogDirs == null) {
+                        return Collections.<LogDirInfo>emptyList();
+                    }
+
+                    return brokerLogDirs.entrySet().stream()
+                            .map(entry -> {
+                                String path = entry.getKey();
+                                LogDirDescription desc = entry.getValue();
+
+                                String error = desc.error() != null ? desc.error().getMessage() : null;
+                                long totalBytes = desc.totalBytes().orElse(-1L);
+                                long usableBytes = desc.usableBytes().orElse(-1L);
+
+                                List<LogDirPartition> partitions = desc.replicaInfos().entrySet().stream()
+                                        .map(replicaEntry -> {
+                                            TopicPartition tp = replicaEntry.getKey();
+                                            ReplicaInfo replicaInfo = replicaEntry.getValue();
+                                            return new LogDirPartition(
+                                                    tp.topic(),
+                                                    tp.partition(),
+                                                    replicaInfo.size(),
+                                                    replicaInfo.offsetLag(),
+                                                    replicaInfo.isFuture());
+                                        })
+                                        .toList();
+
+                                return new LogDirInfo(path, error, totalBytes, usableBytes, partitions);
+                            })
+                            .toList();
+                });
+    }
+
+    private static Topic toTopic(TopicDescription description, Map<String, String> configs) {
+        List<TopicPartitionInfo> partitions = description.partitions().stream()
+                .map(p -> new TopicPartitionInfo(
+                        p.partition(),
+                        p.leader() != null ? p.leader().id() : -1,
+                        p.replicas().stream().map(Node::id).toList(),
+                        p.isr().stream().map(Node::id).toList()))
+                .toList();
+
+        return new Topic(
+                description.name(),
+                description.partitions().size(),
+                description.partitions().isEmpty() ? 0 :
+                        description.partitions().get(0).replicas().size(),
+                configs,
+                partitions,
+                description.isInternal());
+    }
+
+    private static Map<String, String> nonDefaultConfigs(Config config, boolean excludeSensitive) {
+        return config.entries().stream()
+                .filter(entry -> !entry.isDefault() && !(excludeSensitive && entry.isSensitive()))
+                .collect(Collectors.toUnmodifiableMap(
+                        ConfigEntry::name,
+                        ConfigEntry::value));
+    }
+
+    private static <T> List<List<T>> batches(Collection<T> items, int batchSize) {
+        List<T> all = new ArrayList<>(items);
+        List<List<T>> batches = new ArrayList<>((all.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < all.size(); from += batchSize) {
+            batches.add(all.subList(from, Math.min(from + batchSize, all.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Bridges a {@link KafkaFuture} to a plain {@link CompletableFuture} that callers may freely compose.
+     */
+    private static <T> CompletableFuture<T> toCompletableFuture(KafkaFuture<T> kafkaFuture) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        kafkaFuture.whenComplete((value, ex) -> {
+            if (ex != null) {
+                future.completeExceptionally(AsyncResults.unwrap(ex));
+            } else {
+                future.complete(value);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Completes with the results of all futures in order, or fails with the first failure.
+     */
+    private static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .toList());
+    }
+
+    /**
+     * Translates failures that are not already admin exceptions using the given translator.
+     */
+    private static <T> CompletableFuture<T> translate(
+            CompletableFuture<T> future, Function<Throwable, ? extends KafkaAdminException> translator) {
+        return future.handle((value, ex) -> {
+            if (ex == null) {
+                return value;
+            }
+            Throwable cause = AsyncResults.unwrap(ex);
+            if (cause instanceof KafkaAdminException kafkaAdminException) {
+                throw kafkaAdminException;
+            }
+            throw translator.apply(cause);
+        });
+    }
+}
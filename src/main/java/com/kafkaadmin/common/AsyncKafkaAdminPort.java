@@ -0,0 +1,193 @@
+package com.kafkaadmin.common;
+
+import com.kafkaadmin.cluster.Broker;
+import com.kafkaadmin.cluster.ClusterInfo;
+import com.kafkaadmin.cluster.LogDirInfo;
+import com.kafkaadmin.consumergroup.ConsumerGroup;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.topic.ProducerState;
+import com.kafkaadmin.topic.ReplicaLogDirInfo;
+import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicConfigs;
+import com.kafkaadmin.topic.TopicPartitionInfo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link KafkaAdminPort} for operations that involve
+ * one or more AdminClient round trips.
+ *
+ * <p>Each operation returns immediately with a future that completes when the underlying
+ * AdminClient requests finish, so multi-step operations chain without holding a thread
+ * per round trip and callers can issue independent operations concurrently. Futures
+ * complete exceptionally with the same exceptions documented on {@link KafkaAdminPort}.
+ * Continuations may run on the AdminClient network thread and must not block.
+ */
+public interface AsyncKafkaAdminPort {
+
+    // Topic operations
+
+    /**
+     * Lists all topic names in the Kafka cluster.
+     *
+     * @return future completing with the list of topic names
+     */
+    CompletableFuture<List<String>> listTopicNames();
+
+    /**
+     * Retrieves detailed information about a topic.
+     *
+     * @param topicName the name of the topic
+     * @return future completing with topic details including partitions and configuration
+     */
+    CompletableFuture<Topic> getTopic(String topicName);
+
+    /**
+     * Retrieves partition metadata for a topic without its configuration.
+     *
+     * @param topicName the name of the topic
+     * @return future completing with topic details including partitions, with empty configuration
+     */
+    CompletableFuture<Topic> getTopicMetadata(String topicName);
+
+    /**
+     * Checks whether a topic exists.
+     *
+     * @param topicName the name of the topic
+     * @return future completing with true if the topic exists
+     */
+    CompletableFuture<Boolean> topicExists(String topicName);
+
+    /**
+     * Retrieves metadata for multiple topics without their configuration.
+     *
+     * @param topicNames the names of the topics
+     * @return future completing with topic details, omitting topics that no longer exist
+     */
+    CompletableFuture<List<Topic>> describeTopics(Collection<String> topicNames);
+
+    /**
+     * Retrieves non-default configuration for multiple topics.
+     *
+     * @param topicNames the names of the topics
+     * @return future completing with the configuration lookup result per topic
+     */
+    CompletableFuture<List<TopicConfigs>> getTopicConfigs(Collection<String> topicNames);
+
+    /**
+     * Retrieves partition information for a topic.
+     *
+     * @param topicName the name of the topic
+     * @return future completing with the list of partition information
+     */
+    CompletableFuture<List<TopicPartitionInfo>> getTopicPartitions(String topicName);
+
+    /**
+     * Describes producers on a specific topic partition.
+     *
+     * @param topicName the name of the topic
+     * @param partition the partition number
+     * @return future completing with the list of producer states
+     */
+    CompletableFuture<List<ProducerState>> describeProducers(String topicName, int partition);
+
+    /**
+     * Describes replica log directories for a topic.
+     *
+     * @param topicName the name of the topic
+     * @return future completing with the list of replica log directory information
+     */
+    CompletableFuture<List<ReplicaLogDirInfo>> describeReplicaLogDirs(String topicName);
+
+    // Consumer group operations
+
+    /**
+     * Lists all consumer group IDs in the Kafka cluster.
+     *
+     * @return future completing with the list of consumer group IDs
+     */
+    CompletableFuture<List<String>> listConsumerGroupIds();
+
+    /**
+     * Retrieves detailed information about a consumer group.
+     *
+     * @param groupId the consumer group ID
+     * @return future completing with consumer group details including members
+     */
+    CompletableFuture<ConsumerGroup> getConsumerGroup(String groupId);
+
+    /**
+     * Retrieves detailed information about multiple consumer groups.
+     *
+     * @param groupIds the consumer group IDs
+     * @return future completing with consumer group details, omitting groups that no longer exist
+     *         and reporting other per-group failures as state {@code Unknown}
+     */
+    CompletableFuture<List<ConsumerGroup>> describeConsumerGroups(Collection<String> groupIds);
+
+    /**
+     * Retrieves offset information for a consumer group.
+     *
+     * @param groupId the consumer group ID
+     * @return future completing with offset information per topic-partition, omitting partitions
+     *         whose end offset cannot be fetched
+     */
+    CompletableFuture<List<ConsumerGroupOffset>> getConsumerGroupOffsets(String groupId);
+
+    /**
+     * Retrieves offset information for multiple consumer groups.
+     *
+     * @param groupIds the consumer group IDs
+     * @return future completing with offset information keyed by group ID, omitting groups whose
+     *         committed offsets cannot be fetched, partitions whose end offset cannot be fetched,
+     *         and groups left with no partitions as a result
+     */
+    CompletableFuture<Map<String, List<ConsumerGroupOffset>>> getConsumerGroupsOffsets(Collection<String> groupIds);
+
+    // Cluster operations
+
+    /**
+     * Retrieves cluster information including controller and brokers.
+     *
+     * @return future completing with cluster information
+     */
+    CompletableFuture<ClusterInfo> getClusterInfo();
+
+    /**
+     * Lists all brokers in the Kafka cluster.
+     *
+     * @return future completing with the list of brokers
+     */
+    CompletableFuture<List<Broker>> listBrokers();
+
+    /**
+     * Retrieves information about a specific broker.
+     *
+     * @param brokerId the broker ID
+     * @return future completing with broker information
+     */
+    CompletableFuture<Broker> getBroker(int brokerId);
+
+    /**
+     * Retrieves non-default configuration for a broker.
+     *
+     * <p>Does not check that the broker exists; callers look it up first.
+     *
+     * @param brokerId the broker ID
+     * @return future completing with the map of configuration key-value pairs
+     */
+    CompletableFuture<Map<String, String>> getBrokerConfigs(int brokerId);
+
+    /**
+     * Describes log directories for a broker.
+     *
+     * <p>Does not check that the broker exists; callers look it up first.
+     *
+     * @param brokerId the broker ID
+     * @return future completing with the list of log directory information
+     */
+    CompletableFuture<List<LogDirInfo>> describeLogDirs(int brokerId);
+}
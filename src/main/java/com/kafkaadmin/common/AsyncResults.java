@@ -0,0 +1,53 @@
+package com.kafkaadmin.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Helpers for consuming futures returned by {@link AsyncKafkaAdminPort} from blocking code.
+ */
+public final class AsyncResults {
+
+    private AsyncResults() {
+    }
+
+    /**
+     * Waits for a future and returns its result, rethrowing admin exceptions unchanged.
+     *
+     * @param future the future to wait for
+     * @param operation description of the operation used in error messages, e.g. "listing topics"
+     * @param <T> the result type
+     * @return the result of the future
+     * @throws KafkaAdminException if the operation failed or the thread was interrupted
+     */
+    public static <T> T await(CompletableFuture<T> future, String operation) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaAdminException("Interrupted while " + operation, e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof KafkaAdminException kafkaAdminException) {
+                throw kafkaAdminException;
+            }
+            throw new KafkaAdminException("Failed while " + operation, cause);
+        }
+    }
+
+    /**
+     * Strips the {@link CompletionException} and {@link ExecutionException} wrappers added by futures.
+     *
+     * @param throwable the throwable to unwrap
+     * @return the underlying cause
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
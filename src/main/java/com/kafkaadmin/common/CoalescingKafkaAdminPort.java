@@ -0,0 +1,330 @@
+package com.kafkaadmin.common;
+
+import com.kafkaadmin.acl.Acl;
+import com.kafkaadmin.cluster.*;
+import com.kafkaadmin.consumergroup.ConsumerGroup;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.quota.ClientQuota;
+import com.kafkaadmin.sharegroup.ShareGroup;
+import com.kafkaadmin.token.DelegationToken;
+import com.kafkaadmin.topic.ProducerState;
+import com.kafkaadmin.topic.ReplicaLogDirInfo;
+import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicConfigs;
+import com.kafkaadmin.topic.TopicPartitionInfo;
+import com.kafkaadmin.transaction.TransactionDetail;
+import com.kafkaadmin.transaction.TransactionListing;
+import com.kafkaadmin.user.UserScramCredential;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Decorator for {@link KafkaAdminPort} that coalesces concurrent identical calls.
+ *
+ * <p>When a call arrives while an identical call (same operation and arguments) is still
+ * in flight, it waits for that call and receives the same result or exception instead of
+ * issuing its own AdminClient requests. Results are not cached: once a call completes,
+ * the next one goes to Kafka again. Every caller receives the same result, so collections
+ * are handed out as unmodifiable views and no caller can change what the others see. The
+ * adapter builds the collections nested inside results as unmodifiable too. Collection
+ * arguments are copied into the call key, so a caller changing its argument afterwards does
+ * not change the key of the in-flight call.
+ *
+ * <p>Each caller is counted in {@code kafka.admin.calls}, tagged with the operation and
+ * whether it was {@code executed} or {@code coalesced}.
+ */
+@Primary
+@Component
+class CoalescingKafkaAdminPort implements KafkaAdminPort {
+
+    static final String CALLS_METRIC = "kafka.admin.calls";
+
+    private final KafkaAdminPort delegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a coalescing decorator around the AdminClient adapter.
+     *
+     * @param delegate the adapter performing the actual AdminClient calls
+     * @param meterRegistry the registry for coalescing metrics
+     */
+    @Autowired
+    CoalescingKafkaAdminPort(KafkaAdminClientAdapter delegate, MeterRegistry meterRegistry) {
+        this((KafkaAdminPort) delegate, meterRegistry);
+    }
+
+    CoalescingKafkaAdminPort(KafkaAdminPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> listTopicNames() {
+        return coalesce(CallKey.of("listTopicNames"), delegate::listTopicNames);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Topic getTopic(String topicName) {
+        return coalesce(CallKey.of("getTopic", topicName), () -> delegate.getTopic(topicName));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Topic getTopicMetadata(String topicName) {
+        return coalesce(CallKey.of("getTopicMetadata", topicName), () -> delegate.getTopicMetadata(topicName));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean topicExists(String topicName) {
+        return coalesce(CallKey.of("topicExists", topicName), () -> delegate.topicExists(topicName));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Topic> describeTopics(Collection<String> topicNames) {
+        return coalesce(CallKey.of("describeTopics", topicNames), () -> delegate.describeTopics(topicNames));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<TopicConfigs> getTopicConfigs(Collection<String> topicNames) {
+        return coalesce(CallKey.of("getTopicConfigs", topicNames), () -> delegate.getTopicConfigs(topicNames));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<TopicPartitionInfo> getTopicPartitions(String topicName) {
+        return coalesce(CallKey.of("getTopicPartitions", topicName), () -> delegate.getTopicPartitions(topicName));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ProducerState> describeProducers(String topicName, int partition) {
+        return coalesce(CallKey.of("describeProducers", topicName, partition),
+                () -> delegate.describeProducers(topicName, partition));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ReplicaLogDirInfo> describeReplicaLogDirs(String topicName) {
+        return coalesce(CallKey.of("describeReplicaLogDirs", topicName),
+                () -> delegate.describeReplicaLogDirs(topicName));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> listConsumerGroupIds() {
+        return coalesce(CallKey.of("listConsumerGroupIds"), delegate::listConsumerGroupIds);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConsumerGroup getConsumerGroup(String groupId) {
+        return coalesce(CallKey.of("getConsumerGroup", groupId), () -> delegate.getConsumerGroup(groupId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ConsumerGroup> describeConsumerGroups(Collection<String> groupIds) {
+        return coalesce(CallKey.of("describeConsumerGroups", groupIds),
+                () -> delegate.describeConsumerGroups(groupIds));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ConsumerGroupOffset> getConsumerGroupOffsets(String groupId) {
+        return coalesce(CallKey.of("getConsumerGroupOffsets", groupId),
+                () -> delegate.getConsumerGroupOffsets(groupId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, List<ConsumerGroupOffset>> getConsumerGroupsOffsets(Collection<String> groupIds) {
+        return coalesce(CallKey.of("getConsumerGroupsOffsets", groupIds),
+                () -> delegate.getConsumerGroupsOffsets(groupIds));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ClusterInfo getClusterInfo() {
+        return coalesce(CallKey.of("getClusterInfo"), delegate::getClusterInfo);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Broker> listBrokers() {
+        return coalesce(CallKey.of("listBrokers"), delegate::listBrokers);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Broker getBroker(int brokerId) {
+        return coalesce(CallKey.of("getBroker", brokerId), () -> delegate.getBroker(brokerId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, String> getBrokerConfigs(int brokerId) {
+        return coalesce(CallKey.of("getBrokerConfigs", brokerId), () -> delegate.getBrokerConfigs(brokerId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<LogDirInfo> describeLogDirs(int brokerId) {
+        return coalesce(CallKey.of("describeLogDirs", brokerId), () -> delegate.describeLogDirs(brokerId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<PartitionReassignment> listPartitionReassignments() {
+        return coalesce(CallKey.of("listPartitionReassignments"), delegate::listPartitionReassignments);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<KafkaFeature> describeFeatures() {
+        return coalesce(CallKey.of("describeFeatures"), delegate::describeFeatures);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public QuorumInfo describeMetadataQuorum() {
+        return coalesce(CallKey.of("describeMetadataQuorum"), delegate::describeMetadataQuorum);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Acl> describeAcls() {
+        return coalesce(CallKey.of("describeAcls"), delegate::describeAcls);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<TransactionListing> listTransactions() {
+        return coalesce(CallKey.of("listTransactions"), delegate::listTransactions);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TransactionDetail describeTransaction(String transactionalId) {
+        return coalesce(CallKey.of("describeTransaction", transactionalId),
+                () -> delegate.describeTransaction(transactionalId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ClientQuota> describeClientQuotas() {
+        return coalesce(CallKey.of("describeClientQuotas"), delegate::describeClientQuotas);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<DelegationToken> describeDelegationTokens() {
+        return coalesce(CallKey.of("describeDelegationTokens"), delegate::describeDelegationTokens);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> listShareGroupIds() {
+        return coalesce(CallKey.of("listShareGroupIds"), delegate::listShareGroupIds);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ShareGroup describeShareGroup(String groupId) {
+        return coalesce(CallKey.of("describeShareGroup", groupId), () -> delegate.describeShareGroup(groupId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<UserScramCredential> describeUserScramCredentials() {
+        return coalesce(CallKey.of("describeUserScramCredentials"), delegate::describeUserScramCredentials);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(CallKey key, Supplier<T> call) {
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            counter(key.operation(), "coalesced").increment();
+            return (T) join(existing, key.operation());
+        }
+
+        counter(key.operation(), "executed").increment();
+        try {
+            T result = unmodifiable(call.get());
+            pending.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmodifiable(T result) {
+        if (result instanceof List<?> list) {
+            return (T) Collections.unmodifiableList(list);
+        }
+        if (result instanceof Map<?, ?> map) {
+            return (T) Collections.unmodifiableMap(map);
+        }
+        if (result instanceof Set<?> set) {
+            return (T) Collections.unmodifiableSet(set);
+        }
+        return result;
+    }
+
+    private static Object join(CompletableFuture<Object> existing, String operation) {
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            if (AsyncResults.unwrap(e) instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new KafkaAdminException("Failed while waiting for in-flight " + operation, e.getCause());
+        }
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return Counter.builder(CALLS_METRIC)
+                .description("Kafka admin port calls, by whether they ran or joined an identical in-flight call")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Identifies a call by operation name and arguments.
+     */
+    private record CallKey(String operation, List<Object> arguments) {
+
+        static CallKey of(String operation, Object... arguments) {
+            List<Object> copied = new ArrayList<>(arguments.length);
+            for (Object argument : arguments) {
+                copied.add(argument instanceof Collection<?> collection ? List.copyOf(collection) : argument);
+            }
+            return new CallKey(operation, copied);
+        }
+    }
+}
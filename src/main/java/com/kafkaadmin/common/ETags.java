@@ -0,0 +1,302 @@
+package com.kafkaadmin.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.function.Supplier;
+
+/**
+ * Helpers for answering read requests conditionally with weak ETags.
+ *
+ * <p>Where the data behind a response carries a version, such as the cluster snapshot or the
+ * lag sample it was computed from, the ETag is derived from that version and known before the
+ * response is built. Otherwise it is a SHA-256 digest of the response content, fed directly
+ * from the record components, collections and values it is made of rather than from its JSON
+ * form. Map keys and set elements are digested in sorted order, so equal content gets an equal
+ * ETag. A 32-bit {@code hashCode} is not enough: different bodies can share one, and a client
+ * would then get a 304 for changed content.
+ */
+public final class ETags {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGRAL = 2;
+    private static final byte FLOATING = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte RECORD = 5;
+    private static final byte SEQUENCE = 6;
+    private static final byte MAP = 7;
+    private static final byte OTHER = 8;
+
+    private static final ClassValue<Method[]> RECORD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            Method[] accessors = new Method[components.length];
+            for (int i = 0; i < components.length; i++) {
+                accessors[i] = components[i].getAccessor();
+                accessors[i].trySetAccessible();
+            }
+            return accessors;
+        }
+    };
+
+    private ETags() {
+    }
+
+    /**
+     * Returns a weak ETag for the given content.
+     *
+     * @param content the response content
+     * @return the weak ETag, e.g. {@code W/"9f86d081..."}
+     */
+    public static String of(Object content) {
+        return weak(digest(content));
+    }
+
+    /**
+     * Returns the hex-encoded SHA-256 digest of the content's structure and values.
+     *
+     * @param content the content, made of records, collections, maps, arrays and scalar values
+     * @return the digest
+     */
+    public static String digest(Object content) {
+        Digester digester = new Digester();
+        digester.add(content);
+        return HexFormat.of().formatHex(digester.finish());
+    }
+
+    /**
+     * Returns a weak ETag for a precomputed content digest.
+     *
+     * @param digest the content digest
+     * @return the weak ETag
+     */
+    public static String weak(String digest) {
+        return "W/\"" + digest + "\"";
+    }
+
+    /**
+     * Answers a request with a body that has already been built, and an ETag digested from it.
+     *
+     * @param request the current request
+     * @param body the response body
+     * @param <T> the body type
+     * @return the response entity, or null if a 304 response has already been written
+     */
+    public static <T> ResponseEntity<T> ok(WebRequest request, T body) {
+        return ok(request, new HttpHeaders(), body);
+    }
+
+    /**
+     * Answers a request with a body that has already been built, and an ETag digested from it.
+     *
+     * <p>A matching {@code If-None-Match} is answered with {@code 304 Not Modified} before the
+     * body is handed to the message converters.
+     *
+     * @param request the current request
+     * @param headers additional headers for the 200 response
+     * @param body the response body
+     * @param <T> the body type
+     * @return the response entity, or null if a 304 response has already been written
+     */
+    public static <T> ResponseEntity<T> ok(WebRequest request, HttpHeaders headers, T body) {
+        return conditional(request, of(body), headers, () -> body);
+    }
+
+    /**
+     * Answers a request for data carrying a version, with an ETag derived from that version.
+     *
+     * <p>The version must change whenever the data does and must not repeat across restarts,
+     * e.g. the timestamp of the sample the data was computed from.
+     *
+     * @param request the current request
+     * @param version the version of the current data
+     * @param body supplier of the response body
+     * @param <T> the body type
+     * @return the response entity, or null if a 304 response has already been written
+     */
+    public static <T> ResponseEntity<T> versioned(WebRequest request, long version, Supplier<T> body) {
+        return conditional(request, weak(Long.toString(version)), new HttpHeaders(), body);
+    }
+
+    /**
+     * Answers a request with an ETag known before the body is built.
+     *
+     * <p>The body supplier is only invoked if the request's {@code If-None-Match} does not match,
+     * so an unchanged resource is answered without building the response at all. The ETag must
+     * be computed before the content it describes, so that a concurrent change can only make it
+     * stale and never label older content with a newer ETag.
+     *
+     * @param request the current request
+     * @param eTag the ETag of the current content
+     * @param headers additional headers for the 200 response
+     * @param body supplier of the response body
+     * @param <T> the body type
+     * @return the response entity, or null if a 304 response has already been written
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, String eTag, HttpHeaders headers,
+                                                    Supplier<T> body) {
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .headers(headers)
+                .body(body.get());
+    }
+
+    /**
+     * Feeds values into a SHA-256 digest through a small buffer. Every value is prefixed with a
+     * type tag and every string and container with its length, so adjacent values cannot run
+     * into each other.
+     */
+    private static final class Digester {
+
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[1024];
+        private int position;
+
+        Digester() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        void add(Object value) {
+            switch (value) {
+                case null -> putByte(NULL);
+                case CharSequence text -> putString(STRING, text);
+                case Enum<?> constant -> putString(STRING, constant.name());
+                case Integer number -> putLong(INTEGRAL, number);
+                case Long number -> putLong(INTEGRAL, number);
+                case Short number -> putLong(INTEGRAL, number);
+                case Byte number -> putLong(INTEGRAL, number);
+                case Double number -> putLong(FLOATING, Double.doubleToLongBits(number));
+                case Float number -> putLong(FLOATING, Double.doubleToLongBits(number));
+                case Boolean flag -> putLong(BOOLEAN, flag ? 1 : 0);
+                case Record record -> addRecord(record);
+                case Optional<?> optional -> add(optional.orElse(null));
+                case Map<?, ?> map -> addMap(map);
+                case Set<?> set -> addSequence(set instanceof SortedSet<?> ? set.toArray() : sorted(set.toArray()));
+                case Collection<?> collection -> addSequence(collection);
+                default -> {
+                    if (value.getClass().isArray()) {
+                        addArray(value);
+                    } else {
+                        putString(OTHER, value.toString());
+                    }
+                }
+            }
+        }
+
+        byte[] finish() {
+            flush();
+            return digest.digest();
+        }
+
+        private void addRecord(Record record) {
+            Method[] accessors = RECORD_ACCESSORS.get(record.getClass());
+            putLong(RECORD, accessors.length);
+            for (Method accessor : accessors) {
+                try {
+                    add(accessor.invoke(record));
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("Cannot read " + accessor + " for its ETag", e);
+                }
+            }
+        }
+
+        private void addMap(Map<?, ?> map) {
+            Object[] keys = map instanceof SortedMap<?, ?> ? map.keySet().toArray() : sorted(map.keySet().toArray());
+            putLong(MAP, keys.length);
+            for (Object key : keys) {
+                add(key);
+                add(map.get(key));
+            }
+        }
+
+        private void addSequence(Collection<?> values) {
+            putLong(SEQUENCE, values.size());
+            for (Object value : values) {
+                add(value);
+            }
+        }
+
+        private void addSequence(Object[] values) {
+            putLong(SEQUENCE, values.length);
+            for (Object value : values) {
+                add(value);
+            }
+        }
+
+        private void addArray(Object array) {
+            int length = Array.getLength(array);
+            putLong(SEQUENCE, length);
+            for (int i = 0; i < length; i++) {
+                add(Array.get(array, i));
+            }
+        }
+
+        private static Object[] sorted(Object[] values) {
+            try {
+                Arrays.sort(values);
+            } catch (ClassCastException | NullPointerException e) {
+                Arrays.sort(values, Comparator.comparing(String::valueOf));
+            }
+            return values;
+        }
+
+        private void putString(byte tag, CharSequence text) {
+            putLong(tag, text.length());
+            for (int i = 0; i < text.length(); i++) {
+                reserve(2);
+                char c = text.charAt(i);
+                buffer[position++] = (byte) (c >>> 8);
+                buffer[position++] = (byte) c;
+            }
+        }
+
+        private void putLong(byte tag, long value) {
+            putByte(tag);
+            reserve(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void putByte(byte value) {
+            reserve(1);
+            buffer[position++] = value;
+        }
+
+        private void reserve(int bytes) {
+            if (position + bytes > buffer.length) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
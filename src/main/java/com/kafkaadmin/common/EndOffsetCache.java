@@ -0,0 +1,174 @@
+package com.kafkaadmin.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Partition-keyed cache of end offsets (high watermarks) in front of {@code listOffsets}.
+ *
+ * <p>An end offset fetched within the configured TTL is served from the cache. Partitions that
+ * are missing or stale are loaded with a single request per lookup. A lookup for a partition
+ * that another lookup is already loading waits for that request instead of issuing its own.
+ * Concurrent misses for partitions that are not yet in flight are not merged: each lookup
+ * sends its own request for them. Failed loads are not cached. A partition that fails only
+ * fails that partition: the lookup completes with the others. Entries older than the TTL are
+ * swept out at most once per TTL, so partitions of deleted topics do not accumulate.
+ *
+ * <p>Every partition looked up is counted in {@code kafka.admin.end.offsets.lookups}, tagged
+ * {@code hit} if it was answered from the cache or by a request already in flight and
+ * {@code miss} if it had to be loaded.
+ */
+final class EndOffsetCache {
+
+    static final String LOOKUPS_METRIC = "kafka.admin.end.offsets.lookups";
+
+    private final Function<Set<TopicPartition>, CompletableFuture<Map<TopicPartition, Long>>> loader;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<TopicPartition, CachedOffset> cache = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+
+    /**
+     * Creates a cache loading end offsets with the given function.
+     *
+     * @param loader loads the end offsets of a set of partitions
+     * @param ttlMs maximum age in milliseconds of a cached end offset
+     * @param meterRegistry the registry for hit and miss counters
+     */
+    EndOffsetCache(Function<Set<TopicPartition>, CompletableFuture<Map<TopicPartition, Long>>> loader,
+                   long ttlMs, MeterRegistry meterRegistry) {
+        this(loader, ttlMs, meterRegistry, System::nanoTime);
+    }
+
+    EndOffsetCache(Function<Set<TopicPartition>, CompletableFuture<Map<TopicPartition, Long>>> loader,
+                   long ttlMs, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.loader = loader;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.nanoTime = nanoTime;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.lastSweep = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * Returns the end offsets of the given partitions.
+     *
+     * @param partitions the partitions
+     * @return future completing with the end offset of each partition that could be loaded, or
+     *         failing if none of the partitions could be loaded
+     */
+    CompletableFuture<Map<TopicPartition, Long>> endOffsets(Set<TopicPartition> partitions) {
+        long now = nanoTime.getAsLong();
+        sweep(now);
+        Map<TopicPartition, CompletableFuture<Long>> results = new HashMap<>(partitions.size());
+        Map<TopicPartition, CompletableFuture<Long>> owned = new HashMap<>();
+
+        for (TopicPartition tp : partitions) {
+            CachedOffset cached = cache.get(tp);
+            if (cached != null && now - cached.fetchedAt() <= ttlNanos) {
+                hits.increment();
+                results.put(tp, CompletableFuture.completedFuture(cached.offset()));
+                continue;
+            }
+            CompletableFuture<Long> pending = new CompletableFuture<>();
+            CompletableFuture<Long> existing = inFlight.putIfAbsent(tp, pending);
+            if (existing != null) {
+                hits.increment();
+                results.put(tp, existing);
+            } else {
+                misses.increment();
+                owned.put(tp, pending);
+                results.put(tp, pending);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            load(owned, now);
+        }
+        // allOf waits for every partition, including failed ones, before the results are collected
+        return CompletableFuture.allOf(results.values().stream()
+                        .map(offset -> offset.exceptionally(ex -> null))
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<TopicPartition, Long> offsets = new HashMap<>(results.size());
+                    Throwable failure = null;
+                    for (Map.Entry<TopicPartition, CompletableFuture<Long>> entry : results.entrySet()) {
+                        if (entry.getValue().isCompletedExceptionally()) {
+                            failure = entry.getValue().exceptionNow();
+                        } else {
+                            offsets.put(entry.getKey(), entry.getValue().join());
+                        }
+                    }
+                    if (offsets.isEmpty() && failure != null) {
+                        throw new CompletionException(failure);
+                    }
+                    return offsets;
+                });
+    }
+
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if (now - last > ttlNanos && lastSweep.compareAndSet(last, now)) {
+            cache.values().removeIf(cached -> now - cached.fetchedAt() > ttlNanos);
+        }
+    }
+
+    /**
+     * Returns the number of cached end offsets, including stale ones not yet swept.
+     *
+     * @return the number of cache entries
+     */
+    int size() {
+        return cache.size();
+    }
+
+    private void load(Map<TopicPartition, CompletableFuture<Long>> owned, long requestedAt) {
+        CompletableFuture<Map<TopicPartition, Long>> loaded;
+        try {
+            loaded = loader.apply(new LinkedHashSet<>(owned.keySet()));
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+        loaded.whenComplete((offsets, ex) -> owned.forEach((tp, pending) -> {
+            Long offset = ex == null ? offsets.get(tp) : null;
+            if (offset != null) {
+                // Age is measured from the request so a cached offset is never older than the TTL
+                cache.put(tp, new CachedOffset(offset, requestedAt));
+            }
+            inFlight.remove(tp, pending);
+            if (offset != null) {
+                pending.complete(offset);
+            } else if (ex != null) {
+                pending.completeExceptionally(AsyncResults.unwrap(ex));
+            } else {
+                pending.completeExceptionally(new KafkaAdminException("No end offset returned for " + tp));
+            }
+        }));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(LOOKUPS_METRIC)
+                .description("End offset lookups per partition, by whether they were served without a new request")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedOffset(long offset, long fetchedAt) {
+    }
+}
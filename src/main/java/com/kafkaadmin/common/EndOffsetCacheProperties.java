@@ -0,0 +1,22 @@
+package com.kafkaadmin.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the shared end offset cache used in lag calculation.
+ *
+ * <p>Properties are bound from the {@code kafka.admin.end-offset-cache} prefix in application configuration.
+ *
+ * @param ttlMs maximum age in milliseconds of a cached end offset; 0 disables caching while still
+ *              sharing concurrent lookups of the same partition
+ */
+@ConfigurationProperties(prefix = "kafka.admin.end-offset-cache")
+public record EndOffsetCacheProperties(
+        Long ttlMs
+) {
+    public EndOffsetCacheProperties {
+        if (ttlMs == null || ttlMs < 0) {
+            ttlMs = 2000L;
+        }
+    }
+}
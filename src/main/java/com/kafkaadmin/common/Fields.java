@@ -0,0 +1,82 @@
+package com.kafkaadmin.common;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Response fields selected with the {@code fields} query parameter.
+ *
+ * <p>Services use the selection to skip AdminClient calls whose results would not be returned,
+ * and responses leave out the fields that were not selected.
+ */
+public final class Fields {
+
+    /** Selection including every field. */
+    public static final Fields ALL = new Fields(null);
+
+    private final Set<String> selected;
+
+    private Fields(Set<String> selected) {
+        this.selected = selected;
+    }
+
+    /**
+     * Parses a comma-separated field list.
+     *
+     * @param fields the comma-separated field names, or null or blank to select every field
+     * @param allowed the field names the endpoint supports
+     * @return the selection
+     * @throws InvalidRequestException if a field name is not supported
+     */
+    public static Fields parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : selected) {
+            if (!allowed.contains(field)) {
+                throw new InvalidRequestException(
+                        "Unknown field '" + field + "', supported fields: " + String.join(",", new TreeSet<>(allowed)));
+            }
+        }
+        return new Fields(Set.copyOf(selected));
+    }
+
+    /**
+     * Returns whether a field is selected.
+     *
+     * @param field the field name
+     * @return true if the field is selected
+     */
+    public boolean includes(String field) {
+        return selected == null || selected.contains(field);
+    }
+
+    /**
+     * Returns whether any of the given fields is selected.
+     *
+     * @param fields the field names
+     * @return true if at least one of the fields is selected
+     */
+    public boolean includesAny(Set<String> fields) {
+        return selected == null || fields.stream().anyMatch(selected::contains);
+    }
+
+    /**
+     * Returns the value if the field is selected.
+     *
+     * @param field the field name
+     * @param value the field value
+     * @param <T> the value type
+     * @return the value, or null if the field is not selected
+     */
+    public <T> T select(String field, T value) {
+        return includes(field) ? value : null;
+    }
+}
@@ -9,12 +9,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 /**
  * Global exception handler providing consistent error responses across all REST endpoints.
+ *
+ * <p>Error responses are always JSON, including for requests that accept only NDJSON.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -26,6 +29,7 @@ public class GlobalExceptionHandler {
             TopicNotFoundException ex, HttpServletRequest request) {
         log.warn("Topic not found: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ErrorResponse.of(
                         HttpStatus.NOT_FOUND.value(),
                         "Not Found",
@@ -38,6 +42,7 @@ public class GlobalExceptionHandler {
             ConsumerGroupNotFoundException ex, HttpServletRequest request) {
         log.warn("Consumer group not found: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ErrorResponse.of(
                         HttpStatus.NOT_FOUND.value(),
                         "Not Found",
@@ -50,6 +55,7 @@ public class GlobalExceptionHandler {
             BrokerNotFoundException ex, HttpServletRequest request) {
         log.warn("Broker not found: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ErrorResponse.of(
                         HttpStatus.NOT_FOUND.value(),
                         "Not Found",
@@ -62,6 +68,7 @@ public class GlobalExceptionHandler {
             TransactionNotFoundException ex, HttpServletRequest request) {
         log.warn("Transaction not found: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ErrorResponse.of(
                         HttpStatus.NOT_FOUND.value(),
                         "Not Found",
@@ -74,6 +81,7 @@ public class GlobalExceptionHandler {
             ShareGroupNotFoundException ex, HttpServletRequest request) {
         log.warn("Share group not found: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ErrorResponse.of(
                         HttpStatus.NOT_FOUND.value(),
                         "Not Found",
@@ -81,11 +89,38 @@ public class GlobalExceptionHandler {
                         request.getRequestURI()));
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(
+            InvalidRequestException ex, HttpServletRequest request) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Bad Request",
+                        ex.getMessage(),
+                        request.getRequestURI()));
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            ServiceUnavailableException ex, HttpServletRequest request) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service Unavailable",
+                        ex.getMessage(),
+                        request.getRequestURI()));
+    }
+
     @ExceptionHandler(KafkaAdminException.class)
     public ResponseEntity<ErrorResponse> handleKafkaAdminException(
             KafkaAdminException ex, HttpServletRequest request) {
         log.error("Kafka admin error: {}", ex.getMessage(), ex);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ErrorResponse.of(
                         HttpStatus.INTERNAL_SERVER_ERROR.value(),
                         "Internal Server Error",
@@ -98,6 +133,7 @@ public class GlobalExceptionHandler {
             Exception ex, HttpServletRequest request) {
         log.error("Unexpected error: {}", ex.getMessage(), ex);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ErrorResponse.of(
                         HttpStatus.INTERNAL_SERVER_ERROR.value(),
                         "Internal Server Error",
@@ -0,0 +1,16 @@
+package com.kafkaadmin.common;
+
+/**
+ * Exception thrown when request parameters are invalid.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * Creates an exception with the given message.
+     *
+     * @param message description of the invalid parameter
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -2,14 +2,10 @@ package com.kafkaadmin.common;
 
 import com.kafkaadmin.acl.Acl;
 import com.kafkaadmin.cluster.Broker;
-import com.kafkaadmin.cluster.BrokerNotFoundException;
 import com.kafkaadmin.cluster.ClusterInfo;
 import com.kafkaadmin.cluster.KafkaFeature;
 import com.kafkaadmin.cluster.LogDirInfo;
-import com.kafkaadmin.cluster.LogDirPartition;
 import com.kafkaadmin.consumergroup.ConsumerGroup;
-import com.kafkaadmin.consumergroup.ConsumerGroupMember;
-import com.kafkaadmin.consumergroup.ConsumerGroupNotFoundException;
 import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
 import com.kafkaadmin.quota.ClientQuota;
 import com.kafkaadmin.sharegroup.ShareGroup;
@@ -19,7 +15,7 @@ import com.kafkaadmin.token.DelegationToken;
 import com.kafkaadmin.topic.ProducerState;
 import com.kafkaadmin.topic.ReplicaLogDirInfo;
 import com.kafkaadmin.topic.Topic;
-import com.kafkaadmin.topic.TopicNotFoundException;
+import com.kafkaadmin.topic.TopicConfigs;
 import com.kafkaadmin.topic.TopicPartitionInfo;
 import com.kafkaadmin.transaction.TransactionDetail;
 import com.kafkaadmin.transaction.TransactionListing;
@@ -28,410 +24,155 @@ import com.kafkaadmin.transaction.TransactionTopicPartition;
 import com.kafkaadmin.user.ScramCredentialInfo;
 import com.kafkaadmin.user.UserScramCredential;
 import org.apache.kafka.clients.admin.*;
-import org.apache.kafka.clients.consumer.OffsetAndMetadata;
-import org.apache.kafka.common.Node;
 import org.apache.kafka.common.TopicPartition;
-import org.apache.kafka.common.TopicPartitionReplica;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
-import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 import org.apache.kafka.common.quota.ClientQuotaFilter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 
 /**
  * Adapter implementing {@link KafkaAdminPort} using Kafka's AdminClient.
  *
  * <p>Translates Kafka AdminClient operations into domain model objects
- * and handles exceptions appropriately.
+ * and handles exceptions appropriately. Operations backed by
+ * {@link AsyncKafkaAdminPort} block only until their composed future completes.
  */
 @Component
 class KafkaAdminClientAdapter implements KafkaAdminPort {
 
-    private static final Logger log = LoggerFactory.getLogger(KafkaAdminClientAdapter.class);
-
     private final AdminClient adminClient;
+    private final AsyncKafkaAdminPort asyncPort;
 
     /**
      * Creates an adapter with the given AdminClient.
      *
-     * @param adminClient the Kafka AdminClient to use
+     * @param adminClient the Kafka AdminClient to use for single-request operations
+     * @param asyncPort the asynchronous port that multi-request operations wait on
      */
-    KafkaAdminClientAdapter(AdminClient adminClient) {
+    KafkaAdminClientAdapter(AdminClient adminClient, AsyncKafkaAdminPort asyncPort) {
         this.adminClient = adminClient;
+        this.asyncPort = asyncPort;
     }
 
     /** {@inheritDoc} */
     @Override
     public List<String> listTopicNames() {
-        try {
-            return new ArrayList<>(adminClient.listTopics().names().get());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while listing topics", e);
-        } catch (ExecutionException e) {
-            throw new KafkaAdminException("Failed to list topics", e.getCause());
-        }
+        return AsyncResults.await(asyncPort.listTopicNames(), "listing topics");
     }
 
     /** {@inheritDoc} */
     @Override
     public Topic getTopic(String topicName) {
-        try {
-            DescribeTopicsResult result = adminClient.describeTopics(List.of(topicName));
-            TopicDescription description = result.topicNameValues().get(topicName).get();
-
-            Map<String, String> configs = getTopicConfigs(topicName);
+        return AsyncResults.await(asyncPort.getTopic(topicName), "describing topic: " + topicName);
+    }
 
-            List<TopicPartitionInfo> partitions = description.partitions().stream()
-                    .map(p -> new TopicPartitionInfo(
-                            p.partition(),
-                            p.leader() != null ? p.leader().id() : -1,
-                            p.replicas().stream().map(Node::id).toList(),
-                            p.isr().stream().map(Node::id).toList()))
-                    .toList();
+    /** {@inheritDoc} */
+    @Override
+    public Topic getTopicMetadata(String topicName) {
+        return AsyncResults.await(asyncPort.getTopicMetadata(topicName), "describing topic: " + topicName);
+    }
 
-            return new Topic(
-                    topicName,
-                    description.partitions().size(),
-                    description.partitions().isEmpty() ? 0 :
-                            description.partitions().get(0).replicas().size(),
-                    configs,
-                    partitions,
-                    description.isInternal());
+    /** {@inheritDoc} */
+    @Override
+    public boolean topicExists(String topicName) {
+        return AsyncResults.await(asyncPort.topicExists(topicName), "describing topic: " + topicName);
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while describing topic: " + topicName, e);
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof org.apache.kafka.common.errors.UnknownTopicOrPartitionException) {
-                throw new TopicNotFoundException(topicName);
-            }
-            throw new KafkaAdminException("Failed to describe topic: " + topicName, e.getCause());
-        }
+    /** {@inheritDoc} */
+    @Override
+    public List<Topic> describeTopics(Collection<String> topicNames) {
+        return AsyncResults.await(asyncPort.describeTopics(topicNames), "describing topics");
     }
 
-    private Map<String, String> getTopicConfigs(String topicName) {
-        try {
-            ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName);
-            DescribeConfigsResult configsResult = adminClient.describeConfigs(List.of(resource));
-            Config config = configsResult.all().get().get(resource);
-
-            return config.entries().stream()
-                    .filter(entry -> !entry.isDefault())
-                    .collect(Collectors.toMap(
-                            ConfigEntry::name,
-                            ConfigEntry::value));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while getting topic configs: " + topicName, e);
-        } catch (ExecutionException e) {
-            log.warn("Failed to get configs for topic {}: {}", topicName, e.getMessage());
-            return Collections.emptyMap();
-        }
+    /** {@inheritDoc} */
+    @Override
+    public List<TopicConfigs> getTopicConfigs(Collection<String> topicNames) {
+        return AsyncResults.await(asyncPort.getTopicConfigs(topicNames), "getting topic configs");
     }
 
     /** {@inheritDoc} */
     @Override
     public List<TopicPartitionInfo> getTopicPartitions(String topicName) {
-        Topic topic = getTopic(topicName);
-        return topic.partitions();
+        return AsyncResults.await(asyncPort.getTopicPartitions(topicName), "describing topic: " + topicName);
     }
 
     /** {@inheritDoc} */
     @Override
     public List<ProducerState> describeProducers(String topicName, int partition) {
-        // First verify the topic exists
-        getTopic(topicName);
-
-        try {
-            TopicPartition tp = new TopicPartition(topicName, partition);
-            DescribeProducersResult result = adminClient.describeProducers(List.of(tp));
-            DescribeProducersResult.PartitionProducerState partitionState = result.partitionResult(tp).get();
-
-            return partitionState.activeProducers().stream()
-                    .map(p -> new ProducerState(
-                            p.producerId(),
-                            p.producerEpoch(),
-                            p.lastSequence(),
-                            p.lastTimestamp(),
-                            p.coordinatorEpoch().orElse(-1),
-                            p.currentTransactionStartOffset().orElse(-1L)))
-                    .toList();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while describing producers: " + topicName + "-" + partition, e);
-        } catch (ExecutionException e) {
-            throw new KafkaAdminException("Failed to describe producers: " + topicName + "-" + partition, e.getCause());
-        }
+        return AsyncResults.await(asyncPort.describeProducers(topicName, partition),
+                "describing producers: " + topicName + "-" + partition);
     }
 
     /** {@inheritDoc} */
     @Override
     public List<ReplicaLogDirInfo> describeReplicaLogDirs(String topicName) {
-        Topic topic = getTopic(topicName);
-
-        try {
-            // Get all replicas for this topic
-            List<TopicPartitionReplica> replicas = new ArrayList<>();
-            for (TopicPartitionInfo partition : topic.partitions()) {
-                for (int brokerId : partition.replicas()) {
-                    replicas.add(new TopicPartitionReplica(topicName, partition.partition(), brokerId));
-                }
-            }
-
-            if (replicas.isEmpty()) {
-                return Collections.emptyList();
-            }
-
-            DescribeReplicaLogDirsResult result = adminClient.describeReplicaLogDirs(replicas);
-            Map<TopicPartitionReplica, DescribeReplicaLogDirsResult.ReplicaLogDirInfo> logDirInfos = result.all().get();
-
-            return logDirInfos.entrySet().stream()
-                    .map(entry -> {
-                        TopicPartitionReplica replica = entry.getKey();
-                        DescribeReplicaLogDirsResult.ReplicaLogDirInfo info = entry.getValue();
-                        return new ReplicaLogDirInfo(
-                                replica.brokerId(),
-                                replica.partition(),
-                                info.getCurrentReplicaLogDir(),
-                                info.getFutureReplicaLogDir(),
-                                info.getCurrentReplicaOffsetLag() >= 0 ? 0 : -1,
-                                info.getCurrentReplicaOffsetLag(),
-                                info.getFutureReplicaOffsetLag() >= 0 ? 0 : -1,
-                                info.getFutureReplicaOffsetLag());
-                    })
-                    .toList();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while describing replica log dirs: " + topicName, e);
-        } catch (ExecutionException e) {
-            throw new KafkaAdminException("Failed to describe replica log dirs: " + topicName, e.getCause());
-        }
+        return AsyncResults.await(asyncPort.describeReplicaLogDirs(topicName),
+                "describing replica log dirs: " + topicName);
     }
 
     /** {@inheritDoc} */
     @Override
-    @SuppressWarnings("removal")
     public List<String> listConsumerGroupIds() {
-        try {
-            return adminClient.listConsumerGroups().all().get().stream()
-                    .map(ConsumerGroupListing::groupId)
-                    .toList();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while listing consumer groups", e);
-        } catch (ExecutionException e) {
-            throw new KafkaAdminException("Failed to list consumer groups", e.getCause());
-        }
+        return AsyncResults.await(asyncPort.listConsumerGroupIds(), "listing consumer groups");
     }
 
     /** {@inheritDoc} */
     @Override
     public ConsumerGroup getConsumerGroup(String groupId) {
-        try {
-            DescribeConsumerGroupsResult result = adminClient.describeConsumerGroups(List.of(groupId));
-            ConsumerGroupDescription description = result.describedGroups().get(groupId).get();
-
-            List<ConsumerGroupMember> members = description.members().stream()
-                    .map(m -> new ConsumerGroupMember(
-                            m.consumerId(),
-                            m.clientId(),
-                            m.host(),
-                            m.assignment().topicPartitions().stream()
-                                    .map(tp -> tp.topic() + "-" + tp.partition())
-                                    .toList()))
-                    .toList();
-
-            return new ConsumerGroup(
-                    groupId,
-                    description.state().toString(),
-                    description.partitionAssignor(),
-                    description.coordinator() != null ? description.coordinator().id() : -1,
-                    members);
+        return AsyncResults.await(asyncPort.getConsumerGroup(groupId), "describing consumer group: " + groupId);
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while describing consumer group: " + groupId, e);
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof org.apache.kafka.common.errors.GroupIdNotFoundException) {
-                throw new ConsumerGroupNotFoundException(groupId);
-            }
-            throw new KafkaAdminException("Failed to describe consumer group: " + groupId, e.getCause());
-        }
+    /** {@inheritDoc} */
+    @Override
+    public List<ConsumerGroup> describeConsumerGroups(Collection<String> groupIds) {
+        return AsyncResults.await(asyncPort.describeConsumerGroups(groupIds), "describing consumer groups");
     }
 
     /** {@inheritDoc} */
     @Override
     public List<ConsumerGroupOffset> getConsumerGroupOffsets(String groupId) {
-        try {
-            // First verify the group exists
-            getConsumerGroup(groupId);
-
-            ListConsumerGroupOffsetsResult offsetsResult =
-                    adminClient.listConsumerGroupOffsets(groupId);
-            Map<TopicPartition, OffsetAndMetadata> offsets =
-                    offsetsResult.partitionsToOffsetAndMetadata().get();
-
-            if (offsets.isEmpty()) {
-                return Collections.emptyList();
-            }
-
-            // Get end offsets for lag calculation
-            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets =
-                    adminClient.listOffsets(
-                            offsets.keySet().stream()
-                                    .collect(Collectors.toMap(
-                                            tp -> tp,
-                                            tp -> OffsetSpec.latest()))).all().get();
-
-            return offsets.entrySet().stream()
-                    .map(entry -> {
-                        TopicPartition tp = entry.getKey();
-                        long currentOffset = entry.getValue().offset();
-                        long endOffset = endOffsets.get(tp).offset();
-                        long lag = Math.max(0, endOffset - currentOffset);
-
-                        return new ConsumerGroupOffset(
-                                tp.topic(),
-                                tp.partition(),
-                                currentOffset,
-                                endOffset,
-                                lag);
-                    })
-                    .toList();
+        return AsyncResults.await(asyncPort.getConsumerGroupOffsets(groupId),
+                "getting consumer group offsets: " + groupId);
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while getting consumer group offsets: " + groupId, e);
-        } catch (ExecutionException e) {
-            throw new KafkaAdminException("Failed to get consumer group offsets: " + groupId, e.getCause());
-        }
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, List<ConsumerGroupOffset>> getConsumerGroupsOffsets(Collection<String> groupIds) {
+        return AsyncResults.await(asyncPort.getConsumerGroupsOffsets(groupIds), "getting consumer group offsets");
     }
 
     /** {@inheritDoc} */
     @Override
     public ClusterInfo getClusterInfo() {
-        try {
-            DescribeClusterResult result = adminClient.describeCluster();
-            String clusterId = result.clusterId().get();
-            Node controller = result.controller().get();
-            Collection<Node> nodes = result.nodes().get();
-
-            List<Broker> brokers = nodes.stream()
-                    .map(node -> new Broker(
-                            node.id(),
-                            node.host(),
-                            node.port(),
-                            node.rack(),
-                            node.id() == controller.id()))
-                    .toList();
-
-            return new ClusterInfo(
-                    clusterId,
-                    controller.id(),
-                    brokers);
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while getting cluster info", e);
-        } catch (ExecutionException e) {
-            throw new KafkaAdminException("Failed to get cluster info", e.getCause());
-        }
+        return AsyncResults.await(asyncPort.getClusterInfo(), "getting cluster info");
     }
 
     /** {@inheritDoc} */
     @Override
     public List<Broker> listBrokers() {
-        return getClusterInfo().brokers();
+        return AsyncResults.await(asyncPort.listBrokers(), "getting cluster info");
     }
 
     /** {@inheritDoc} */
     @Override
     public Broker getBroker(int brokerId) {
-        return listBrokers().stream()
-                .filter(b -> b.id() == brokerId)
-                .findFirst()
-                .orElseThrow(() -> new BrokerNotFoundException(brokerId));
+        return AsyncResults.await(asyncPort.getBroker(brokerId), "getting cluster info");
     }
 
     /** {@inheritDoc} */
     @Override
     public Map<String, String> getBrokerConfigs(int brokerId) {
-        // First verify broker exists
-        getBroker(brokerId);
-
-        try {
-            ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
-            DescribeConfigsResult configsResult = adminClient.describeConfigs(List.of(resource));
-            Config config = configsResult.all().get().get(resource);
-
-            return config.entries().stream()
-                    .filter(entry -> !entry.isDefault() && !entry.isSensitive())
-                    .collect(Collectors.toMap(
-                            ConfigEntry::name,
-                            ConfigEntry::value));
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while getting broker configs: " + brokerId, e);
-        } catch (ExecutionException e) {
-            throw new KafkaAdminException("Failed to get broker configs: " + brokerId, e.getCause());
-        }
+        return AsyncResults.await(asyncPort.getBrokerConfigs(brokerId), "getting broker configs: " + brokerId);
     }
 
     /** {@inheritDoc} */
     @Override
     public List<LogDirInfo> describeLogDirs(int brokerId) {
-        // First verify broker exists
-        getBroker(brokerId);
-
-        try {
-            DescribeLogDirsResult result = adminClient.describeLogDirs(List.of(brokerId));
-            Map<Integer, Map<String, LogDirDescription>> logDirs = result.allDescriptions().get();
-            Map<String, LogDirDescription> brokerLogDirs = logDirs.get(brokerId);
-
-            if (brokerLogDirs == null) {
-                return Collections.emptyList();
-            }
-
-            return brokerLogDirs.entrySet().stream()
-                    .map(entry -> {
-                        String path = entry.getKey();
-                        LogDirDescription desc = entry.getValue();
-
-                        String error = desc.error() != null ? desc.error().getMessage() : null;
-                        long totalBytes = desc.totalBytes().orElse(-1L);
-                        long usableBytes = desc.usableBytes().orElse(-1L);
-
-                        List<LogDirPartition> partitions = desc.replicaInfos().entrySet().stream()
-                                .map(replicaEntry -> {
-                                    TopicPartition tp = replicaEntry.getKey();
-                                    ReplicaInfo replicaInfo = replicaEntry.getValue();
-                                    return new LogDirPartition(
-                                            tp.topic(),
-                                            tp.partition(),
-                                            replicaInfo.size(),
-                                            replicaInfo.offsetLag(),
-                                            replicaInfo.isFuture());
-                                })
-                                .toList();
-
-                        return new LogDirInfo(path, error, totalBytes, usableBytes, partitions);
-                    })
-                    .toList();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaAdminException("Interrupted while describing log dirs: " + brokerId, e);
-        } catch (ExecutionException e) {
-            throw new KafkaAdminException("Failed to describe log dirs: " + brokerId, e.getCause());
-        }
+        return AsyncResults.await(asyncPort.describeLogDirs(brokerId), "describing log dirs: " + brokerId);
     }
 
     /** {@inheritDoc} */
@@ -483,7 +224,7 @@ class KafkaAdminClientAdapter implements KafkaAdminPort {
                         finalizedVersion));
             });
 
-            return features;
+            return List.copyOf(features);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaAdminException("Interrupted while describing features", e);
@@ -691,9 +432,7 @@ class KafkaAdminClientAdapter implements KafkaAdminPort {
                             m.consumerId(),
                             m.clientId(),
                             m.host(),
-                            m.assignment().topicPartitions().stream()
-                                    .map(tp -> tp.topic() + "-" + tp.partition())
-                                    .toList()))
+                            TopicAssignment.of(m.assignment().topicPartitions())))
                     .toList();
 
             return new ShareGroup(
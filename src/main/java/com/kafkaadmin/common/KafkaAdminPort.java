@@ -10,11 +10,13 @@ import com.kafkaadmin.token.DelegationToken;
 import com.kafkaadmin.topic.ProducerState;
 import com.kafkaadmin.topic.ReplicaLogDirInfo;
 import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicConfigs;
 import com.kafkaadmin.topic.TopicPartitionInfo;
 import com.kafkaadmin.transaction.TransactionDetail;
 import com.kafkaadmin.transaction.TransactionListing;
 import com.kafkaadmin.user.UserScramCredential;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -46,6 +48,49 @@ public interface KafkaAdminPort {
      */
     Topic getTopic(String topicName);
 
+    /**
+     * Retrieves partition metadata for a topic without its configuration.
+     *
+     * @param topicName the name of the topic
+     * @return topic details including partitions, with empty configuration
+     * @throws com.kafkaadmin.topic.TopicNotFoundException if the topic does not exist
+     * @throws KafkaAdminException if communication with Kafka fails
+     */
+    Topic getTopicMetadata(String topicName);
+
+    /**
+     * Checks whether a topic exists.
+     *
+     * @param topicName the name of the topic
+     * @return true if the topic exists
+     * @throws KafkaAdminException if communication with Kafka fails
+     */
+    boolean topicExists(String topicName);
+
+    /**
+     * Retrieves metadata for multiple topics without their configuration.
+     *
+     * <p>Topics are described in batched requests rather than one request per topic.
+     * Topics that no longer exist by the time they are described are omitted.
+     *
+     * @param topicNames the names of the topics
+     * @return topic details including partitions, with empty configuration
+     * @throws KafkaAdminException if communication with Kafka fails
+     */
+    List<Topic> describeTopics(Collection<String> topicNames);
+
+    /**
+     * Retrieves non-default configuration for multiple topics.
+     *
+     * <p>Configurations are fetched in batched requests. A failure for an individual topic
+     * is reported in its result rather than failing the whole lookup.
+     *
+     * @param topicNames the names of the topics
+     * @return configuration lookup result per topic
+     * @throws KafkaAdminException if communication with Kafka fails
+     */
+    List<TopicConfigs> getTopicConfigs(Collection<String> topicNames);
+
     /**
      * Retrieves partition information for a topic.
      *
@@ -97,16 +142,48 @@ public interface KafkaAdminPort {
      */
     ConsumerGroup getConsumerGroup(String groupId);
 
+    /**
+     * Retrieves detailed information about multiple consumer groups.
+     *
+     * <p>Groups are described in batched requests, which the AdminClient routes to each
+     * group's coordinator, rather than one request per group. Groups that no longer exist
+     * by the time they are described are omitted. Any other failure for an individual group
+     * is reported as a group in state {@code Unknown} rather than failing the whole lookup.
+     *
+     * @param groupIds the consumer group IDs
+     * @return consumer group details including members, in the order of the given IDs
+     * @throws KafkaAdminException if communication with Kafka fails
+     */
+    List<ConsumerGroup> describeConsumerGroups(Collection<String> groupIds);
+
     /**
      * Retrieves offset information for a consumer group.
      *
      * @param groupId the consumer group ID
-     * @return list of offset information per topic-partition
+     * @return list of offset information per topic-partition, omitting partitions whose end
+     *         offset cannot be fetched
      * @throws com.kafkaadmin.consumergroup.ConsumerGroupNotFoundException if the group does not exist
      * @throws KafkaAdminException if communication with Kafka fails
      */
     List<ConsumerGroupOffset> getConsumerGroupOffsets(String groupId);
 
+    /**
+     * Retrieves offset information for multiple consumer groups.
+     *
+     * <p>Committed offsets of many groups are fetched with a single multi-group request per
+     * batch, and end offsets are fetched with one request over the deduplicated union of all
+     * committed partitions, so partitions shared by several groups are looked up only once.
+     * Groups whose committed offsets cannot be fetched are omitted. End offsets are read per
+     * partition: a partition whose end offset cannot be fetched, e.g. of a deleted topic or with
+     * an offline leader, is omitted, and so is a group left without partitions. The call only
+     * fails if no end offset at all can be fetched.
+     *
+     * @param groupIds the consumer group IDs
+     * @return offset information per topic-partition, keyed by group ID in the order of the given IDs
+     * @throws KafkaAdminException if communication with Kafka fails
+     */
+    Map<String, List<ConsumerGroupOffset>> getConsumerGroupsOffsets(Collection<String> groupIds);
+
     // Cluster operations
 
     /**
@@ -138,9 +215,10 @@ public interface KafkaAdminPort {
     /**
      * Retrieves non-default configuration for a broker.
      *
+     * <p>Does not check that the broker exists; callers look it up first.
+     *
      * @param brokerId the broker ID
      * @return map of configuration key-value pairs
-     * @throws com.kafkaadmin.cluster.BrokerNotFoundException if the broker does not exist
      * @throws KafkaAdminException if communication with Kafka fails
      */
     Map<String, String> getBrokerConfigs(int brokerId);
@@ -148,9 +226,10 @@ public interface KafkaAdminPort {
     /**
      * Describes log directories for a broker.
      *
+     * <p>Does not check that the broker exists; callers look it up first.
+     *
      * @param brokerId the broker ID
      * @return list of log directory information
-     * @throws com.kafkaadmin.cluster.BrokerNotFoundException if the broker does not exist
      * @throws KafkaAdminException if communication with Kafka fails
      */
     List<LogDirInfo> describeLogDirs(int brokerId);
@@ -0,0 +1,76 @@
+package com.kafkaadmin.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Builds streaming {@code application/x-ndjson} responses.
+ *
+ * <p>Each element is serialized and written as its own line as soon as the stream produces it,
+ * so neither the full response list nor the full JSON document is held in memory. The first
+ * line is flushed immediately. Errors raised while the stream is being consumed can no longer
+ * change the response status and end the response early instead, so anything that may fail
+ * with a client error must be checked before the stream is handed over.
+ */
+@Component
+public class NdjsonResponses {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a response builder using the application's JSON mapper.
+     *
+     * @param objectMapper the JSON mapper
+     */
+    public NdjsonResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns a 200 response streaming the elements as NDJSON.
+     *
+     * @param elements the elements to write, consumed and closed by the response
+     * @param <T> the element type
+     * @return the streaming response
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Stream<T> elements) {
+        return stream(new HttpHeaders(), elements);
+    }
+
+    /**
+     * Returns a 200 response with additional headers streaming the elements as NDJSON.
+     *
+     * @param headers additional response headers
+     * @param elements the elements to write, consumed and closed by the response
+     * @param <T> the element type
+     * @return the streaming response
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(HttpHeaders headers, Stream<T> elements) {
+        StreamingResponseBody body = outputStream -> {
+            try (elements) {
+                Iterator<T> iterator = elements.iterator();
+                boolean first = true;
+                while (iterator.hasNext()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                    if (first) {
+                        outputStream.flush();
+                        first = false;
+                    }
+                }
+                outputStream.flush();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .headers(headers)
+                .body(body);
+    }
+}
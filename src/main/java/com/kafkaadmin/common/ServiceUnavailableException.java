@@ -0,0 +1,17 @@
+package com.kafkaadmin.common;
+
+/**
+ * Exception thrown when a request cannot be served because a server-side limit has been reached
+ * or the feature serving it is disabled.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Creates an exception with the given message.
+     *
+     * @param message description of the exhausted limit or disabled feature
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,71 @@
+package com.kafkaadmin.common;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Partitions of one topic assigned to a group member.
+ *
+ * <p>Assignments are kept per topic rather than per partition: the topic name is interned once
+ * and the partitions are a plain {@code int[]}, so describing large groups does not allocate a
+ * string for every assigned partition. Equality and hash codes cover the partition contents.
+ *
+ * @param topic the topic name
+ * @param partitions the assigned partition numbers in ascending order
+ */
+public record TopicAssignment(String topic, int[] partitions) {
+
+    private static final Comparator<TopicPartition> PARTITION_ORDER = Comparator
+            .comparing(TopicPartition::topic)
+            .thenComparingInt(TopicPartition::partition);
+
+    /**
+     * Groups assigned partitions by topic.
+     *
+     * @param topicPartitions the assigned partitions
+     * @return one assignment per topic, sorted by topic name
+     */
+    public static List<TopicAssignment> of(Collection<TopicPartition> topicPartitions) {
+        if (topicPartitions.isEmpty()) {
+            return List.of();
+        }
+        TopicPartition[] sorted = topicPartitions.toArray(new TopicPartition[0]);
+        Arrays.sort(sorted, PARTITION_ORDER);
+
+        List<TopicAssignment> assignments = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= sorted.length; i++) {
+            if (i == sorted.length || !sorted[i].topic().equals(sorted[start].topic())) {
+                int[] partitions = new int[i - start];
+                for (int j = start; j < i; j++) {
+                    partitions[j - start] = sorted[j].partition();
+                }
+                assignments.add(new TopicAssignment(sorted[start].topic().intern(), partitions));
+                start = i;
+            }
+        }
+        return List.copyOf(assignments);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TopicAssignment that
+                && topic.equals(that.topic)
+                && Arrays.equals(partitions, that.partitions);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * topic.hashCode() + Arrays.hashCode(partitions);
+    }
+
+    @Override
+    public String toString() {
+        return "TopicAssignment[topic=" + topic + ", partitions=" + Arrays.toString(partitions) + "]";
+    }
+}
@@ -0,0 +1,52 @@
+package com.kafkaadmin.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Response representing the partitions of one topic assigned to a group member.
+ *
+ * @param topic the topic name
+ * @param partitions the assigned partition numbers in ascending order
+ */
+@Schema(description = "Partitions of one topic assigned to a group member")
+public record TopicAssignmentResponse(
+        @Schema(description = "Topic name", example = "orders")
+        String topic,
+
+        @Schema(description = "Assigned partitions", example = "[0, 1, 2]")
+        int[] partitions
+) {
+    public static TopicAssignmentResponse from(TopicAssignment assignment) {
+        return new TopicAssignmentResponse(assignment.topic(), assignment.partitions());
+    }
+
+    /**
+     * Converts member assignments for a response.
+     *
+     * @param assignments the assignments, one per topic
+     * @return the responses, sharing the partition arrays of the assignments
+     */
+    public static List<TopicAssignmentResponse> from(List<TopicAssignment> assignments) {
+        return assignments.stream().map(TopicAssignmentResponse::from).toList();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TopicAssignmentResponse that
+                && topic.equals(that.topic)
+                && Arrays.equals(partitions, that.partitions);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * topic.hashCode() + Arrays.hashCode(partitions);
+    }
+
+    @Override
+    public String toString() {
+        return "TopicAssignmentResponse[topic=" + topic + ", partitions=" + Arrays.toString(partitions) + "]";
+    }
+}
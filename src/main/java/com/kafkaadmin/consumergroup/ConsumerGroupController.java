@@ -1,6 +1,9 @@
 package com.kafkaadmin.consumergroup;
 
+import com.kafkaadmin.common.ETags;
 import com.kafkaadmin.common.ErrorResponse;
+import com.kafkaadmin.common.Fields;
+import com.kafkaadmin.common.NdjsonResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,15 +11,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 /**
  * REST controller for Kafka consumer group operations.
  *
- * <p>Provides endpoints for listing consumer groups, retrieving details, and checking offsets.
+ * <p>Provides endpoints for listing consumer groups, retrieving details, and checking offsets
+ * and lag.
  */
 @RestController
 @RequestMapping("/api/v1/consumer-groups")
@@ -24,36 +31,100 @@ import java.util.List;
 public class ConsumerGroupController {
 
     private final ConsumerGroupService consumerGroupService;
+    private final NdjsonResponses ndjsonResponses;
 
     /**
      * Creates a controller with the given service.
      *
      * @param consumerGroupService the consumer group service
+     * @param ndjsonResponses the builder for streaming NDJSON responses
      */
-    public ConsumerGroupController(ConsumerGroupService consumerGroupService) {
+    public ConsumerGroupController(ConsumerGroupService consumerGroupService, NdjsonResponses ndjsonResponses) {
         this.consumerGroupService = consumerGroupService;
+        this.ndjsonResponses = ndjsonResponses;
     }
 
     /**
      * Lists all consumer groups.
      *
+     * @param fields comma-separated response fields to include, or null for all
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of consumer groups sorted by group ID
      */
     @GetMapping
     @Operation(summary = "List all consumer groups", description = "Returns a list of all Kafka consumer groups")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved consumer groups"),
+            @ApiResponse(responseCode = "304", description = "Consumer groups unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<ConsumerGroupResponse>> listConsumerGroups(
+            @Parameter(description = "Comma-separated fields to include: groupId, state, memberCount")
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        return ETags.ok(request,
+                consumerGroupService.listConsumerGroups(Fields.parse(fields, ConsumerGroupResponse.FIELDS)));
+    }
+
+    /**
+     * Retrieves the lag of every consumer group.
+     *
+     * @param request the current request, used for {@code If-None-Match} handling
+     * @return lag per consumer group sorted by group ID
+     */
+    @GetMapping("/lag")
+    @Operation(summary = "Get lag of all consumer groups",
+            description = "Returns offsets and lag for every consumer group, fetched with batched requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved consumer group lag"),
+            @ApiResponse(responseCode = "304", description = "Consumer group lag unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<ConsumerGroupResponse>> listConsumerGroups() {
-        return ResponseEntity.ok(consumerGroupService.listConsumerGroups());
+    public ResponseEntity<List<ConsumerGroupLagResponse>> listConsumerGroupLag(WebRequest request) {
+        return ETags.ok(request, consumerGroupService.listConsumerGroupLag());
+    }
+
+    /**
+     * Retrieves the most lagging group-partitions across all consumer groups.
+     *
+     * @param k the number of group-partitions to return
+     * @param groupPrefix only include groups whose ID starts with this prefix, or null
+     * @param topicPrefix only include topics whose name starts with this prefix, or null
+     * @param request the current request, used for {@code If-None-Match} handling
+     * @return the lagging group-partitions, highest lag first
+     */
+    @GetMapping("/lag/top")
+    @Operation(summary = "Get most lagging partitions",
+            description = "Returns the k group-partitions with the highest lag across all consumer groups")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved lagging partitions"),
+            @ApiResponse(responseCode = "304", description = "Lagging partitions unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid k",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<LaggingPartitionResponse>> topLaggingPartitions(
+            @Parameter(description = "Number of group-partitions to return, at most 1000")
+            @RequestParam(defaultValue = "50") int k,
+            @Parameter(description = "Only include groups whose ID starts with this prefix")
+            @RequestParam(required = false) String groupPrefix,
+            @Parameter(description = "Only include topics whose name starts with this prefix")
+            @RequestParam(required = false) String topicPrefix,
+            WebRequest request) {
+        return ETags.ok(request, consumerGroupService.topLaggingPartitions(k, groupPrefix, topicPrefix));
     }
 
     /**
      * Retrieves details for a specific consumer group.
      *
      * @param groupId the consumer group ID
+     * @param fields comma-separated response fields to include, or null for all
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return consumer group details including members
      */
     @GetMapping("/{groupId}")
@@ -61,6 +132,9 @@ public class ConsumerGroupController {
             description = "Returns detailed information about a specific consumer group including members")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved consumer group details"),
+            @ApiResponse(responseCode = "304", description = "Consumer group details unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Consumer group not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -68,14 +142,19 @@ public class ConsumerGroupController {
     })
     public ResponseEntity<ConsumerGroupDetailResponse> getConsumerGroup(
             @Parameter(description = "Consumer group ID", required = true)
-            @PathVariable String groupId) {
-        return ResponseEntity.ok(consumerGroupService.getConsumerGroup(groupId));
+            @PathVariable String groupId,
+            @Parameter(description = "Comma-separated fields to include: groupId, state, partitionAssignor, coordinatorId, members, assignments")
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        return ETags.ok(request, consumerGroupService.getConsumerGroup(
+                groupId, Fields.parse(fields, ConsumerGroupDetailResponse.FIELDS)));
     }
 
     /**
      * Retrieves offset information for a consumer group.
      *
      * @param groupId the consumer group ID
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of offset details per topic-partition
      */
     @GetMapping("/{groupId}/offsets")
@@ -83,14 +162,38 @@ public class ConsumerGroupController {
             description = "Returns offset information and lag for a consumer group")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved consumer group offsets"),
+            @ApiResponse(responseCode = "304", description = "Consumer group offsets unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Consumer group not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<List<ConsumerGroupOffsetResponse>> getConsumerGroupOffsets(
+            @Parameter(description = "Consumer group ID", required = true)
+            @PathVariable String groupId,
+            WebRequest request) {
+        return ETags.ok(request, consumerGroupService.getConsumerGroupOffsets(groupId));
+    }
+
+    /**
+     * Streams offset information for a consumer group as newline-delimited JSON.
+     *
+     * @param groupId the consumer group ID
+     * @return streaming response writing one offset per line, sorted by topic and partition
+     */
+    @GetMapping(value = "/{groupId}/offsets", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream consumer group offsets",
+            description = "Streams offset information and lag for a consumer group as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming consumer group offsets"),
+            @ApiResponse(responseCode = "404", description = "Consumer group not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamConsumerGroupOffsets(
             @Parameter(description = "Consumer group ID", required = true)
             @PathVariable String groupId) {
-        return ResponseEntity.ok(consumerGroupService.getConsumerGroupOffsets(groupId));
+        return ndjsonResponses.stream(consumerGroupService.streamConsumerGroupOffsets(groupId));
     }
 }
@@ -0,0 +1,82 @@
+package com.kafkaadmin.consumergroup;
+
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.AsyncResults;
+import com.kafkaadmin.common.KafkaAdminException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shared source of the descriptions of every consumer group for background tasks.
+ *
+ * <p>Background tasks that need the members and assignments of all groups read them here, so
+ * that they do not each describe every group on their own schedule. Each caller states the age
+ * of description it accepts. A description that any caller fetched within that age is reused.
+ * Otherwise the groups are listed and described with batched requests. Callers that arrive
+ * while a describe is running wait for it and share its result. Failed describes are not kept.
+ */
+@Service
+public class ConsumerGroupDescriptions {
+
+    private final AsyncKafkaAdminPort asyncKafkaAdminPort;
+    private final Clock clock;
+    private final ReentrantLock describeLock = new ReentrantLock();
+    private volatile Described latest;
+
+    /**
+     * Creates a source with the given Kafka admin port.
+     *
+     * @param asyncKafkaAdminPort the asynchronous Kafka admin port
+     */
+    @Autowired
+    public ConsumerGroupDescriptions(AsyncKafkaAdminPort asyncKafkaAdminPort) {
+        this(asyncKafkaAdminPort, Clock.systemUTC());
+    }
+
+    ConsumerGroupDescriptions(AsyncKafkaAdminPort asyncKafkaAdminPort, Clock clock) {
+        this.asyncKafkaAdminPort = asyncKafkaAdminPort;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the descriptions of all consumer groups, describing them again if the latest are too old.
+     *
+     * @param maxAgeMs maximum age in milliseconds of reused descriptions, measured from when the describe started
+     * @return the consumer groups, with groups whose describe failed in state {@code Unknown}
+     * @throws KafkaAdminException if the groups have to be described and listing or describing them fails
+     */
+    public List<ConsumerGroup> describeAll(long maxAgeMs) {
+        Described current = latest;
+        if (isFresh(current, maxAgeMs)) {
+            return current.groups();
+        }
+
+        describeLock.lock();
+        try {
+            current = latest;
+            if (isFresh(current, maxAgeMs)) {
+                return current.groups();
+            }
+            long startedAt = clock.millis();
+            List<String> groupIds = AsyncResults.await(asyncKafkaAdminPort.listConsumerGroupIds(),
+                    "describing consumer groups");
+            List<ConsumerGroup> groups = AsyncResults.await(asyncKafkaAdminPort.describeConsumerGroups(groupIds),
+                    "describing consumer groups");
+            latest = new Described(startedAt, groups);
+            return groups;
+        } finally {
+            describeLock.unlock();
+        }
+    }
+
+    private boolean isFresh(Described described, long maxAgeMs) {
+        return described != null && clock.millis() - described.startedAtMs() <= maxAgeMs;
+    }
+
+    private record Described(long startedAtMs, List<ConsumerGroup> groups) {
+    }
+}
@@ -1,12 +1,18 @@
 package com.kafkaadmin.consumergroup;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kafkaadmin.common.Fields;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Response representing consumer group details for API responses.
  *
+ * <p>Fields not selected with the {@code fields} query parameter are null and omitted.
+ * Member assignments are only included when {@code assignments} is selected.
+ *
  * @param groupId consumer group identifier
  * @param state current group state
  * @param partitionAssignor partition assignment strategy
@@ -14,6 +20,7 @@ import java.util.List;
  * @param members list of group members
  */
 @Schema(description = "Consumer group details")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ConsumerGroupDetailResponse(
         @Schema(description = "Consumer group ID", example = "my-consumer-group")
         String groupId,
@@ -25,19 +32,31 @@ public record ConsumerGroupDetailResponse(
         String partitionAssignor,
 
         @Schema(description = "Coordinator broker ID", example = "1")
-        int coordinatorId,
+        Integer coordinatorId,
 
         @Schema(description = "Group members")
         List<ConsumerGroupMemberResponse> members
 ) {
+
+    /** Fields that can be selected with the {@code fields} query parameter. */
+    public static final Set<String> FIELDS =
+            Set.of("groupId", "state", "partitionAssignor", "coordinatorId", "members", "assignments");
+
     public static ConsumerGroupDetailResponse from(ConsumerGroup group) {
+        return from(group, Fields.ALL);
+    }
+
+    public static ConsumerGroupDetailResponse from(ConsumerGroup group, Fields fields) {
+        boolean assignments = fields.includes("assignments");
         return new ConsumerGroupDetailResponse(
-                group.groupId(),
-                group.state(),
-                group.partitionAssignor(),
-                group.coordinatorId(),
-                group.members().stream()
-                        .map(ConsumerGroupMemberResponse::from)
-                        .toList());
+                fields.select("groupId", group.groupId()),
+                fields.select("state", group.state()),
+                fields.select("partitionAssignor", group.partitionAssignor()),
+                fields.select("coordinatorId", group.coordinatorId()),
+                fields.includes("members") || assignments
+                        ? group.members().stream()
+                                .map(member -> ConsumerGroupMemberResponse.from(member, assignments))
+                                .toList()
+                        : null);
     }
 }
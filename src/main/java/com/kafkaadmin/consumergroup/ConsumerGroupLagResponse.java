@@ -0,0 +1,25 @@
+package com.kafkaadmin.consumergroup;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response representing the lag of one consumer group for API responses.
+ *
+ * @param groupId consumer group ID
+ * @param totalLag sum of the lag over all partitions
+ * @param offsets offset information per partition, sorted by topic and partition
+ */
+@Schema(description = "Consumer lag of a consumer group")
+public record ConsumerGroupLagResponse(
+        @Schema(description = "Consumer group ID", example = "my-consumer-group")
+        String groupId,
+
+        @Schema(description = "Total lag over all partitions", example = "150")
+        long totalLag,
+
+        @Schema(description = "Offsets and lag per partition")
+        List<ConsumerGroupOffsetResponse> offsets
+) {
+}
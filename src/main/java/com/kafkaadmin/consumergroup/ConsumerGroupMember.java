@@ -1,5 +1,7 @@
 package com.kafkaadmin.consumergroup;
 
+import com.kafkaadmin.common.TopicAssignment;
+
 import java.util.List;
 
 /**
@@ -8,12 +10,12 @@ import java.util.List;
  * @param consumerId unique consumer identifier
  * @param clientId client identifier
  * @param host consumer host address
- * @param assignments list of assigned topic-partitions
+ * @param assignments assigned partitions grouped by topic
  */
 public record ConsumerGroupMember(
         String consumerId,
         String clientId,
         String host,
-        List<String> assignments
+        List<TopicAssignment> assignments
 ) {
 }
@@ -1,5 +1,7 @@
 package com.kafkaadmin.consumergroup;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kafkaadmin.common.TopicAssignmentResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -10,9 +12,10 @@ import java.util.List;
  * @param consumerId unique consumer identifier
  * @param clientId client identifier
  * @param host consumer host address
- * @param assignments list of assigned topic-partitions
+ * @param assignments assigned partitions grouped by topic, or null if not selected
  */
 @Schema(description = "Consumer group member")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ConsumerGroupMemberResponse(
         @Schema(description = "Consumer ID")
         String consumerId,
@@ -23,14 +26,18 @@ public record ConsumerGroupMemberResponse(
         @Schema(description = "Host", example = "/192.168.1.100")
         String host,
 
-        @Schema(description = "Assigned partitions")
-        List<String> assignments
+        @Schema(description = "Assigned partitions grouped by topic")
+        List<TopicAssignmentResponse> assignments
 ) {
     public static ConsumerGroupMemberResponse from(ConsumerGroupMember member) {
+        return from(member, true);
+    }
+
+    public static ConsumerGroupMemberResponse from(ConsumerGroupMember member, boolean includeAssignments) {
         return new ConsumerGroupMemberResponse(
                 member.consumerId(),
                 member.clientId(),
                 member.host(),
-                member.assignments());
+                includeAssignments ? TopicAssignmentResponse.from(member.assignments()) : null);
     }
 }
@@ -1,5 +1,6 @@
 package com.kafkaadmin.consumergroup;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -10,6 +11,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * @param currentOffset last committed offset
  * @param endOffset latest offset in the partition
  * @param lag difference between end offset and current offset
+ * @param timeLagMs estimated time in milliseconds since the end offset passed the current offset,
+ *                  or null if there is not enough sampled history
  */
 @Schema(description = "Consumer group offset for a partition")
 public record ConsumerGroupOffsetResponse(
@@ -26,14 +29,20 @@ public record ConsumerGroupOffsetResponse(
         long endOffset,
 
         @Schema(description = "Consumer lag", example = "50")
-        long lag
+        long lag,
+
+        @Schema(description = "Estimated time lag in milliseconds, omitted until enough history has been sampled",
+                example = "12000")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long timeLagMs
 ) {
-    public static ConsumerGroupOffsetResponse from(ConsumerGroupOffset offset) {
+    public static ConsumerGroupOffsetResponse from(ConsumerGroupOffset offset, Long timeLagMs) {
         return new ConsumerGroupOffsetResponse(
                 offset.topic(),
                 offset.partition(),
                 offset.currentOffset(),
                 offset.endOffset(),
-                offset.lag());
+                offset.lag(),
+                timeLagMs);
     }
 }
@@ -1,15 +1,22 @@
 package com.kafkaadmin.consumergroup;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kafkaadmin.common.Fields;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.Set;
+
 /**
  * Response representing consumer group summary for API responses.
  *
+ * <p>Fields not selected with the {@code fields} query parameter are null and omitted.
+ *
  * @param groupId consumer group identifier
  * @param state current group state
  * @param memberCount number of members in the group
  */
 @Schema(description = "Consumer group summary")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ConsumerGroupResponse(
         @Schema(description = "Consumer group ID", example = "my-consumer-group")
         String groupId,
@@ -18,12 +25,27 @@ public record ConsumerGroupResponse(
         String state,
 
         @Schema(description = "Number of members", example = "3")
-        int memberCount
+        Integer memberCount
 ) {
+
+    /** Fields that can be selected with the {@code fields} query parameter. */
+    public static final Set<String> FIELDS = Set.of("groupId", "state", "memberCount");
+
+    /** Fields that require the group to be described. */
+    static final Set<String> DESCRIBED_FIELDS = Set.of("state", "memberCount");
+
     public static ConsumerGroupResponse from(ConsumerGroup group) {
+        return from(group, Fields.ALL);
+    }
+
+    public static ConsumerGroupResponse from(ConsumerGroup group, Fields fields) {
         return new ConsumerGroupResponse(
-                group.groupId(),
-                group.state(),
-                group.members().size());
+                fields.select("groupId", group.groupId()),
+                fields.select("state", group.state()),
+                fields.select("memberCount", group.members().size()));
+    }
+
+    static ConsumerGroupResponse withId(String groupId, Fields fields) {
+        return new ConsumerGroupResponse(fields.select("groupId", groupId), null, null);
     }
 }
@@ -1,10 +1,17 @@
 package com.kafkaadmin.consumergroup;
 
+import com.kafkaadmin.common.Fields;
+import com.kafkaadmin.common.InvalidRequestException;
 import com.kafkaadmin.common.KafkaAdminPort;
+import com.kafkaadmin.lag.LagHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
 
 /**
  * Service providing consumer group management operations.
@@ -12,27 +19,62 @@ import java.util.List;
 @Service
 public class ConsumerGroupService {
 
+    private static final Comparator<ConsumerGroupOffset> OFFSET_ORDER =
+            Comparator.comparing(ConsumerGroupOffset::topic).thenComparingInt(ConsumerGroupOffset::partition);
+
+    /** Maximum lag ranking size. */
+    private static final int MAX_TOP_LAG = 1000;
+
+    /** Number of groups whose offsets are fetched and ranked at a time. */
+    static final int TOP_LAG_GROUP_CHUNK_SIZE = 500;
+
+    private static final Comparator<LaggingPartition> LAG_ORDER = Comparator
+            .comparingLong((LaggingPartition p) -> p.offset().lag())
+            .thenComparing(LaggingPartition::groupId, Comparator.reverseOrder())
+            .thenComparing((LaggingPartition p) -> p.offset().topic(), Comparator.reverseOrder())
+            .thenComparing((LaggingPartition p) -> p.offset().partition(), Comparator.reverseOrder());
+
     private final KafkaAdminPort kafkaAdminPort;
+    private final LagHistoryService lagHistoryService;
+    private final Clock clock;
 
     /**
-     * Creates a service with the given Kafka admin port.
+     * Creates a service with the given Kafka admin port and lag history.
      *
      * @param kafkaAdminPort the Kafka admin port
+     * @param lagHistoryService the sampled lag history used to estimate time lag
      */
-    public ConsumerGroupService(KafkaAdminPort kafkaAdminPort) {
+    @Autowired
+    public ConsumerGroupService(KafkaAdminPort kafkaAdminPort, LagHistoryService lagHistoryService) {
+        this(kafkaAdminPort, lagHistoryService, Clock.systemUTC());
+    }
+
+    ConsumerGroupService(KafkaAdminPort kafkaAdminPort, LagHistoryService lagHistoryService, Clock clock) {
         this.kafkaAdminPort = kafkaAdminPort;
+        this.lagHistoryService = lagHistoryService;
+        this.clock = clock;
     }
 
     /**
      * Lists all consumer groups.
      *
+     * <p>Groups are described with batched requests. When only group IDs are selected,
+     * no group is described at all. Groups deleted while the list is built are omitted.
+     *
+     * @param fields the response fields to include
      * @return list of consumer group DTOs sorted by group ID
      */
-    public List<ConsumerGroupResponse> listConsumerGroups() {
-        return kafkaAdminPort.listConsumerGroupIds().stream()
-                .map(kafkaAdminPort::getConsumerGroup)
-                .map(ConsumerGroupResponse::from)
-                .sorted(Comparator.comparing(ConsumerGroupResponse::groupId))
+    public List<ConsumerGroupResponse> listConsumerGroups(Fields fields) {
+        List<String> groupIds = kafkaAdminPort.listConsumerGroupIds().stream()
+                .sorted()
+                .toList();
+        if (!fields.includesAny(ConsumerGroupResponse.DESCRIBED_FIELDS)) {
+            return groupIds.stream()
+                    .map(groupId -> ConsumerGroupResponse.withId(groupId, fields))
+                    .toList();
+        }
+        return kafkaAdminPort.describeConsumerGroups(groupIds).stream()
+                .map(group -> ConsumerGroupResponse.from(group, fields))
                 .toList();
     }
 
@@ -40,26 +82,130 @@ public class ConsumerGroupService {
      * Retrieves details for a specific consumer group.
      *
      * @param groupId the consumer group ID
+     * @param fields the response fields to include
      * @return consumer group detail DTO
      * @throws ConsumerGroupNotFoundException if the group does not exist
      */
-    public ConsumerGroupDetailResponse getConsumerGroup(String groupId) {
+    public ConsumerGroupDetailResponse getConsumerGroup(String groupId, Fields fields) {
         ConsumerGroup group = kafkaAdminPort.getConsumerGroup(groupId);
-        return ConsumerGroupDetailResponse.from(group);
+        return ConsumerGroupDetailResponse.from(group, fields);
     }
 
     /**
      * Retrieves offset information for a consumer group.
      *
+     * <p>Time lag is estimated from the sampled end offsets of each partition, so it needs no
+     * requests beyond the offset lookup and is null until enough history has been sampled.
+     *
      * @param groupId the consumer group ID
      * @return list of offset DTOs sorted by topic and partition
      * @throws ConsumerGroupNotFoundException if the group does not exist
      */
     public List<ConsumerGroupOffsetResponse> getConsumerGroupOffsets(String groupId) {
-        return kafkaAdminPort.getConsumerGroupOffsets(groupId).stream()
-                .map(ConsumerGroupOffsetResponse::from)
-                .sorted(Comparator.comparing(ConsumerGroupOffsetResponse::topic)
-                        .thenComparingInt(ConsumerGroupOffsetResponse::partition))
+        return streamConsumerGroupOffsets(groupId).toList();
+    }
+
+    /**
+     * Retrieves the lag of every consumer group.
+     *
+     * <p>Committed offsets of all groups are fetched with multi-group requests and end offsets
+     * with a single request over the distinct partitions, so the cost grows with the number of
+     * partitions rather than with the number of groups. Groups whose offsets cannot be fetched
+     * are omitted.
+     *
+     * @return lag per consumer group sorted by group ID, with offsets sorted by topic and partition
+     */
+    public List<ConsumerGroupLagResponse> listConsumerGroupLag() {
+        List<String> groupIds = kafkaAdminPort.listConsumerGroupIds().stream()
+                .sorted()
+                .toList();
+        return kafkaAdminPort.getConsumerGroupsOffsets(groupIds).entrySet().stream()
+                .map(entry -> toLagResponse(entry.getKey(), entry.getValue()))
                 .toList();
     }
+
+    /**
+     * Finds the group-partitions with the highest lag across all consumer groups.
+     *
+     * <p>Groups are filtered by prefix before any offsets are fetched. Offsets are then fetched
+     * for chunks of groups and ranked with a heap bounded to {@code k} entries, so memory stays
+     * proportional to {@code k} plus one chunk rather than to all partitions of all groups.
+     *
+     * @param k the number of group-partitions to return
+     * @param groupPrefix only include groups whose ID starts with this prefix, or null
+     * @param topicPrefix only include topics whose name starts with this prefix, or null
+     * @return the lagging group-partitions, highest lag first
+     * @throws InvalidRequestException if {@code k} is out of range
+     */
+    public List<LaggingPartitionResponse> topLaggingPartitions(int k, String groupPrefix, String topicPrefix) {
+        if (k < 1 || k > MAX_TOP_LAG) {
+            throw new InvalidRequestException("k must be between 1 and " + MAX_TOP_LAG);
+        }
+        List<String> groupIds = kafkaAdminPort.listConsumerGroupIds().stream()
+                .filter(groupId -> groupPrefix == null || groupId.startsWith(groupPrefix))
+                .sorted()
+                .toList();
+
+        // Min-heap on lag: the root is the least lagging entry kept so far
+        PriorityQueue<LaggingPartition> top = new PriorityQueue<>(k + 1, LAG_ORDER);
+        for (int from = 0; from < groupIds.size(); from += TOP_LAG_GROUP_CHUNK_SIZE) {
+            List<String> chunk = groupIds.subList(from, Math.min(from + TOP_LAG_GROUP_CHUNK_SIZE, groupIds.size()));
+            kafkaAdminPort.getConsumerGroupsOffsets(chunk).forEach((groupId, offsets) -> {
+                for (ConsumerGroupOffset offset : offsets) {
+                    if (topicPrefix != null && !offset.topic().startsWith(topicPrefix)) {
+                        continue;
+                    }
+                    LaggingPartition candidate = new LaggingPartition(groupId, offset);
+                    if (top.size() < k) {
+                        top.add(candidate);
+                    } else if (LAG_ORDER.compare(candidate, top.peek()) > 0) {
+                        top.poll();
+                        top.add(candidate);
+                    }
+                }
+            });
+        }
+
+        long nowMs = clock.millis();
+        return top.stream()
+                .sorted(LAG_ORDER.reversed())
+                .map(p -> LaggingPartitionResponse.from(p.groupId(), p.offset(),
+                        lagHistoryService.timeLagMs(p.groupId(), p.offset(), nowMs)))
+                .toList();
+    }
+
+    /**
+     * Streams offset information for a consumer group.
+     *
+     * <p>Offsets are fetched before this method returns, so a missing group is reported
+     * immediately; each response is mapped only as the stream is consumed.
+     *
+     * @param groupId the consumer group ID
+     * @return stream of offset DTOs sorted by topic and partition
+     * @throws ConsumerGroupNotFoundException if the group does not exist
+     */
+    public Stream<ConsumerGroupOffsetResponse> streamConsumerGroupOffsets(String groupId) {
+        List<ConsumerGroupOffset> offsets = kafkaAdminPort.getConsumerGroupOffsets(groupId);
+        long nowMs = clock.millis();
+        return offsets.stream()
+                .sorted(OFFSET_ORDER)
+                .map(offset -> toOffsetResponse(groupId, offset, nowMs));
+    }
+
+    private ConsumerGroupLagResponse toLagResponse(String groupId, List<ConsumerGroupOffset> offsets) {
+        long nowMs = clock.millis();
+        List<ConsumerGroupOffsetResponse> sorted = offsets.stream()
+                .sorted(OFFSET_ORDER)
+                .map(offset -> toOffsetResponse(groupId, offset, nowMs))
+                .toList();
+        long totalLag = offsets.stream().mapToLong(ConsumerGroupOffset::lag).sum();
+        return new ConsumerGroupLagResponse(groupId, totalLag, sorted);
+    }
+
+    private ConsumerGroupOffsetResponse toOffsetResponse(String groupId, ConsumerGroupOffset offset, long nowMs) {
+        return ConsumerGroupOffsetResponse.from(offset, lagHistoryService.timeLagMs(groupId, offset, nowMs));
+    }
+
+    private record LaggingPartition(String groupId, ConsumerGroupOffset offset) {
+    }
 }
@@ -0,0 +1,52 @@
+package com.kafkaadmin.consumergroup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response representing one lagging group-partition for API responses.
+ *
+ * @param groupId consumer group ID
+ * @param topic topic name
+ * @param partition partition number
+ * @param currentOffset last committed offset
+ * @param endOffset latest offset in the partition
+ * @param lag difference between end offset and current offset
+ * @param timeLagMs estimated time lag in milliseconds, or null if there is not enough sampled history
+ */
+@Schema(description = "Lag of a consumer group on one partition")
+public record LaggingPartitionResponse(
+        @Schema(description = "Consumer group ID", example = "my-consumer-group")
+        String groupId,
+
+        @Schema(description = "Topic name", example = "my-topic")
+        String topic,
+
+        @Schema(description = "Partition number", example = "0")
+        int partition,
+
+        @Schema(description = "Current committed offset", example = "1000")
+        long currentOffset,
+
+        @Schema(description = "End offset (latest)", example = "1050")
+        long endOffset,
+
+        @Schema(description = "Consumer lag", example = "50")
+        long lag,
+
+        @Schema(description = "Estimated time lag in milliseconds, omitted until enough history has been sampled",
+                example = "12000")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long timeLagMs
+) {
+    public static LaggingPartitionResponse from(String groupId, ConsumerGroupOffset offset, Long timeLagMs) {
+        return new LaggingPartitionResponse(
+                groupId,
+                offset.topic(),
+                offset.partition(),
+                offset.currentOffset(),
+                offset.endOffset(),
+                offset.lag(),
+                timeLagMs);
+    }
+}
@@ -0,0 +1,19 @@
+package com.kafkaadmin.groupevent;
+
+/**
+ * Change detected between two describes of a consumer group.
+ *
+ * @param groupId the consumer group ID
+ * @param type the kind of change
+ * @param memberId the member concerned, or null for group-level changes
+ * @param previousValue the value before the change, or null if there was none
+ * @param currentValue the value after the change, or null if there is none
+ */
+public record GroupChange(
+        String groupId,
+        GroupEventType type,
+        String memberId,
+        String previousValue,
+        String currentValue
+) {
+}
@@ -0,0 +1,15 @@
+package com.kafkaadmin.groupevent;
+
+/**
+ * Change of a consumer group recorded in the event log.
+ *
+ * @param sequence position in the log, increasing by one per event
+ * @param timestampMs when the change was detected, in epoch milliseconds
+ * @param change the detected change
+ */
+public record GroupEvent(
+        long sequence,
+        long timestampMs,
+        GroupChange change
+) {
+}
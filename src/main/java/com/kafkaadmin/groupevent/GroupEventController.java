@@ -0,0 +1,67 @@
+package com.kafkaadmin.groupevent;
+
+import com.kafkaadmin.common.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for consumer group change events.
+ *
+ * <p>Provides a long-poll endpoint over the events detected by the background group differ.
+ * Responses are not cached, since the same request returns newer events over time.
+ */
+@RestController
+@RequestMapping("/api/v1/consumer-groups")
+@Tag(name = "Consumer Groups", description = "Kafka consumer group management operations")
+public class GroupEventController {
+
+    private final GroupEventLog groupEventLog;
+
+    /**
+     * Creates a controller with the given event log.
+     *
+     * @param groupEventLog the consumer group event log
+     */
+    public GroupEventController(GroupEventLog groupEventLog) {
+        this.groupEventLog = groupEventLog;
+    }
+
+    /**
+     * Reads consumer group change events.
+     *
+     * @param after the last sequence already seen, or null to start at the oldest event kept
+     * @param limit the maximum number of events to return
+     * @param waitMs how long to wait for an event if there is none yet
+     * @return the events and the sequence to resume after
+     */
+    @GetMapping("/events")
+    @Operation(summary = "Get consumer group change events",
+            description = "Returns state, coordinator, membership and assignment changes of consumer groups "
+                    + "after the given sequence, waiting up to waitMs for the next event if there is none yet")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved events"),
+            @ApiResponse(responseCode = "400", description = "Invalid sequence, limit or wait time",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<GroupEventPageResponse> getEvents(
+            @Parameter(description = "Last sequence already seen; omit to start at the oldest event kept")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Maximum number of events to return, at most 1000")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Milliseconds to wait for an event if there is none yet")
+            @RequestParam(defaultValue = "0") long waitMs) {
+        return ResponseEntity.ok(GroupEventPageResponse.from(groupEventLog.read(after, limit, waitMs)));
+    }
+}
@@ -0,0 +1,132 @@
+package com.kafkaadmin.groupevent;
+
+import com.kafkaadmin.common.InvalidRequestException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory log of consumer group change events.
+ *
+ * <p>Events are numbered with consecutive sequence numbers starting at 1 and kept in a ring of
+ * {@code logSize} slots, so the oldest events are dropped once the log is full. Readers resume
+ * after the last sequence they have seen and are told when events in between were dropped.
+ * Sequence numbers restart after a restart of the server. Waiting readers park on a
+ * {@link Condition} rather than a monitor, so long-polls on virtual threads do not pin their
+ * carrier threads.
+ */
+@Service
+public class GroupEventLog {
+
+    /** Maximum number of events returned by one read. */
+    public static final int MAX_READ_LIMIT = 1000;
+
+    private final GroupEventProperties properties;
+    private final GroupEvent[] events;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long nextSequence = 1;
+
+    /**
+     * Creates an empty log with the given properties.
+     *
+     * @param properties the event feed configuration
+     */
+    public GroupEventLog(GroupEventProperties properties) {
+        this.properties = properties;
+        this.events = new GroupEvent[properties.logSize()];
+    }
+
+    /**
+     * Reads the events following a sequence number, waiting for new events if there are none yet.
+     *
+     * @param after the last sequence already seen, or null to start at the oldest event kept
+     * @param limit the maximum number of events to return
+     * @param waitMs how long to wait for an event if there is none, capped at the configured maximum
+     * @return the events, the sequence to resume after and whether events were missed
+     * @throws InvalidRequestException if a parameter is out of range
+     */
+    public GroupEventPage read(Long after, int limit, long waitMs) {
+        if (after != null && after < 0) {
+            throw new InvalidRequestException("after must not be negative");
+        }
+        if (limit < 1 || limit > MAX_READ_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_READ_LIMIT);
+        }
+        if (waitMs < 0) {
+            throw new InvalidRequestException("waitMs must not be negative");
+        }
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(Math.min(waitMs, properties.maxWaitMs()));
+        lock.lock();
+        try {
+            long from;
+            boolean gap;
+            if (after == null) {
+                from = oldestSequence() - 1;
+                gap = false;
+            } else if (after > nextSequence - 1) {
+                // Issued before a restart of the server
+                from = oldestSequence() - 1;
+                gap = true;
+            } else {
+                from = after;
+                gap = false;
+            }
+            while (from == nextSequence - 1 && remainingNanos > 0) {
+                try {
+                    remainingNanos = appended.awaitNanos(remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            if (from < oldestSequence() - 1) {
+                from = oldestSequence() - 1;
+                gap = true;
+            }
+            long to = Math.min(nextSequence - 1, from + limit);
+            List<GroupEvent> page = new ArrayList<>((int) (to - from));
+            for (long sequence = from + 1; sequence <= to; sequence++) {
+                page.add(events[slot(sequence)]);
+            }
+            return new GroupEventPage(page, to, gap);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends changes detected at the same time and wakes up waiting readers.
+     *
+     * @param timestampMs when the changes were detected, in epoch milliseconds
+     * @param changes the changes, in the order they should be read
+     */
+    void append(long timestampMs, List<GroupChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (GroupChange change : changes) {
+                events[slot(nextSequence)] = new GroupEvent(nextSequence, timestampMs, change);
+                nextSequence++;
+            }
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long oldestSequence() {
+        return Math.max(1, nextSequence - events.length);
+    }
+
+    private int slot(long sequence) {
+        return (int) ((sequence - 1) % events.length);
+    }
+}
@@ -0,0 +1,14 @@
+package com.kafkaadmin.groupevent;
+
+import java.util.List;
+
+/**
+ * Events read from the event log in one request.
+ *
+ * @param events the events, in sequence order
+ * @param lastSequence the sequence to resume after in the next request
+ * @param gap true if events after the requested sequence were dropped from the log before they
+ *            could be read, or the sequence was not issued by this server instance
+ */
+public record GroupEventPage(List<GroupEvent> events, long lastSequence, boolean gap) {
+}
@@ -0,0 +1,33 @@
+package com.kafkaadmin.groupevent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response representing events read from the consumer group event log for API responses.
+ *
+ * @param events the events, in sequence order
+ * @param lastSequence the sequence to pass as {@code after} in the next request
+ * @param gap true if events were missed because they were dropped from the log or the server restarted
+ */
+@Schema(description = "Consumer group change events")
+public record GroupEventPageResponse(
+        @Schema(description = "Events in sequence order")
+        List<GroupEventResponse> events,
+
+        @Schema(description = "Sequence to pass as 'after' in the next request", example = "42")
+        long lastSequence,
+
+        @Schema(description = "Whether events were missed since the requested sequence", example = "false")
+        boolean gap
+) {
+    public static GroupEventPageResponse from(GroupEventPage page) {
+        return new GroupEventPageResponse(
+                page.events().stream()
+                        .map(GroupEventResponse::from)
+                        .toList(),
+                page.lastSequence(),
+                page.gap());
+    }
+}
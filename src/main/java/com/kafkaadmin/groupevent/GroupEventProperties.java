@@ -0,0 +1,36 @@
+package com.kafkaadmin.groupevent;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the consumer group event feed.
+ *
+ * <p>Properties are bound from the {@code kafka.admin.group-events} prefix in application configuration.
+ *
+ * @param enabled whether consumer groups are described in the background to detect changes
+ * @param pollIntervalMs delay in milliseconds between two describes of all groups
+ * @param logSize number of events kept; older events are dropped
+ * @param maxWaitMs maximum time in milliseconds a long-poll request may wait for new events
+ */
+@ConfigurationProperties(prefix = "kafka.admin.group-events")
+public record GroupEventProperties(
+        Boolean enabled,
+        long pollIntervalMs,
+        int logSize,
+        long maxWaitMs
+) {
+    public GroupEventProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (pollIntervalMs <= 0) {
+            pollIntervalMs = 15000;
+        }
+        if (logSize <= 0) {
+            logSize = 10000;
+        }
+        if (maxWaitMs <= 0) {
+            maxWaitMs = 30000;
+        }
+    }
+}
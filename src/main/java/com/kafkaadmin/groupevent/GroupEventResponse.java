@@ -0,0 +1,56 @@
+package com.kafkaadmin.groupevent;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Response representing a consumer group change event for API responses.
+ *
+ * @param sequence position in the event log
+ * @param timestamp when the change was detected
+ * @param groupId the consumer group ID
+ * @param type the kind of change
+ * @param memberId the member concerned, or null for group-level changes
+ * @param previousValue the value before the change, or null if there was none
+ * @param currentValue the value after the change, or null if there is none
+ */
+@Schema(description = "Consumer group change event")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GroupEventResponse(
+        @Schema(description = "Sequence number, pass as 'after' to resume", example = "42")
+        long sequence,
+
+        @Schema(description = "Detection time", example = "2026-01-01T00:00:00Z")
+        Instant timestamp,
+
+        @Schema(description = "Consumer group ID", example = "my-consumer-group")
+        String groupId,
+
+        @Schema(description = "Kind of change", example = "STATE_CHANGED")
+        GroupEventType type,
+
+        @Schema(description = "Member ID for member and assignment changes")
+        String memberId,
+
+        @Schema(description = "Value before the change: state, coordinator ID or assignment hash",
+                example = "Stable")
+        String previousValue,
+
+        @Schema(description = "Value after the change: state, coordinator ID or assignment hash",
+                example = "PreparingRebalance")
+        String currentValue
+) {
+    public static GroupEventResponse from(GroupEvent event) {
+        GroupChange change = event.change();
+        return new GroupEventResponse(
+                event.sequence(),
+                Instant.ofEpochMilli(event.timestampMs()),
+                change.groupId(),
+                change.type(),
+                change.memberId(),
+                change.previousValue(),
+                change.currentValue());
+    }
+}
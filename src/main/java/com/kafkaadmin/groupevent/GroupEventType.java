@@ -0,0 +1,28 @@
+package com.kafkaadmin.groupevent;
+
+/**
+ * Kind of change detected between two describes of a consumer group.
+ */
+public enum GroupEventType {
+
+    /** The group appeared. */
+    GROUP_CREATED,
+
+    /** The group disappeared. */
+    GROUP_DELETED,
+
+    /** The group state changed, e.g. from Stable to PreparingRebalance or Empty. */
+    STATE_CHANGED,
+
+    /** The group moved to another coordinator broker. */
+    COORDINATOR_CHANGED,
+
+    /** A member joined the group. */
+    MEMBER_JOINED,
+
+    /** A member left the group. */
+    MEMBER_LEFT,
+
+    /** The partitions assigned to a member changed. */
+    ASSIGNMENT_CHANGED
+}
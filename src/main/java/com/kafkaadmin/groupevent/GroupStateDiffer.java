@@ -0,0 +1,166 @@
+package com.kafkaadmin.groupevent;
+
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.consumergroup.ConsumerGroup;
+import com.kafkaadmin.consumergroup.ConsumerGroupDescriptions;
+import com.kafkaadmin.consumergroup.ConsumerGroupMember;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Service periodically describing every consumer group and recording the differences in {@link GroupEventLog}.
+ *
+ * <p>Each poll reads the descriptions of all groups from {@link ConsumerGroupDescriptions}, reusing
+ * a describe made by another background task within the poll interval, then compares state,
+ * coordinator, member set and a hash of each member's assignment against the previous poll.
+ * Only this fingerprint of the previous poll is kept, not the descriptions themselves. The first
+ * poll only establishes the baseline. A failed poll is skipped and the next one is compared
+ * against the last successful one, and groups whose describe failed keep their previous
+ * fingerprint, so failures never show up as changes.
+ */
+@Service
+public class GroupStateDiffer {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupStateDiffer.class);
+
+    private static final String UNKNOWN_STATE = "Unknown";
+
+    private final ConsumerGroupDescriptions groupDescriptions;
+    private final GroupEventLog groupEventLog;
+    private final GroupEventProperties properties;
+    private final Clock clock;
+    private Map<String, GroupFingerprint> previous;
+
+    /**
+     * Creates a differ with the given group descriptions, event log and properties.
+     *
+     * @param groupDescriptions the shared source of consumer group descriptions
+     * @param groupEventLog the log receiving the detected changes
+     * @param properties the event feed configuration
+     */
+    @Autowired
+    public GroupStateDiffer(ConsumerGroupDescriptions groupDescriptions, GroupEventLog groupEventLog,
+                            GroupEventProperties properties) {
+        this(groupDescriptions, groupEventLog, properties, Clock.systemUTC());
+    }
+
+    GroupStateDiffer(ConsumerGroupDescriptions groupDescriptions, GroupEventLog groupEventLog,
+                     GroupEventProperties properties, Clock clock) {
+        this.groupDescriptions = groupDescriptions;
+        this.groupEventLog = groupEventLog;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Describes every consumer group and records the changes since the previous poll.
+     */
+    @Scheduled(fixedDelayString = "${kafka.admin.group-events.poll-interval-ms:15000}")
+    public void poll() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        List<ConsumerGroup> groups;
+        try {
+            groups = groupDescriptions.describeAll(properties.pollIntervalMs());
+        } catch (KafkaAdminException e) {
+            log.warn("Failed to describe consumer groups for change detection: {}", e.getMessage());
+            return;
+        }
+
+        Map<String, GroupFingerprint> current = HashMap.newHashMap(groups.size());
+        for (ConsumerGroup group : groups) {
+            if (UNKNOWN_STATE.equals(group.state())) {
+                GroupFingerprint last = previous == null ? null : previous.get(group.groupId());
+                if (last != null) {
+                    current.put(group.groupId(), last);
+                }
+                continue;
+            }
+            current.put(group.groupId(), GroupFingerprint.of(group));
+        }
+
+        if (previous != null) {
+            List<GroupChange> changes = diff(previous, current);
+            groupEventLog.append(clock.millis(), changes);
+            log.debug("Consumer groups compared: {} groups, {} changes", current.size(), changes.size());
+        }
+        previous = current;
+    }
+
+    private static List<GroupChange> diff(Map<String, GroupFingerprint> before, Map<String, GroupFingerprint> after) {
+        TreeSet<String> groupIds = new TreeSet<>(before.keySet());
+        groupIds.addAll(after.keySet());
+        List<GroupChange> changes = new ArrayList<>();
+        for (String groupId : groupIds) {
+            GroupFingerprint old = before.get(groupId);
+            GroupFingerprint now = after.get(groupId);
+            if (old == null) {
+                changes.add(new GroupChange(groupId, GroupEventType.GROUP_CREATED, null, null, now.state()));
+                continue;
+            }
+            if (now == null) {
+                changes.add(new GroupChange(groupId, GroupEventType.GROUP_DELETED, null, old.state(), null));
+                continue;
+            }
+            if (!old.state().equals(now.state())) {
+                changes.add(new GroupChange(groupId, GroupEventType.STATE_CHANGED, null, old.state(), now.state()));
+            }
+            if (old.coordinatorId() != now.coordinatorId()) {
+                changes.add(new GroupChange(groupId, GroupEventType.COORDINATOR_CHANGED, null,
+                        String.valueOf(old.coordinatorId()), String.valueOf(now.coordinatorId())));
+            }
+            diffMembers(groupId, old.assignmentHashes(), now.assignmentHashes(), changes);
+        }
+        return changes;
+    }
+
+    private static void diffMembers(String groupId, Map<String, Integer> before, Map<String, Integer> after,
+                                    List<GroupChange> changes) {
+        for (Map.Entry<String, Integer> member : before.entrySet()) {
+            if (!after.containsKey(member.getKey())) {
+                changes.add(new GroupChange(groupId, GroupEventType.MEMBER_LEFT, member.getKey(), null, null));
+            }
+        }
+        for (Map.Entry<String, Integer> member : after.entrySet()) {
+            Integer oldHash = before.get(member.getKey());
+            if (oldHash == null) {
+                changes.add(new GroupChange(groupId, GroupEventType.MEMBER_JOINED, member.getKey(), null, null));
+            } else if (!Objects.equals(oldHash, member.getValue())) {
+                changes.add(new GroupChange(groupId, GroupEventType.ASSIGNMENT_CHANGED, member.getKey(),
+                        Integer.toHexString(oldHash), Integer.toHexString(member.getValue())));
+            }
+        }
+    }
+
+    /**
+     * Parts of a group description compared between polls.
+     *
+     * @param state the group state
+     * @param coordinatorId the coordinator broker ID
+     * @param assignmentHashes hash of the assignment per member ID, sorted by member ID
+     */
+    private record GroupFingerprint(String state, int coordinatorId, Map<String, Integer> assignmentHashes) {
+
+        static GroupFingerprint of(ConsumerGroup group) {
+            Map<String, Integer> assignmentHashes = new TreeMap<>();
+            for (ConsumerGroupMember member : group.members()) {
+                assignmentHashes.put(member.consumerId(), member.assignments().hashCode());
+            }
+            return new GroupFingerprint(group.state(), group.coordinatorId(), assignmentHashes);
+        }
+    }
+}
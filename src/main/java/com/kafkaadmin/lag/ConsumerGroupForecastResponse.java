@@ -0,0 +1,44 @@
+package com.kafkaadmin.lag;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response representing the catch-up forecast of a consumer group for API responses.
+ *
+ * @param groupId the consumer group ID
+ * @param timestamp time of the newest sample the forecast is based on, or null if the group has
+ *                  not been sampled
+ * @param totalLag sum of the lag of every partition at the newest sample
+ * @param trend direction in which the group's lag is heading
+ * @param etaMs estimated milliseconds from the newest sample until every partition has caught up,
+ *              or null if the group is not catching up
+ * @param partitions forecast per partition sorted by topic and partition
+ */
+@Schema(description = "Catch-up forecast of a consumer group")
+public record ConsumerGroupForecastResponse(
+        @Schema(description = "Consumer group ID", example = "my-consumer-group")
+        String groupId,
+
+        @Schema(description = "Time of the newest sample", example = "2026-01-01T00:00:00Z")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Instant timestamp,
+
+        @Schema(description = "Total lag at the newest sample", example = "15000")
+        long totalLag,
+
+        @Schema(description = "Lag trend of the group", example = "CONVERGING")
+        LagTrend trend,
+
+        @Schema(description = "Estimated time until every partition has caught up, in milliseconds",
+                example = "243902")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long etaMs,
+
+        @Schema(description = "Forecast per partition")
+        List<PartitionForecastResponse> partitions
+) {
+}
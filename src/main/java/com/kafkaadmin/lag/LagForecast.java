@@ -0,0 +1,51 @@
+package com.kafkaadmin.lag;
+
+/**
+ * Catch-up forecast for one group-partition, derived from the sampled offsets.
+ *
+ * <p>Rates are the slopes of least-squares lines fitted through the recent committed offsets
+ * and end offsets, so a single burst or pause moves them less than a two-point difference would.
+ *
+ * @param timestampMs time of the newest sample the forecast is based on, in epoch milliseconds
+ * @param lag lag at the newest sample
+ * @param consumeRate committed offsets advanced per second
+ * @param produceRate end offsets advanced per second
+ * @param samples number of samples the rates were fitted over; fewer than two means the rates are unknown
+ */
+public record LagForecast(
+        long timestampMs,
+        long lag,
+        double consumeRate,
+        double produceRate,
+        int samples
+) {
+
+    /**
+     * Returns the direction in which the lag is heading.
+     *
+     * @return the lag trend
+     */
+    public LagTrend trend() {
+        if (lag == 0) {
+            return LagTrend.CAUGHT_UP;
+        }
+        if (samples < 2) {
+            return LagTrend.UNKNOWN;
+        }
+        return consumeRate > produceRate ? LagTrend.CONVERGING : LagTrend.DIVERGING;
+    }
+
+    /**
+     * Estimates the time until the lag reaches zero, counted from the newest sample.
+     *
+     * @return the estimated time in milliseconds, 0 if caught up, or -1 if the group is not
+     *         catching up or the trend is unknown
+     */
+    public long etaMs() {
+        return switch (trend()) {
+            case CAUGHT_UP -> 0;
+            case CONVERGING -> Math.round(lag * 1000.0 / (consumeRate - produceRate));
+            case DIVERGING, UNKNOWN -> -1;
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.ETags;
+import com.kafkaadmin.common.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * REST controller for sampled consumer lag.
+ *
+ * <p>Provides endpoints serving the offset history recorded by the background lag sampler and
+ * the catch-up forecasts derived from it.
+ */
+@RestController
+@RequestMapping("/api/v1/consumer-groups")
+@Tag(name = "Consumer Groups", description = "Kafka consumer group management operations")
+public class LagHistoryController {
+
+    private final LagHistoryService lagHistoryService;
+
+    /**
+     * Creates a controller with the given service.
+     *
+     * @param lagHistoryService the lag history service
+     */
+    public LagHistoryController(LagHistoryService lagHistoryService) {
+        this.lagHistoryService = lagHistoryService;
+    }
+
+    /**
+     * Retrieves the sampled offset history of a consumer group.
+     *
+     * @param groupId the consumer group ID
+     * @param request the current request, used for {@code If-None-Match} handling
+     * @return history per partition sorted by topic and partition
+     */
+    @GetMapping("/{groupId}/offsets/history")
+    @Operation(summary = "Get consumer group offset history",
+            description = "Returns the sampled committed offsets, end offsets and lag of a consumer group over time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully retrieved offset history, empty if the group has not been sampled"),
+            @ApiResponse(responseCode = "304", description = "No lag sample taken since the given ETag"),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<PartitionLagHistoryResponse>> getOffsetHistory(
+            @Parameter(description = "Consumer group ID", required = true)
+            @PathVariable String groupId,
+            WebRequest request) {
+        return ETags.versioned(request, lagHistoryService.sampledAtMs(),
+                () -> lagHistoryService.getOffsetHistory(groupId));
+    }
+
+    /**
+     * Forecasts when a consumer group will catch up.
+     *
+     * @param groupId the consumer group ID
+     * @param request the current request, used for {@code If-None-Match} handling
+     * @return the group forecast with a forecast per partition
+     */
+    @GetMapping("/{groupId}/offsets/forecast")
+    @Operation(summary = "Get consumer group catch-up forecast",
+            description = "Estimates the time until the lag of a consumer group reaches zero from the rates "
+                    + "fitted over its recent offset samples, and flags groups and partitions that will not catch up")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully forecast, with trend UNKNOWN if the group has not been sampled"),
+            @ApiResponse(responseCode = "304", description = "No lag sample taken since the given ETag"),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ConsumerGroupForecastResponse> getForecast(
+            @Parameter(description = "Consumer group ID", required = true)
+            @PathVariable String groupId,
+            WebRequest request) {
+        return ETags.versioned(request, lagHistoryService.sampledAtMs(), () -> lagHistoryService.getForecast(groupId));
+    }
+}
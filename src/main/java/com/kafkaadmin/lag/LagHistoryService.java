@@ -0,0 +1,237 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service holding the sampled offset history of every consumer group partition.
+ *
+ * <p>Each group-partition keeps its samples in a fixed-size {@link LagRingBuffer}, and the
+ * number of tracked group-partitions is capped, so memory stays bounded by
+ * {@code maxPartitions * historySize} samples of three longs each. History is written only by
+ * {@link LagSampler}; readers copy samples out and never block a sample for longer than one copy.
+ */
+@Service
+public class LagHistoryService {
+
+    private static final Comparator<PartitionLagHistory> PARTITION_ORDER =
+            Comparator.comparing(PartitionLagHistory::topic).thenComparingInt(PartitionLagHistory::partition);
+
+    private static final Comparator<PartitionForecastResponse> FORECAST_ORDER = Comparator
+            .comparing(PartitionForecastResponse::topic)
+            .thenComparingInt(PartitionForecastResponse::partition);
+
+    private final LagProperties properties;
+    private final Map<String, Map<PartitionKey, LagRingBuffer>> groups = new ConcurrentHashMap<>();
+    private final AtomicInteger trackedPartitions = new AtomicInteger();
+    private volatile long sampledAtMs = -1;
+
+    /**
+     * Creates a service with the given properties.
+     *
+     * @param properties the lag sampling configuration
+     */
+    public LagHistoryService(LagProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Retrieves the sampled offset history of a consumer group.
+     *
+     * @param groupId the consumer group ID
+     * @return history per partition sorted by topic and partition, or empty if the group has not
+     *         been sampled
+     */
+    public List<PartitionLagHistoryResponse> getOffsetHistory(String groupId) {
+        return history(groupId).stream()
+                .map(PartitionLagHistoryResponse::from)
+                .toList();
+    }
+
+    /**
+     * Returns the sampled offset history of a consumer group.
+     *
+     * @param groupId the consumer group ID
+     * @return history per partition sorted by topic and partition, or empty if the group has not
+     *         been sampled
+     */
+    public List<PartitionLagHistory> history(String groupId) {
+        Map<PartitionKey, LagRingBuffer> partitions = groups.get(groupId);
+        if (partitions == null) {
+            return List.of();
+        }
+        return partitions.entrySet().stream()
+                .map(entry -> new PartitionLagHistory(
+                        entry.getKey().topic(), entry.getKey().partition(), entry.getValue().samples()))
+                .sorted(PARTITION_ORDER)
+                .toList();
+    }
+
+    /**
+     * Forecasts when a consumer group will catch up, based on its sampled offsets.
+     *
+     * <p>The group has caught up once every partition has. It is diverging if any lagging
+     * partition is, and its estimate is that of the slowest converging partition otherwise.
+     *
+     * @param groupId the consumer group ID
+     * @return the group and partition forecasts; the trend is unknown if the group has not been sampled
+     */
+    public ConsumerGroupForecastResponse getForecast(String groupId) {
+        Map<PartitionKey, LagRingBuffer> partitions = groups.getOrDefault(groupId, Map.of());
+        List<PartitionForecastResponse> forecasts = new ArrayList<>(partitions.size());
+        long timestampMs = -1;
+        long totalLag = 0;
+        long etaMs = 0;
+        boolean diverging = false;
+        boolean unknown = partitions.isEmpty();
+        for (Map.Entry<PartitionKey, LagRingBuffer> entry : partitions.entrySet()) {
+            LagForecast forecast = entry.getValue().forecast(properties.forecastWindow());
+            if (forecast == null) {
+                continue;
+            }
+            forecasts.add(PartitionForecastResponse.from(entry.getKey().topic(), entry.getKey().partition(), forecast));
+            timestampMs = Math.max(timestampMs, forecast.timestampMs());
+            totalLag += forecast.lag();
+            switch (forecast.trend()) {
+                case CONVERGING -> etaMs = Math.max(etaMs, forecast.etaMs());
+                case DIVERGING -> diverging = true;
+                case UNKNOWN -> unknown = true;
+                case CAUGHT_UP -> {
+                }
+            }
+        }
+        forecasts.sort(FORECAST_ORDER);
+
+        LagTrend trend;
+        if (diverging) {
+            trend = LagTrend.DIVERGING;
+        } else if (unknown) {
+            trend = LagTrend.UNKNOWN;
+        } else {
+            trend = totalLag == 0 ? LagTrend.CAUGHT_UP : LagTrend.CONVERGING;
+        }
+        boolean etaKnown = trend == LagTrend.CAUGHT_UP || trend == LagTrend.CONVERGING;
+        return new ConsumerGroupForecastResponse(
+                groupId,
+                timestampMs < 0 ? null : Instant.ofEpochMilli(timestampMs),
+                totalLag,
+                trend,
+                etaKnown ? etaMs : null,
+                forecasts);
+    }
+
+    /**
+     * Estimates how far behind in time a group is on a partition, based on the sampled end offsets.
+     *
+     * @param groupId the consumer group ID
+     * @param offset the group's current offset on the partition
+     * @param nowMs the time the offset was fetched, in epoch milliseconds
+     * @return the estimated time lag in milliseconds, or null if the partition has no usable history
+     */
+    public Long timeLagMs(String groupId, ConsumerGroupOffset offset, long nowMs) {
+        Map<PartitionKey, LagRingBuffer> partitions = groups.get(groupId);
+        LagRingBuffer buffer = partitions == null
+                ? null
+                : partitions.get(new PartitionKey(offset.topic(), offset.partition()));
+        if (buffer == null) {
+            return offset.lag() == 0 ? 0L : null;
+        }
+        long timeLagMs = buffer.timeLagMs(offset.currentOffset(), offset.endOffset(), nowMs);
+        return timeLagMs < 0 ? null : timeLagMs;
+    }
+
+    /**
+     * Returns the number of group-partitions currently tracked.
+     *
+     * @return the tracked group-partition count
+     */
+    public int trackedPartitions() {
+        return trackedPartitions.get();
+    }
+
+    /**
+     * Returns when the latest completed sample was taken, which versions the recorded history.
+     *
+     * @return the sample time in epoch milliseconds, or -1 if no sample has completed
+     */
+    public long sampledAtMs() {
+        return sampledAtMs;
+    }
+
+    /**
+     * Marks a sample as completed, once all groups in it have been recorded.
+     *
+     * @param timestampMs when the sample was taken, in epoch milliseconds
+     */
+    void sampled(long timestampMs) {
+        sampledAtMs = timestampMs;
+    }
+
+    /**
+     * Records one sample of a group's offsets and drops partitions the group no longer commits.
+     *
+     * @param groupId the consumer group ID
+     * @param timestampMs when the offsets were fetched, in epoch milliseconds
+     * @param offsets the group's current offsets
+     * @return the number of partitions not recorded because the tracking limit was reached
+     */
+    int record(String groupId, long timestampMs, List<ConsumerGroupOffset> offsets) {
+        Map<PartitionKey, LagRingBuffer> partitions = groups.computeIfAbsent(groupId, id -> new ConcurrentHashMap<>());
+        Set<PartitionKey> sampled = new HashSet<>();
+        int skipped = 0;
+        for (ConsumerGroupOffset offset : offsets) {
+            PartitionKey key = new PartitionKey(offset.topic(), offset.partition());
+            sampled.add(key);
+            LagRingBuffer buffer = partitions.get(key);
+            if (buffer == null) {
+                if (trackedPartitions.get() >= properties.maxPartitions()) {
+                    skipped++;
+                    continue;
+                }
+                buffer = new LagRingBuffer(properties.historySize());
+                partitions.put(key, buffer);
+                trackedPartitions.incrementAndGet();
+            }
+            buffer.add(timestampMs, offset.currentOffset(), offset.endOffset());
+        }
+
+        Iterator<PartitionKey> keys = partitions.keySet().iterator();
+        while (keys.hasNext()) {
+            if (!sampled.contains(keys.next())) {
+                keys.remove();
+                trackedPartitions.decrementAndGet();
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * Drops the history of every group not in the given set.
+     *
+     * @param groupIds the IDs of the groups that still exist
+     */
+    void retainGroups(Set<String> groupIds) {
+        Iterator<Map.Entry<String, Map<PartitionKey, LagRingBuffer>>> entries = groups.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Map<PartitionKey, LagRingBuffer>> entry = entries.next();
+            if (!groupIds.contains(entry.getKey())) {
+                entries.remove();
+                trackedPartitions.addAndGet(-entry.getValue().size());
+            }
+        }
+    }
+
+    private record PartitionKey(String topic, int partition) {
+    }
+}
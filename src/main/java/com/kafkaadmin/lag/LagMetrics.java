@@ -0,0 +1,158 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Publishes consumer lag from each sample as Micrometer gauges.
+ *
+ * <p>Each series is backed by an {@link AtomicLong} that is registered once and updated in place
+ * when a sample arrives, so a metrics scrape only reads the current values. A group or partition
+ * can be missing from one sample because its offset lookup failed, so a missing series keeps its
+ * last value. It is removed from the registry only after it has been missing from a configured
+ * number of consecutive samples, when its group, topic or partition is most likely gone.
+ *
+ * <p>Lag is published per group as {@code kafka.consumer.group.lag}, per group and topic as
+ * {@code kafka.consumer.group.topic.lag} and, if enabled, per group-partition as
+ * {@code kafka.consumer.group.partition.lag}. Allow and deny patterns for groups and topics keep
+ * the number of series under control; group totals only include published topics.
+ */
+@Component
+public class LagMetrics implements LagSampleListener {
+
+    static final String GROUP_LAG_METRIC = "kafka.consumer.group.lag";
+    static final String TOPIC_LAG_METRIC = "kafka.consumer.group.topic.lag";
+    static final String PARTITION_LAG_METRIC = "kafka.consumer.group.partition.lag";
+
+    private final MeterRegistry meterRegistry;
+    private final LagMetricsProperties properties;
+    private final NameFilter groupFilter;
+    private final NameFilter topicFilter;
+    private final Map<SeriesKey, Series> series = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a lag metrics publisher.
+     *
+     * @param meterRegistry the registry to publish gauges to
+     * @param properties the lag metrics configuration
+     */
+    public LagMetrics(MeterRegistry meterRegistry, LagMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.groupFilter = new NameFilter(properties.groupAllow(), properties.groupDeny());
+        this.topicFilter = new NameFilter(properties.topicAllow(), properties.topicDeny());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSample(long timestampMs, Map<String, List<ConsumerGroupOffset>> offsets) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        Set<SeriesKey> published = new HashSet<>();
+        offsets.forEach((groupId, groupOffsets) -> {
+            if (!groupFilter.matches(groupId)) {
+                return;
+            }
+            long groupLag = 0;
+            Map<String, Long> topicLag = new HashMap<>();
+            for (ConsumerGroupOffset offset : groupOffsets) {
+                if (!topicFilter.matches(offset.topic())) {
+                    continue;
+                }
+                groupLag += offset.lag();
+                topicLag.merge(offset.topic(), offset.lag(), Long::sum);
+                if (properties.partitionLevel()) {
+                    publish(published, new SeriesKey(PARTITION_LAG_METRIC, groupId, offset.topic(), offset.partition()),
+                            offset.lag());
+                }
+            }
+            topicLag.forEach((topic, lag) -> publish(published, new SeriesKey(TOPIC_LAG_METRIC, groupId, topic, -1), lag));
+            publish(published, new SeriesKey(GROUP_LAG_METRIC, groupId, null, -1), groupLag);
+        });
+
+        Iterator<Map.Entry<SeriesKey, Series>> entries = series.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<SeriesKey, Series> entry = entries.next();
+            if (!published.contains(entry.getKey())
+                    && entry.getValue().missedSamples().incrementAndGet() >= properties.removeAfterMissedSamples()) {
+                meterRegistry.remove(entry.getValue().gauge());
+                entries.remove();
+            }
+        }
+    }
+
+    private void publish(Set<SeriesKey> published, SeriesKey key, long lag) {
+        published.add(key);
+        Series current = series.computeIfAbsent(key, this::register);
+        current.value().set(lag);
+        current.missedSamples().set(0);
+    }
+
+    private Series register(SeriesKey key) {
+        AtomicLong value = new AtomicLong();
+        Tags tags = Tags.of("group", key.groupId());
+        if (key.topic() != null) {
+            tags = tags.and("topic", key.topic());
+        }
+        if (key.partition() >= 0) {
+            tags = tags.and("partition", Integer.toString(key.partition()));
+        }
+        Gauge gauge = Gauge.builder(key.metric(), value, AtomicLong::get)
+                .description("Consumer lag in offsets from the latest background sample")
+                .baseUnit("messages")
+                .tags(tags)
+                .register(meterRegistry);
+        return new Series(value, gauge, new AtomicInteger());
+    }
+
+    private record SeriesKey(String metric, String groupId, String topic, int partition) {
+    }
+
+    private record Series(AtomicLong value, Gauge gauge, AtomicInteger missedSamples) {
+    }
+
+    /**
+     * Allow and deny patterns with a cache of past decisions, as names repeat in every sample.
+     */
+    private static final class NameFilter {
+
+        private static final int MAX_DECISIONS = 100_000;
+
+        private final List<Pattern> allow;
+        private final List<Pattern> deny;
+        private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+        NameFilter(List<String> allow, List<String> deny) {
+            this.allow = allow.stream().map(Pattern::compile).toList();
+            this.deny = deny.stream().map(Pattern::compile).toList();
+        }
+
+        boolean matches(String name) {
+            if (allow.isEmpty() && deny.isEmpty()) {
+                return true;
+            }
+            if (decisions.size() > MAX_DECISIONS) {
+                decisions.clear();
+            }
+            return decisions.computeIfAbsent(name, n ->
+                    (allow.isEmpty() || allow.stream().anyMatch(p -> p.matcher(n).matches()))
+                            && deny.stream().noneMatch(p -> p.matcher(n).matches()));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.kafkaadmin.lag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Configuration properties for consumer lag gauges.
+ *
+ * <p>Properties are bound from the {@code kafka.admin.lag.metrics} prefix in application configuration.
+ * Patterns are regular expressions matched against the whole group ID or topic name. A name is
+ * published if it matches any allow pattern (or no allow patterns are configured) and no deny pattern.
+ *
+ * @param enabled whether lag gauges are published
+ * @param partitionLevel whether a gauge is published per group-partition in addition to per group and topic
+ * @param groupAllow patterns of group IDs to publish
+ * @param groupDeny patterns of group IDs not to publish
+ * @param topicAllow patterns of topics to publish
+ * @param topicDeny patterns of topics not to publish
+ * @param removeAfterMissedSamples number of consecutive samples a series must be missing from before it is removed
+ */
+@ConfigurationProperties(prefix = "kafka.admin.lag.metrics")
+public record LagMetricsProperties(
+        Boolean enabled,
+        Boolean partitionLevel,
+        List<String> groupAllow,
+        List<String> groupDeny,
+        List<String> topicAllow,
+        List<String> topicDeny,
+        Integer removeAfterMissedSamples
+) {
+    public LagMetricsProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (partitionLevel == null) {
+            partitionLevel = false;
+        }
+        groupAllow = groupAllow == null ? List.of() : List.copyOf(groupAllow);
+        groupDeny = groupDeny == null ? List.of() : List.copyOf(groupDeny);
+        topicAllow = topicAllow == null ? List.of() : List.copyOf(topicAllow);
+        topicDeny = topicDeny == null ? List.of() : List.copyOf(topicDeny);
+        if (removeAfterMissedSamples == null || removeAfterMissedSamples < 1) {
+            removeAfterMissedSamples = 3;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.kafkaadmin.lag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for background consumer lag sampling.
+ *
+ * <p>Properties are bound from the {@code kafka.admin.lag} prefix in application configuration.
+ *
+ * @param enabled whether consumer group offsets are sampled in the background
+ * @param sampleIntervalMs delay in milliseconds between samples
+ * @param historySize number of samples kept per group-partition
+ * @param maxPartitions maximum number of group-partitions tracked; further partitions are not recorded
+ * @param forecastWindow number of newest samples the catch-up forecast is fitted over
+ */
+@ConfigurationProperties(prefix = "kafka.admin.lag")
+public record LagProperties(
+        Boolean enabled,
+        long sampleIntervalMs,
+        int historySize,
+        int maxPartitions,
+        int forecastWindow
+) {
+    public LagProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (sampleIntervalMs <= 0) {
+            sampleIntervalMs = 30000;
+        }
+        if (historySize <= 0) {
+            historySize = 60;
+        }
+        if (maxPartitions <= 0) {
+            maxPartitions = 100000;
+        }
+        if (forecastWindow < 2) {
+            forecastWindow = 10;
+        }
+    }
+}
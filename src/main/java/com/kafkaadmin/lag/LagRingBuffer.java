@@ -0,0 +1,178 @@
+package com.kafkaadmin.lag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size ring buffer of lag samples for one group-partition.
+ *
+ * <p>Samples are stored interleaved in a single {@code long[]}, so recording a sample neither
+ * allocates nor boxes and a buffer costs one array regardless of how many samples it has seen.
+ * Once full, each new sample overwrites the oldest one.
+ */
+final class LagRingBuffer {
+
+    private static final int FIELDS = 3;
+
+    private final long[] samples;
+    private final int capacity;
+    private int next;
+    private int size;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the number of samples kept
+     */
+    LagRingBuffer(int capacity) {
+        this.capacity = capacity;
+        this.samples = new long[capacity * FIELDS];
+    }
+
+    /**
+     * Records a sample, overwriting the oldest one if the buffer is full.
+     *
+     * @param timestampMs when the sample was taken, in epoch milliseconds
+     * @param committedOffset last committed offset of the group
+     * @param endOffset end offset of the partition
+     */
+    synchronized void add(long timestampMs, long committedOffset, long endOffset) {
+        int base = next * FIELDS;
+        samples[base] = timestampMs;
+        samples[base + 1] = committedOffset;
+        samples[base + 2] = endOffset;
+        next = (next + 1) % capacity;
+        if (size < capacity) {
+            size++;
+        }
+    }
+
+    /**
+     * Returns the number of samples currently held.
+     *
+     * @return the sample count, at most the capacity
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Estimates how far behind in time a committed offset is.
+     *
+     * <p>The estimate is the time elapsed since the end offset of the partition passed the
+     * committed offset. It is interpolated between the two samples around that point, treating
+     * the current end offset as the newest sample. If the committed offset lies before the oldest
+     * sample, it is extrapolated from the average produce rate over the sampled window.
+     *
+     * @param committedOffset the committed offset of the group
+     * @param endOffset the current end offset of the partition
+     * @param nowMs the current time in epoch milliseconds
+     * @return the estimated time lag in milliseconds, or -1 if it cannot be estimated
+     */
+    synchronized long timeLagMs(long committedOffset, long endOffset, long nowMs) {
+        if (committedOffset >= endOffset) {
+            return 0;
+        }
+        long newerTime = nowMs;
+        long newerEnd = endOffset;
+        for (int i = 0; i < size; i++) {
+            int base = ((next - 1 - i + 2 * capacity) % capacity) * FIELDS;
+            long time = samples[base];
+            long end = samples[base + 2];
+            if (time > newerTime || end > newerEnd) {
+                // Clock or offset went backwards, e.g. the topic was recreated
+                break;
+            }
+            if (end <= committedOffset) {
+                double fraction = (double) (committedOffset - end) / (newerEnd - end);
+                long reachedAt = time + (long) (fraction * (newerTime - time));
+                return Math.max(0, nowMs - reachedAt);
+            }
+            newerTime = time;
+            newerEnd = end;
+        }
+        if (newerTime >= nowMs || newerEnd >= endOffset) {
+            return -1;
+        }
+        double offsetsPerMs = (double) (endOffset - newerEnd) / (nowMs - newerTime);
+        return nowMs - newerTime + (long) ((newerEnd - committedOffset) / offsetsPerMs);
+    }
+
+    /**
+     * Fits consume and produce rates over the newest samples.
+     *
+     * <p>Both rates are least-squares slopes over at most {@code window} samples. Samples from
+     * before the clock or an offset last went backwards, e.g. because the group was reset or the
+     * topic recreated, are left out.
+     *
+     * @param window the maximum number of samples to fit over
+     * @return the forecast as of the newest sample, or null if the buffer is empty
+     */
+    synchronized LagForecast forecast(int window) {
+        if (size == 0) {
+            return null;
+        }
+        int newest = ((next - 1 + capacity) % capacity) * FIELDS;
+        long newestTime = samples[newest];
+        long newestCommitted = samples[newest + 1];
+        long newestEnd = samples[newest + 2];
+
+        // Coordinates are relative to the newest sample to keep the sums small
+        double sumX = 0;
+        double sumXX = 0;
+        double sumCommitted = 0;
+        double sumXCommitted = 0;
+        double sumEnd = 0;
+        double sumXEnd = 0;
+        int count = 0;
+        long newerTime = Long.MAX_VALUE;
+        long newerCommitted = Long.MAX_VALUE;
+        long newerEnd = Long.MAX_VALUE;
+        for (int i = 0; i < Math.min(window, size); i++) {
+            int base = ((next - 1 - i + 2 * capacity) % capacity) * FIELDS;
+            long time = samples[base];
+            long committed = samples[base + 1];
+            long end = samples[base + 2];
+            if (time >= newerTime || committed > newerCommitted || end > newerEnd) {
+                break;
+            }
+            double x = time - newestTime;
+            double committedDelta = committed - newestCommitted;
+            double endDelta = end - newestEnd;
+            sumX += x;
+            sumXX += x * x;
+            sumCommitted += committedDelta;
+            sumXCommitted += x * committedDelta;
+            sumEnd += endDelta;
+            sumXEnd += x * endDelta;
+            count++;
+            newerTime = time;
+            newerCommitted = committed;
+            newerEnd = end;
+        }
+
+        long lag = Math.max(0, newestEnd - newestCommitted);
+        double denominator = count * sumXX - sumX * sumX;
+        if (count < 2 || denominator == 0) {
+            return new LagForecast(newestTime, lag, 0, 0, 1);
+        }
+        double consumeRate = (count * sumXCommitted - sumX * sumCommitted) / denominator * 1000;
+        double produceRate = (count * sumXEnd - sumX * sumEnd) / denominator * 1000;
+        return new LagForecast(newestTime, lag, consumeRate, produceRate, count);
+    }
+
+    /**
+     * Copies the samples out of the buffer.
+     *
+     * @return the samples, oldest first
+     */
+    synchronized List<LagSample> samples() {
+        List<LagSample> result = new ArrayList<>(size);
+        int first = (next - size + capacity) % capacity;
+        for (int i = 0; i < size; i++) {
+            int base = ((first + i) % capacity) * FIELDS;
+            result.add(new LagSample(samples[base], samples[base + 1], samples[base + 2]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kafkaadmin.lag;
+
+/**
+ * One sampled offset pair of a consumer group partition.
+ *
+ * @param timestampMs when the sample was taken, in epoch milliseconds
+ * @param committedOffset last committed offset of the group
+ * @param endOffset end offset of the partition
+ */
+public record LagSample(
+        long timestampMs,
+        long committedOffset,
+        long endOffset
+) {
+
+    /**
+     * Returns the offset lag of this sample.
+     *
+     * @return the difference between end offset and committed offset, never negative
+     */
+    public long lag() {
+        return Math.max(0, endOffset - committedOffset);
+    }
+}
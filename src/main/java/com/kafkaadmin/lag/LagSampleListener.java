@@ -0,0 +1,26 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives every successful lag sample taken by {@link LagSampler}.
+ *
+ * <p>Listeners are called on the sampler thread after the sample has been recorded in the
+ * history, so they should return quickly. An exception thrown by one listener is logged and
+ * does not affect the others.
+ */
+@FunctionalInterface
+public interface LagSampleListener {
+
+    /**
+     * Handles one sample.
+     *
+     * @param timestampMs when the sample was taken, in epoch milliseconds
+     * @param offsets the sampled offsets keyed by group ID; groups whose offsets could not be
+     *                fetched are missing
+     */
+    void onSample(long timestampMs, Map<String, List<ConsumerGroupOffset>> offsets);
+}
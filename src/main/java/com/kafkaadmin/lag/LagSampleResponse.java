@@ -0,0 +1,36 @@
+package com.kafkaadmin.lag;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Response representing one sampled offset pair for API responses.
+ *
+ * @param timestamp when the sample was taken
+ * @param committedOffset last committed offset
+ * @param endOffset end offset of the partition
+ * @param lag difference between end offset and committed offset
+ */
+@Schema(description = "Sampled consumer group offset")
+public record LagSampleResponse(
+        @Schema(description = "Sample time", example = "2026-01-01T00:00:00Z")
+        Instant timestamp,
+
+        @Schema(description = "Committed offset", example = "1000")
+        long committedOffset,
+
+        @Schema(description = "End offset (latest)", example = "1050")
+        long endOffset,
+
+        @Schema(description = "Consumer lag", example = "50")
+        long lag
+) {
+    public static LagSampleResponse from(LagSample sample) {
+        return new LagSampleResponse(
+                Instant.ofEpochMilli(sample.timestampMs()),
+                sample.committedOffset(),
+                sample.endOffset(),
+                sample.lag());
+    }
+}
@@ -0,0 +1,106 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.AsyncResults;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service periodically sampling the offsets of every consumer group into {@link LagHistoryService}.
+ *
+ * <p>Each sample fetches committed offsets for all groups with batched multi-group requests and
+ * end offsets through the shared end offset cache, so one sample costs a handful of requests
+ * regardless of the number of groups. A failed sample is skipped and leaves the history unchanged.
+ * Successful samples are also handed to every {@link LagSampleListener}.
+ */
+@Service
+public class LagSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(LagSampler.class);
+
+    private final AsyncKafkaAdminPort asyncKafkaAdminPort;
+    private final LagHistoryService lagHistoryService;
+    private final List<LagSampleListener> listeners;
+    private final LagProperties properties;
+    private final Clock clock;
+
+    /**
+     * Creates a sampler with the given Kafka admin port, history, listeners and properties.
+     *
+     * @param asyncKafkaAdminPort the asynchronous Kafka admin port
+     * @param lagHistoryService the history receiving the samples
+     * @param listeners further receivers of each sample
+     * @param properties the lag sampling configuration
+     */
+    @Autowired
+    public LagSampler(AsyncKafkaAdminPort asyncKafkaAdminPort, LagHistoryService lagHistoryService,
+                      List<LagSampleListener> listeners, LagProperties properties) {
+        this(asyncKafkaAdminPort, lagHistoryService, listeners, properties, Clock.systemUTC());
+    }
+
+    LagSampler(AsyncKafkaAdminPort asyncKafkaAdminPort, LagHistoryService lagHistoryService,
+               List<LagSampleListener> listeners, LagProperties properties, Clock clock) {
+        this.asyncKafkaAdminPort = asyncKafkaAdminPort;
+        this.lagHistoryService = lagHistoryService;
+        this.listeners = List.copyOf(listeners);
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Samples the offsets of every consumer group.
+     *
+     * <p>Groups that no longer exist are dropped from the history. Groups whose offsets could
+     * not be fetched keep their history and miss this sample.
+     */
+    @Scheduled(fixedDelayString = "${kafka.admin.lag.sample-interval-ms:30000}")
+    public void sample() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            List<String> groupIds = AsyncResults.await(asyncKafkaAdminPort.listConsumerGroupIds(),
+                    "sampling consumer lag");
+            Map<String, List<ConsumerGroupOffset>> offsets = AsyncResults.await(
+                    asyncKafkaAdminPort.getConsumerGroupsOffsets(groupIds), "sampling consumer lag");
+            long timestampMs = clock.millis();
+
+            lagHistoryService.retainGroups(new HashSet<>(groupIds));
+            int skipped = 0;
+            for (Map.Entry<String, List<ConsumerGroupOffset>> entry : offsets.entrySet()) {
+                skipped += lagHistoryService.record(entry.getKey(), timestampMs, entry.getValue());
+            }
+            lagHistoryService.sampled(timestampMs);
+            if (skipped > 0) {
+                log.warn("Lag history is tracking the maximum of {} partitions, {} partitions were not recorded",
+                        properties.maxPartitions(), skipped);
+            }
+            log.debug("Consumer lag sampled: {} groups, {} partitions tracked",
+                    offsets.size(), lagHistoryService.trackedPartitions());
+            notifyListeners(timestampMs, offsets);
+        } catch (KafkaAdminException e) {
+            log.warn("Failed to sample consumer lag: {}", e.getMessage());
+        }
+    }
+
+    private void notifyListeners(long timestampMs, Map<String, List<ConsumerGroupOffset>> offsets) {
+        for (LagSampleListener listener : listeners) {
+            try {
+                listener.onSample(timestampMs, offsets);
+            } catch (RuntimeException e) {
+                log.warn("Lag sample listener {} failed", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST controller for live consumer lag.
+ *
+ * <p>Provides a Server-Sent Events endpoint pushing lag updates of one or more consumer groups.
+ */
+@RestController
+@RequestMapping("/api/v1/consumer-groups")
+@Tag(name = "Consumer Groups", description = "Kafka consumer group management operations")
+public class LagStreamController {
+
+    private final LagStreamService lagStreamService;
+
+    /**
+     * Creates a controller with the given service.
+     *
+     * @param lagStreamService the lag stream service
+     */
+    public LagStreamController(LagStreamService lagStreamService) {
+        this.lagStreamService = lagStreamService;
+    }
+
+    /**
+     * Streams live lag updates of consumer groups.
+     *
+     * @param groupIds the consumer group IDs to follow
+     * @return the event stream
+     */
+    @GetMapping(value = "/lag/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream consumer group lag",
+            description = "Pushes a snapshot event per group followed by delta events with the partitions "
+                    + "whose offsets changed, fetched on a server-side interval shared by all subscribers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream of lag updates",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = LagUpdateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No group or too many groups given",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Maximum number of subscriptions reached",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public SseEmitter streamLag(
+            @Parameter(description = "Consumer group IDs to follow, repeated or comma-separated", required = true)
+            @RequestParam("groupId") List<String> groupIds) {
+        return lagStreamService.subscribe(groupIds);
+    }
+}
@@ -0,0 +1,36 @@
+package com.kafkaadmin.lag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the live consumer lag stream.
+ *
+ * <p>Properties are bound from the {@code kafka.admin.lag.stream} prefix in application configuration.
+ *
+ * @param intervalMs delay in milliseconds between offset fetches for the subscribed groups
+ * @param timeoutMs time in milliseconds after which a subscription is closed; clients reconnect
+ * @param maxSubscribers maximum number of concurrent subscriptions
+ * @param maxGroupsPerSubscription maximum number of groups a single subscription may follow
+ */
+@ConfigurationProperties(prefix = "kafka.admin.lag.stream")
+public record LagStreamProperties(
+        long intervalMs,
+        long timeoutMs,
+        int maxSubscribers,
+        int maxGroupsPerSubscription
+) {
+    public LagStreamProperties {
+        if (intervalMs <= 0) {
+            intervalMs = 2000;
+        }
+        if (timeoutMs <= 0) {
+            timeoutMs = 1800000;
+        }
+        if (maxSubscribers <= 0) {
+            maxSubscribers = 200;
+        }
+        if (maxGroupsPerSubscription <= 0) {
+            maxGroupsPerSubscription = 50;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.AsyncResults;
+import com.kafkaadmin.common.InvalidRequestException;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.common.ServiceUnavailableException;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffsetResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service pushing live consumer lag to Server-Sent Events subscribers.
+ *
+ * <p>A single loop fetches the offsets of the union of all subscribed groups with one batched
+ * request per interval, so the load on the brokers depends on the number of distinct groups
+ * followed and not on the number of subscribers. Each subscriber first receives a
+ * {@value #SNAPSHOT_EVENT} event with every partition of a group, followed by
+ * {@value #DELTA_EVENT} events carrying only the partitions whose offsets changed. When a
+ * partition disappears from a group, a new snapshot is sent instead of a delta.
+ *
+ * <p>Subscriptions are only modified by request threads and the emitter callbacks; the offsets
+ * of the previous fetch and the per-subscriber progress are only touched by the loop.
+ */
+@Service
+public class LagStreamService {
+
+    /** Event name of updates carrying every partition of a group. */
+    static final String SNAPSHOT_EVENT = "snapshot";
+
+    /** Event name of updates carrying the changed partitions of a group. */
+    static final String DELTA_EVENT = "delta";
+
+    private static final Logger log = LoggerFactory.getLogger(LagStreamService.class);
+
+    private static final Comparator<ConsumerGroupOffsetResponse> PARTITION_ORDER = Comparator
+            .comparing(ConsumerGroupOffsetResponse::topic)
+            .thenComparingInt(ConsumerGroupOffsetResponse::partition);
+
+    private final AsyncKafkaAdminPort asyncKafkaAdminPort;
+    private final LagStreamProperties properties;
+    private final Clock clock;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Map<PartitionKey, ConsumerGroupOffset>> previousOffsets = new HashMap<>();
+
+    /**
+     * Creates a service with the given Kafka admin port and properties.
+     *
+     * @param asyncKafkaAdminPort the asynchronous Kafka admin port
+     * @param properties the lag stream configuration
+     */
+    @Autowired
+    public LagStreamService(AsyncKafkaAdminPort asyncKafkaAdminPort, LagStreamProperties properties) {
+        this(asyncKafkaAdminPort, properties, Clock.systemUTC());
+    }
+
+    LagStreamService(AsyncKafkaAdminPort asyncKafkaAdminPort, LagStreamProperties properties, Clock clock) {
+        this.asyncKafkaAdminPort = asyncKafkaAdminPort;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Subscribes to live lag updates of the given consumer groups.
+     *
+     * <p>Groups without committed offsets produce no events until they commit.
+     *
+     * @param groupIds the consumer group IDs to follow
+     * @return the emitter delivering the updates
+     * @throws InvalidRequestException if no group or too many groups are given
+     * @throws ServiceUnavailableException if the maximum number of subscriptions is reached
+     */
+    public SseEmitter subscribe(Collection<String> groupIds) {
+        return subscribe(groupIds, new SseEmitter(properties.timeoutMs()));
+    }
+
+    SseEmitter subscribe(Collection<String> groupIds, SseEmitter emitter) {
+        Set<String> groups = new LinkedHashSet<>();
+        for (String groupId : groupIds) {
+            if (!groupId.isBlank()) {
+                groups.add(groupId.trim());
+            }
+        }
+        if (groups.isEmpty()) {
+            throw new InvalidRequestException("At least one groupId is required");
+        }
+        if (groups.size() > properties.maxGroupsPerSubscription()) {
+            throw new InvalidRequestException(
+                    "At most " + properties.maxGroupsPerSubscription() + " groups can be followed per subscription");
+        }
+
+        Subscription subscription = new Subscription(Set.copyOf(groups), emitter);
+        synchronized (subscriptions) {
+            if (subscriptions.size() >= properties.maxSubscribers()) {
+                throw new ServiceUnavailableException(
+                        "Maximum of " + properties.maxSubscribers() + " lag stream subscriptions reached");
+            }
+            subscriptions.add(subscription);
+        }
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        return emitter;
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     *
+     * @return the subscription count
+     */
+    public int subscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Fetches the offsets of every subscribed group and pushes the updates.
+     *
+     * <p>Does nothing while there are no subscribers. A failed fetch is skipped and retried on
+     * the next interval.
+     */
+    @Scheduled(fixedDelayString = "${kafka.admin.lag.stream.interval-ms:2000}")
+    public void publish() {
+        if (subscriptions.isEmpty()) {
+            previousOffsets.clear();
+            return;
+        }
+
+        Set<String> groupIds = new HashSet<>();
+        for (Subscription subscription : subscriptions) {
+            groupIds.addAll(subscription.groupIds);
+        }
+        Map<String, List<ConsumerGroupOffset>> offsets;
+        try {
+            offsets = AsyncResults.await(asyncKafkaAdminPort.getConsumerGroupsOffsets(groupIds),
+                    "streaming consumer lag");
+        } catch (KafkaAdminException e) {
+            log.warn("Failed to fetch offsets for lag stream: {}", e.getMessage());
+            return;
+        }
+
+        Instant timestamp = clock.instant();
+        previousOffsets.keySet().retainAll(groupIds);
+        Map<String, GroupUpdate> updates = new HashMap<>();
+        offsets.forEach((groupId, groupOffsets) -> updates.put(groupId, update(groupId, timestamp, groupOffsets)));
+        for (Subscription subscription : subscriptions) {
+            subscription.publish(updates);
+        }
+    }
+
+    private GroupUpdate update(String groupId, Instant timestamp, List<ConsumerGroupOffset> offsets) {
+        Map<PartitionKey, ConsumerGroupOffset> previous = previousOffsets.get(groupId);
+        Map<PartitionKey, ConsumerGroupOffset> current = HashMap.newHashMap(offsets.size());
+        List<ConsumerGroupOffsetResponse> partitions = new ArrayList<>(offsets.size());
+        List<ConsumerGroupOffsetResponse> changed = new ArrayList<>();
+        long totalLag = 0;
+        for (ConsumerGroupOffset offset : offsets) {
+            PartitionKey key = new PartitionKey(offset.topic(), offset.partition());
+            current.put(key, offset);
+            ConsumerGroupOffsetResponse response = ConsumerGroupOffsetResponse.from(offset, null);
+            partitions.add(response);
+            if (previous == null || !offset.equals(previous.get(key))) {
+                changed.add(response);
+            }
+            totalLag += offset.lag();
+        }
+        partitions.sort(PARTITION_ORDER);
+        changed.sort(PARTITION_ORDER);
+        previousOffsets.put(groupId, current);
+
+        boolean reset = previous != null && !current.keySet().containsAll(previous.keySet());
+        LagUpdateResponse snapshot = new LagUpdateResponse(groupId, timestamp, totalLag, List.copyOf(partitions));
+        LagUpdateResponse delta = changed.isEmpty()
+                ? null
+                : new LagUpdateResponse(groupId, timestamp, totalLag, List.copyOf(changed));
+        return new GroupUpdate(snapshot, delta, reset);
+    }
+
+    private record PartitionKey(String topic, int partition) {
+    }
+
+    private record GroupUpdate(LagUpdateResponse snapshot, LagUpdateResponse delta, boolean reset) {
+    }
+
+    private final class Subscription {
+
+        private final Set<String> groupIds;
+        private final SseEmitter emitter;
+        private final Set<String> snapshotSent = new HashSet<>();
+
+        private Subscription(Set<String> groupIds, SseEmitter emitter) {
+            this.groupIds = groupIds;
+            this.emitter = emitter;
+        }
+
+        private void publish(Map<String, GroupUpdate> updates) {
+            for (String groupId : groupIds) {
+                GroupUpdate update = updates.get(groupId);
+                if (update == null) {
+                    continue;
+                }
+                boolean first = snapshotSent.add(groupId);
+                boolean sent;
+                if (first || update.reset()) {
+                    sent = send(SNAPSHOT_EVENT, update.snapshot());
+                } else if (update.delta() != null) {
+                    sent = send(DELTA_EVENT, update.delta());
+                } else {
+                    sent = true;
+                }
+                if (!sent) {
+                    return;
+                }
+            }
+        }
+
+        private boolean send(String event, LagUpdateResponse update) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(update, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping lag stream subscription: {}", e.toString());
+                subscriptions.remove(this);
+                return false;
+            }
+        }
+    }
+}
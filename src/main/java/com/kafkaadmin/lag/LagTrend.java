@@ -0,0 +1,19 @@
+package com.kafkaadmin.lag;
+
+/**
+ * Direction in which the lag of a consumer group is heading.
+ */
+public enum LagTrend {
+
+    /** The group has no lag. */
+    CAUGHT_UP,
+
+    /** The group consumes faster than the topic is produced to and will catch up. */
+    CONVERGING,
+
+    /** The group consumes no faster than the topic is produced to and will not catch up. */
+    DIVERGING,
+
+    /** Not enough samples have been taken to tell. */
+    UNKNOWN
+}
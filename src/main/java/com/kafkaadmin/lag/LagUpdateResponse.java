@@ -0,0 +1,32 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffsetResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Lag update of one consumer group pushed to live lag subscribers.
+ *
+ * @param groupId the consumer group ID
+ * @param timestamp when the offsets were fetched
+ * @param totalLag sum of the lag of every partition of the group
+ * @param partitions every partition for a snapshot, or only the changed partitions for a delta,
+ *                   sorted by topic and partition
+ */
+@Schema(description = "Live consumer group lag update")
+public record LagUpdateResponse(
+        @Schema(description = "Consumer group ID", example = "my-consumer-group")
+        String groupId,
+
+        @Schema(description = "Fetch time", example = "2026-01-01T00:00:00Z")
+        Instant timestamp,
+
+        @Schema(description = "Total lag across all partitions of the group", example = "1500")
+        long totalLag,
+
+        @Schema(description = "All partitions for a snapshot, changed partitions for a delta")
+        List<ConsumerGroupOffsetResponse> partitions
+) {
+}
@@ -0,0 +1,59 @@
+package com.kafkaadmin.lag;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response representing the catch-up forecast of one partition for API responses.
+ *
+ * @param topic topic name
+ * @param partition partition number
+ * @param lag lag at the newest sample
+ * @param consumeRate committed offsets advanced per second, or null if unknown
+ * @param produceRate end offsets advanced per second, or null if unknown
+ * @param trend direction in which the lag is heading
+ * @param etaMs estimated milliseconds from the newest sample until the lag reaches zero, or null
+ *              if the partition is not catching up
+ */
+@Schema(description = "Catch-up forecast of a consumer group partition")
+public record PartitionForecastResponse(
+        @Schema(description = "Topic name", example = "my-topic")
+        String topic,
+
+        @Schema(description = "Partition number", example = "0")
+        int partition,
+
+        @Schema(description = "Lag at the newest sample", example = "5000")
+        long lag,
+
+        @Schema(description = "Committed offsets per second, omitted until two samples have been taken",
+                example = "120.5")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Double consumeRate,
+
+        @Schema(description = "Produced offsets per second, omitted until two samples have been taken",
+                example = "100.0")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Double produceRate,
+
+        @Schema(description = "Lag trend", example = "CONVERGING")
+        LagTrend trend,
+
+        @Schema(description = "Estimated time to zero lag in milliseconds, omitted unless converging or caught up",
+                example = "243902")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long etaMs
+) {
+    public static PartitionForecastResponse from(String topic, int partition, LagForecast forecast) {
+        boolean ratesKnown = forecast.samples() >= 2;
+        long etaMs = forecast.etaMs();
+        return new PartitionForecastResponse(
+                topic,
+                partition,
+                forecast.lag(),
+                ratesKnown ? forecast.consumeRate() : null,
+                ratesKnown ? forecast.produceRate() : null,
+                forecast.trend(),
+                etaMs < 0 ? null : etaMs);
+    }
+}
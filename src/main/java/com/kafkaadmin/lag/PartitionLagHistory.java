@@ -0,0 +1,17 @@
+package com.kafkaadmin.lag;
+
+import java.util.List;
+
+/**
+ * Sampled offset history of one consumer group partition.
+ *
+ * @param topic topic name
+ * @param partition partition number
+ * @param samples samples, oldest first
+ */
+public record PartitionLagHistory(
+        String topic,
+        int partition,
+        List<LagSample> samples
+) {
+}
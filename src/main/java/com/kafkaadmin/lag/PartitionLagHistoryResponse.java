@@ -0,0 +1,33 @@
+package com.kafkaadmin.lag;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response representing the offset history of one partition for API responses.
+ *
+ * @param topic topic name
+ * @param partition partition number
+ * @param samples samples, oldest first
+ */
+@Schema(description = "Sampled offset history of a consumer group partition")
+public record PartitionLagHistoryResponse(
+        @Schema(description = "Topic name", example = "my-topic")
+        String topic,
+
+        @Schema(description = "Partition number", example = "0")
+        int partition,
+
+        @Schema(description = "Samples, oldest first")
+        List<LagSampleResponse> samples
+) {
+    public static PartitionLagHistoryResponse from(PartitionLagHistory history) {
+        return new PartitionLagHistoryResponse(
+                history.topic(),
+                history.partition(),
+                history.samples().stream()
+                        .map(LagSampleResponse::from)
+                        .toList());
+    }
+}
@@ -0,0 +1,17 @@
+package com.kafkaadmin.lag;
+
+/**
+ * A consumer group's position on one topic, as recorded in the topic-to-groups index.
+ *
+ * @param groupId consumer group ID
+ * @param lag total lag of the group over the topic's committed partitions
+ * @param committedPartitions number of the topic's partitions the group has committed offsets for
+ * @param assignedMembers number of group members currently assigned partitions of the topic
+ */
+public record TopicConsumer(
+        String groupId,
+        long lag,
+        int committedPartitions,
+        int assignedMembers
+) {
+}
@@ -0,0 +1,70 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.ETags;
+import com.kafkaadmin.common.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * REST controller for the consumers of a topic.
+ *
+ * <p>Provides endpoints served from the topic-to-groups index maintained by {@link TopicConsumerIndex}.
+ */
+@RestController
+@RequestMapping("/api/v1/topics")
+@Tag(name = "Topics", description = "Kafka topic management operations")
+public class TopicConsumerController {
+
+    private final TopicConsumerIndex topicConsumerIndex;
+
+    /**
+     * Creates a controller with the given index.
+     *
+     * @param topicConsumerIndex the topic-to-groups index
+     */
+    public TopicConsumerController(TopicConsumerIndex topicConsumerIndex) {
+        this.topicConsumerIndex = topicConsumerIndex;
+    }
+
+    /**
+     * Retrieves the consumer groups of a topic.
+     *
+     * @param name the topic name
+     * @param request the current request, used for {@code If-None-Match} handling
+     * @return the consuming groups with their lag on the topic, sorted by group ID
+     */
+    @GetMapping("/{name}/consumer-groups")
+    @Operation(summary = "Get consumer groups of a topic",
+            description = "Returns the consumer groups with committed offsets or assigned members on a topic, "
+                    + "with their lag on the topic as of the last lag sample")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved consumer groups"),
+            @ApiResponse(responseCode = "304", description = "Index unchanged since the given ETag"),
+            @ApiResponse(responseCode = "404", description = "Topic not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Lag sampling is disabled",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<TopicConsumerGroupResponse>> getConsumerGroups(
+            @Parameter(description = "Topic name", required = true)
+            @PathVariable String name,
+            WebRequest request) {
+        return ETags.versioned(request, topicConsumerIndex.indexedAtMs(),
+                () -> topicConsumerIndex.getConsumerGroups(name));
+    }
+}
@@ -0,0 +1,34 @@
+package com.kafkaadmin.lag;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response representing a consumer group of a topic for API responses.
+ *
+ * @param groupId consumer group ID
+ * @param lag total lag of the group over the topic's committed partitions
+ * @param committedPartitions number of the topic's partitions the group has committed offsets for
+ * @param assignedMembers number of group members currently assigned partitions of the topic
+ */
+@Schema(description = "Consumer group consuming a topic")
+public record TopicConsumerGroupResponse(
+        @Schema(description = "Consumer group ID", example = "my-consumer-group")
+        String groupId,
+
+        @Schema(description = "Total lag on the topic at the last sample", example = "150")
+        long lag,
+
+        @Schema(description = "Partitions with committed offsets", example = "12")
+        int committedPartitions,
+
+        @Schema(description = "Members assigned partitions of the topic", example = "3")
+        int assignedMembers
+) {
+    public static TopicConsumerGroupResponse from(TopicConsumer consumer) {
+        return new TopicConsumerGroupResponse(
+                consumer.groupId(),
+                consumer.lag(),
+                consumer.committedPartitions(),
+                consumer.assignedMembers());
+    }
+}
@@ -0,0 +1,188 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.common.ServiceUnavailableException;
+import com.kafkaadmin.common.TopicAssignment;
+import com.kafkaadmin.consumergroup.ConsumerGroup;
+import com.kafkaadmin.consumergroup.ConsumerGroupDescriptions;
+import com.kafkaadmin.consumergroup.ConsumerGroupMember;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
+import com.kafkaadmin.topic.TopicNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service maintaining an inverted index from topic to the consumer groups consuming it.
+ *
+ * <p>The index is refreshed from every lag sample. Committed offsets come with the sample.
+ * Member assignments come from {@link ConsumerGroupDescriptions}, which reuses a describe of all
+ * groups made by another background task within the sample interval, so the group change feed
+ * and the index share one describe loop. Only entries whose values changed are rewritten, and
+ * topic keys are interned so each topic name is held once however many groups consume it.
+ * Lookups are a single map access and never call Kafka. As the index is only filled by lag
+ * samples, lookups are rejected while lag sampling is disabled.
+ */
+@Service
+public class TopicConsumerIndex implements LagSampleListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicConsumerIndex.class);
+
+    private final ConsumerGroupDescriptions groupDescriptions;
+    private final ClusterSnapshotService snapshotService;
+    private final LagProperties properties;
+    private final Map<String, Map<String, TopicConsumer>> consumersByTopic = new ConcurrentHashMap<>();
+
+    private volatile long indexedAtMs = -1;
+
+    /** Topics indexed per group; only accessed from the sampler thread. */
+    private final Map<String, Set<String>> topicsByGroup = new HashMap<>();
+
+    /**
+     * Creates an index with the given group descriptions, snapshot service and lag properties.
+     *
+     * @param groupDescriptions the shared source of member assignments
+     * @param snapshotService the cluster snapshot used to report unknown topics
+     * @param properties the lag sampling configuration
+     */
+    public TopicConsumerIndex(ConsumerGroupDescriptions groupDescriptions, ClusterSnapshotService snapshotService,
+                              LagProperties properties) {
+        this.groupDescriptions = groupDescriptions;
+        this.snapshotService = snapshotService;
+        this.properties = properties;
+    }
+
+    /**
+     * Retrieves the consumer groups of a topic.
+     *
+     * @param topicName the topic name
+     * @return the groups with committed offsets or assigned members on the topic, sorted by group ID
+     * @throws TopicNotFoundException if the cluster snapshot does not contain the topic
+     * @throws ServiceUnavailableException if lag sampling, which fills the index, is disabled
+     */
+    public List<TopicConsumerGroupResponse> getConsumerGroups(String topicName) {
+        if (!properties.enabled()) {
+            throw new ServiceUnavailableException(
+                    "Topic consumers are indexed from lag samples, which are disabled by kafka.admin.lag.enabled");
+        }
+        Optional<ClusterSnapshot> snapshot = snapshotService.current();
+        if (snapshot.isPresent() && snapshot.get().topic(topicName).isEmpty()) {
+            throw new TopicNotFoundException(topicName);
+        }
+        Map<String, TopicConsumer> consumers = consumersByTopic.getOrDefault(topicName, Map.of());
+        return consumers.values().stream()
+                .sorted(Comparator.comparing(TopicConsumer::groupId))
+                .map(TopicConsumerGroupResponse::from)
+                .toList();
+    }
+
+    /**
+     * Returns when the sample the index was last refreshed from was taken, which versions the index.
+     *
+     * @return the sample time in epoch milliseconds, or -1 if the index has not been refreshed
+     */
+    public long indexedAtMs() {
+        return indexedAtMs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSample(long timestampMs, Map<String, List<ConsumerGroupOffset>> offsets) {
+        List<ConsumerGroup> groups;
+        try {
+            groups = groupDescriptions.describeAll(properties.sampleIntervalMs());
+        } catch (KafkaAdminException e) {
+            log.warn("Failed to describe consumer groups, keeping previous topic index: {}", e.getMessage());
+            return;
+        }
+
+        Map<String, Map<String, Integer>> assignedMembers = new HashMap<>();
+        for (ConsumerGroup group : groups) {
+            if (offsets.containsKey(group.groupId())) {
+                assignedMembers.put(group.groupId(), countAssignedMembers(group));
+            }
+        }
+
+        offsets.forEach((groupId, groupOffsets) ->
+                update(groupId, consumers(groupId, groupOffsets, assignedMembers.getOrDefault(groupId, Map.of()))));
+
+        Iterator<Map.Entry<String, Set<String>>> indexed = topicsByGroup.entrySet().iterator();
+        while (indexed.hasNext()) {
+            Map.Entry<String, Set<String>> entry = indexed.next();
+            if (!offsets.containsKey(entry.getKey())) {
+                entry.getValue().forEach(topic -> remove(topic, entry.getKey()));
+                indexed.remove();
+            }
+        }
+        indexedAtMs = timestampMs;
+    }
+
+    private static Map<String, TopicConsumer> consumers(String groupId, List<ConsumerGroupOffset> offsets,
+                                                        Map<String, Integer> assignedMembers) {
+        Map<String, long[]> committed = new HashMap<>();
+        for (ConsumerGroupOffset offset : offsets) {
+            long[] lagAndPartitions = committed.computeIfAbsent(offset.topic(), topic -> new long[2]);
+            lagAndPartitions[0] += offset.lag();
+            lagAndPartitions[1]++;
+        }
+
+        Set<String> topics = new HashSet<>(committed.keySet());
+        topics.addAll(assignedMembers.keySet());
+        Map<String, TopicConsumer> consumers = new HashMap<>();
+        for (String topic : topics) {
+            long[] lagAndPartitions = committed.getOrDefault(topic, new long[2]);
+            consumers.put(topic.intern(), new TopicConsumer(
+                    groupId, lagAndPartitions[0], (int) lagAndPartitions[1], assignedMembers.getOrDefault(topic, 0)));
+        }
+        return consumers;
+    }
+
+    private static Map<String, Integer> countAssignedMembers(ConsumerGroup group) {
+        Map<String, Integer> members = new HashMap<>();
+        for (ConsumerGroupMember member : group.members()) {
+            for (TopicAssignment assignment : member.assignments()) {
+                members.merge(assignment.topic(), 1, Integer::sum);
+            }
+        }
+        return members;
+    }
+
+    private void update(String groupId, Map<String, TopicConsumer> consumers) {
+        Set<String> previous = topicsByGroup.getOrDefault(groupId, Set.of());
+        for (String topic : previous) {
+            if (!consumers.containsKey(topic)) {
+                remove(topic, groupId);
+            }
+        }
+        consumers.forEach((topic, consumer) -> {
+            Map<String, TopicConsumer> groups = consumersByTopic.computeIfAbsent(topic, t -> new ConcurrentHashMap<>());
+            if (!consumer.equals(groups.get(groupId))) {
+                groups.put(groupId, consumer);
+            }
+        });
+        if (consumers.isEmpty()) {
+            topicsByGroup.remove(groupId);
+        } else {
+            topicsByGroup.put(groupId, consumers.keySet());
+        }
+    }
+
+    private void remove(String topic, String groupId) {
+        consumersByTopic.computeIfPresent(topic, (t, groups) -> {
+            groups.remove(groupId);
+            return groups.isEmpty() ? null : groups;
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.kafkaadmin.sharegroup;
 
+import com.kafkaadmin.common.TopicAssignmentResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -10,7 +11,7 @@ import java.util.List;
  * @param consumerId unique consumer identifier
  * @param clientId client identifier
  * @param host consumer host address
- * @param assignments list of assigned topic-partitions
+ * @param assignments assigned partitions grouped by topic
  */
 @Schema(description = "Share group member")
 public record ShareGroupMemberResponse(
@@ -23,14 +24,14 @@ public record ShareGroupMemberResponse(
         @Schema(description = "Host", example = "/192.168.1.100")
         String host,
 
-        @Schema(description = "Assigned partitions")
-        List<String> assignments
+        @Schema(description = "Assigned partitions grouped by topic")
+        List<TopicAssignmentResponse> assignments
 ) {
     public static ShareGroupMemberResponse from(ShareGroupMember member) {
         return new ShareGroupMemberResponse(
                 member.consumerId(),
                 member.clientId(),
                 member.host(),
-                member.assignments());
+                TopicAssignmentResponse.from(member.assignments()));
     }
 }
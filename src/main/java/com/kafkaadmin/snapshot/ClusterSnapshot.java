@@ -0,0 +1,120 @@
+package com.kafkaadmin.snapshot;
+
+import com.kafkaadmin.cluster.Broker;
+import com.kafkaadmin.cluster.ClusterInfo;
+import com.kafkaadmin.common.ETags;
+import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicPartitionInfo;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable point-in-time view of cluster metadata.
+ *
+ * <p>Brokers are sorted by ID, topics by name and partitions by partition number, so
+ * readers can serve them without further sorting.
+ *
+ * @param version version number, incremented only when the metadata changes
+ * @param refreshedAt when the metadata was last confirmed against the cluster
+ * @param clusterInfo cluster ID, controller and brokers
+ * @param topics topics with partition, replica and ISR details, without configuration
+ * @param topicsByName the same topics indexed by name
+ * @param metadataDigest SHA-256 digest of cluster information and topics, computed once when the snapshot is built
+ */
+public record ClusterSnapshot(
+        long version,
+        Instant refreshedAt,
+        ClusterInfo clusterInfo,
+        List<Topic> topics,
+        Map<String, Topic> topicsByName,
+        String metadataDigest
+) {
+    public ClusterSnapshot {
+        topics = List.copyOf(topics);
+        topicsByName = Map.copyOf(topicsByName);
+    }
+
+    /**
+     * Builds a snapshot, sorting brokers, topics and partitions.
+     *
+     * @param version the snapshot version
+     * @param refreshedAt when the metadata was fetched
+     * @param clusterInfo the cluster information
+     * @param topics the topics in the cluster
+     * @return the snapshot
+     */
+    public static ClusterSnapshot of(long version, Instant refreshedAt, ClusterInfo clusterInfo, Collection<Topic> topics) {
+        ClusterInfo sortedClusterInfo = new ClusterInfo(
+                clusterInfo.clusterId(),
+                clusterInfo.controllerId(),
+                clusterInfo.brokers().stream()
+                        .sorted(Comparator.comparingInt(Broker::id))
+                        .toList());
+
+        Map<String, Topic> sortedTopics = topics.stream()
+                .map(ClusterSnapshot::withSortedPartitions)
+                .sorted(Comparator.comparing(Topic::name))
+                .collect(Collectors.toMap(Topic::name, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+        List<Topic> sortedTopicList = List.copyOf(sortedTopics.values());
+        return new ClusterSnapshot(
+                version,
+                refreshedAt,
+                sortedClusterInfo,
+                sortedTopicList,
+                sortedTopics,
+                ETags.digest(List.of(sortedClusterInfo, sortedTopicList)));
+    }
+
+    /**
+     * Looks up a topic by name.
+     *
+     * @param topicName the topic name
+     * @return the topic, or empty if it was not present when the snapshot was taken
+     */
+    public Optional<Topic> topic(String topicName) {
+        return Optional.ofNullable(topicsByName.get(topicName));
+    }
+
+    /**
+     * Returns whether this snapshot holds the same metadata as another, ignoring version and refresh time.
+     *
+     * @param other the snapshot to compare with
+     * @return true if cluster information and topics are equal
+     */
+    public boolean hasSameMetadataAs(ClusterSnapshot other) {
+        return metadataDigest.equals(other.metadataDigest)
+                && clusterInfo.equals(other.clusterInfo)
+                && topics.equals(other.topics);
+    }
+
+    /**
+     * Returns a copy of this snapshot with a new refresh time and the same version.
+     *
+     * @param refreshedAt the new refresh time
+     * @return the refreshed snapshot
+     */
+    public ClusterSnapshot withRefreshedAt(Instant refreshedAt) {
+        return new ClusterSnapshot(version, refreshedAt, clusterInfo, topics, topicsByName, metadataDigest);
+    }
+
+    private static Topic withSortedPartitions(Topic topic) {
+        return new Topic(
+                topic.name(),
+                topic.partitionCount(),
+                topic.replicationFactor(),
+                topic.configs(),
+                topic.partitions().stream()
+                        .sorted(Comparator.comparingInt(TopicPartitionInfo::partition))
+                        .toList(),
+                topic.internal());
+    }
+}
@@ -0,0 +1,115 @@
+package com.kafkaadmin.snapshot;
+
+import com.kafkaadmin.cluster.ClusterInfo;
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.AsyncResults;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.topic.Topic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service maintaining a periodically refreshed {@link ClusterSnapshot}.
+ *
+ * <p>A single background refresh describes the cluster and all topics, then publishes the
+ * result with an atomic swap. Readers never block on a refresh, and broker load stays the
+ * same regardless of how many clients read the snapshot. A failed refresh keeps the
+ * previous snapshot in place, but only until it is older than the configured maximum age.
+ * After that no snapshot is served, so readers fall back to live calls instead of presenting
+ * old metadata as current.
+ */
+@Service
+public class ClusterSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterSnapshotService.class);
+
+    private final AsyncKafkaAdminPort asyncKafkaAdminPort;
+    private final SnapshotProperties properties;
+    private final Clock clock;
+    private final AtomicReference<ClusterSnapshot> current = new AtomicReference<>();
+
+    /**
+     * Creates a service with the given Kafka admin port and properties.
+     *
+     * @param asyncKafkaAdminPort the asynchronous Kafka admin port
+     * @param properties the snapshot configuration
+     */
+    @Autowired
+    public ClusterSnapshotService(AsyncKafkaAdminPort asyncKafkaAdminPort, SnapshotProperties properties) {
+        this(asyncKafkaAdminPort, properties, Clock.systemUTC());
+    }
+
+    ClusterSnapshotService(AsyncKafkaAdminPort asyncKafkaAdminPort, SnapshotProperties properties, Clock clock) {
+        this.asyncKafkaAdminPort = asyncKafkaAdminPort;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the current snapshot.
+     *
+     * @return the latest snapshot, or empty if snapshots are disabled, none has been built yet, or
+     *         the latest one is older than the maximum age because refreshes keep failing
+     */
+    public Optional<ClusterSnapshot> current() {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+        ClusterSnapshot snapshot = current.get();
+        if (snapshot == null || clock.millis() - snapshot.refreshedAt().toEpochMilli() > properties.maxAgeMs()) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Returns the configured delay between refreshes.
+     *
+     * @return refresh interval in milliseconds
+     */
+    public long refreshIntervalMs() {
+        return properties.refreshIntervalMs();
+    }
+
+    /**
+     * Rebuilds the snapshot from the cluster and publishes it.
+     *
+     * <p>The version is incremented only when the metadata differs from the previous snapshot.
+     */
+    @Scheduled(fixedDelayString = "${kafka.admin.snapshot.refresh-interval-ms:10000}")
+    public void refresh() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            CompletableFuture<ClusterInfo> clusterInfo = asyncKafkaAdminPort.getClusterInfo();
+            CompletableFuture<List<Topic>> topics = asyncKafkaAdminPort.listTopicNames()
+                    .thenCompose(asyncKafkaAdminPort::describeTopics);
+
+            ClusterSnapshot previous = current.get();
+            ClusterSnapshot next = ClusterSnapshot.of(
+                    previous == null ? 1 : previous.version() + 1,
+                    clock.instant(),
+                    AsyncResults.await(clusterInfo, "refreshing cluster snapshot"),
+                    AsyncResults.await(topics, "refreshing cluster snapshot"));
+
+            if (previous != null && next.hasSameMetadataAs(previous)) {
+                next = previous.withRefreshedAt(next.refreshedAt());
+            }
+            current.set(next);
+            log.debug("Cluster snapshot refreshed: version {}, {} topics", next.version(), next.topics().size());
+        } catch (KafkaAdminException e) {
+            log.warn("Failed to refresh cluster snapshot, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.kafkaadmin.snapshot;
+
+import com.kafkaadmin.common.ETags;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Builds response headers and conditional responses for snapshot-served data.
+ */
+public final class SnapshotHeaders {
+
+    /** Version of the snapshot the response was served from. */
+    public static final String VERSION = "X-Snapshot-Version";
+
+    /** Time the snapshot was last refreshed, in ISO-8601 format. */
+    public static final String REFRESHED_AT = "X-Snapshot-Refreshed-At";
+
+    /** Age of the snapshot in milliseconds at the time of the response. */
+    public static final String AGE_MS = "X-Snapshot-Age-Ms";
+
+    /** Configured delay between snapshot refreshes in milliseconds. */
+    public static final String REFRESH_INTERVAL_MS = "X-Snapshot-Refresh-Interval-Ms";
+
+    private SnapshotHeaders() {
+    }
+
+    /**
+     * Returns freshness headers for the current snapshot.
+     *
+     * @param snapshotService the snapshot service
+     * @return headers describing the snapshot, or empty headers if the response was served live
+     */
+    public static HttpHeaders of(ClusterSnapshotService snapshotService) {
+        return snapshotService.current()
+                .map(snapshot -> of(snapshot, snapshotService.refreshIntervalMs()))
+                .orElseGet(HttpHeaders::new);
+    }
+
+    /**
+     * Answers a request for data served from the snapshot, with an ETag and freshness headers.
+     *
+     * <p>While a snapshot is available, the ETag is derived from its metadata digest, which is
+     * computed once per refresh, and a matching {@code If-None-Match} request is answered with
+     * {@code 304 Not Modified} without invoking the body supplier. Otherwise the ETag is
+     * derived from the live response body.
+     *
+     * @param snapshotService the snapshot service
+     * @param request the current request
+     * @param body supplier of the response body, which must serve from the snapshot when one is available
+     * @param <T> the body type
+     * @return the response entity, or null if a 304 response has already been written
+     */
+    public static <T> ResponseEntity<T> conditional(ClusterSnapshotService snapshotService, WebRequest request,
+                                                    Supplier<T> body) {
+        Optional<ClusterSnapshot> snapshot = snapshotService.current();
+        if (snapshot.isEmpty()) {
+            return ETags.ok(request, body.get());
+        }
+        return ETags.conditional(
+                request,
+                ETags.weak(snapshot.get().metadataDigest()),
+                of(snapshot.get(), snapshotService.refreshIntervalMs()),
+                body);
+    }
+
+    private static HttpHeaders of(ClusterSnapshot snapshot, long refreshIntervalMs) {
+        HttpHeaders headers = new HttpHeaders();
+        long ageMs = Math.max(0, Duration.between(snapshot.refreshedAt(), Clock.systemUTC().instant()).toMillis());
+        headers.set(VERSION, String.valueOf(snapshot.version()));
+        headers.set(REFRESHED_AT, snapshot.refreshedAt().toString());
+        headers.set(AGE_MS, String.valueOf(ageMs));
+        headers.set(REFRESH_INTERVAL_MS, String.valueOf(refreshIntervalMs));
+        return headers;
+    }
+}
@@ -0,0 +1,32 @@
+package com.kafkaadmin.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the background cluster metadata snapshot.
+ *
+ * <p>Properties are bound from the {@code kafka.admin.snapshot} prefix in application configuration.
+ *
+ * @param enabled whether topic and cluster reads are served from the snapshot
+ * @param refreshIntervalMs delay in milliseconds between snapshot refreshes
+ * @param maxAgeMs age in milliseconds after which a snapshot whose refreshes keep failing is no
+ *                 longer served, so reads fall back to live calls
+ */
+@ConfigurationProperties(prefix = "kafka.admin.snapshot")
+public record SnapshotProperties(
+        Boolean enabled,
+        long refreshIntervalMs,
+        long maxAgeMs
+) {
+    public SnapshotProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (refreshIntervalMs <= 0) {
+            refreshIntervalMs = 10000;
+        }
+        if (maxAgeMs <= 0) {
+            maxAgeMs = 60000;
+        }
+    }
+}
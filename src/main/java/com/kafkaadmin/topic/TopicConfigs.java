@@ -0,0 +1,17 @@
+package com.kafkaadmin.topic;
+
+import java.util.Map;
+
+/**
+ * Domain model representing the configuration lookup result for a topic.
+ *
+ * @param name topic name
+ * @param configs non-default topic configuration, empty if the lookup failed
+ * @param error reason the configuration could not be retrieved, or null on success
+ */
+public record TopicConfigs(
+        String name,
+        Map<String, String> configs,
+        String error
+) {
+}
@@ -0,0 +1,31 @@
+package com.kafkaadmin.topic;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Response representing the configuration of a topic for API responses.
+ *
+ * @param name topic name
+ * @param configs non-default topic configuration
+ * @param error reason the configuration could not be retrieved, or null on success
+ */
+@Schema(description = "Topic configuration")
+public record TopicConfigsResponse(
+        @Schema(description = "Topic name", example = "my-topic")
+        String name,
+
+        @Schema(description = "Topic configuration overrides")
+        Map<String, String> configs,
+
+        @Schema(description = "Error if the configuration could not be retrieved", nullable = true)
+        String error
+) {
+    public static TopicConfigsResponse from(TopicConfigs topicConfigs) {
+        return new TopicConfigsResponse(
+                topicConfigs.name(),
+                topicConfigs.configs(),
+                topicConfigs.error());
+    }
+}
@@ -1,6 +1,11 @@
 package com.kafkaadmin.topic;
 
+import com.kafkaadmin.common.ETags;
 import com.kafkaadmin.common.ErrorResponse;
+import com.kafkaadmin.common.Fields;
+import com.kafkaadmin.common.NdjsonResponses;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
+import com.kafkaadmin.snapshot.SnapshotHeaders;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,8 +13,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,43 +32,154 @@ import java.util.List;
 @Tag(name = "Topics", description = "Kafka topic management operations")
 public class TopicController {
 
+    /** Response header carrying the cursor for the next page of a topic listing. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TopicService topicService;
+    private final ClusterSnapshotService snapshotService;
+    private final NdjsonResponses ndjsonResponses;
 
     /**
-     * Creates a controller with the given service.
+     * Creates a controller with the given services.
      *
      * @param topicService the topic service
+     * @param snapshotService the cluster snapshot service used for freshness headers
+     * @param ndjsonResponses the builder for streaming NDJSON responses
      */
-    public TopicController(TopicService topicService) {
+    public TopicController(TopicService topicService, ClusterSnapshotService snapshotService,
+                           NdjsonResponses ndjsonResponses) {
         this.topicService = topicService;
+        this.snapshotService = snapshotService;
+        this.ndjsonResponses = ndjsonResponses;
     }
 
     /**
-     * Lists all topics.
+     * Lists topics, optionally filtered by name and paged.
      *
+     * @param prefix only include topics whose name starts with this prefix
+     * @param regex only include topics whose whole name matches this regular expression
+     * @param limit maximum number of topics to return
+     * @param cursor cursor from the {@value #NEXT_CURSOR_HEADER} header of the previous page
+     * @param fields comma-separated response fields to include, or null for all
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of topics sorted by name
      */
     @GetMapping
-    @Operation(summary = "List all topics", description = "Returns a list of all Kafka topics")
+    @Operation(summary = "List all topics",
+            description = "Returns Kafka topics sorted by name, optionally filtered by name and paged. "
+                    + "When more topics follow, the cursor for the next page is returned in the "
+                    + NEXT_CURSOR_HEADER + " header")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved topics"),
+            @ApiResponse(responseCode = "304", description = "Topics unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit, regex, cursor or fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<TopicResponse>> listTopics(
+            @Parameter(description = "Topic name prefix")
+            @RequestParam(required = false) String prefix,
+            @Parameter(description = "Regular expression the whole topic name must match")
+            @RequestParam(required = false) String regex,
+            @Parameter(description = "Maximum number of topics to return")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Comma-separated fields to include: name, partitionCount, replicationFactor, internal")
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        TopicQuery query = TopicQuery.of(prefix, regex, limit, cursor);
+        Fields selected = Fields.parse(fields, TopicResponse.FIELDS);
+        ResponseEntity<TopicPage> page = SnapshotHeaders.conditional(
+                snapshotService, request, () -> topicService.listTopics(query, selected));
+        if (page == null) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(page.getStatusCode()).headers(page.getHeaders());
+        if (page.getBody().nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getBody().nextCursor());
+        }
+        return response.body(page.getBody().topics());
+    }
+
+    /**
+     * Streams topics as newline-delimited JSON, optionally filtered by name and paged.
+     *
+     * @param prefix only include topics whose name starts with this prefix
+     * @param regex only include topics whose whole name matches this regular expression
+     * @param limit maximum number of topics to return
+     * @param cursor cursor from the {@value #NEXT_CURSOR_HEADER} header of the previous page
+     * @param fields comma-separated response fields to include, or null for all
+     * @return streaming response writing one topic per line, sorted by name
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all topics",
+            description = "Streams Kafka topics sorted by name as newline-delimited JSON, writing each topic "
+                    + "as soon as it is described. Accepts the same filters as the JSON listing")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming topics"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit, regex, cursor or fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<TopicResponse>> listTopics() {
-        return ResponseEntity.ok(topicService.listTopics());
+    public ResponseEntity<StreamingResponseBody> streamTopics(
+            @Parameter(description = "Topic name prefix")
+            @RequestParam(required = false) String prefix,
+            @Parameter(description = "Regular expression the whole topic name must match")
+            @RequestParam(required = false) String regex,
+            @Parameter(description = "Maximum number of topics to return")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Comma-separated fields to include: name, partitionCount, replicationFactor, internal")
+            @RequestParam(required = false) String fields) {
+        TopicStream topics = topicService.streamTopics(
+                TopicQuery.of(prefix, regex, limit, cursor),
+                Fields.parse(fields, TopicResponse.FIELDS));
+        HttpHeaders headers = SnapshotHeaders.of(snapshotService);
+        if (topics.nextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, topics.nextCursor());
+        }
+        return ndjsonResponses.stream(headers, topics.topics());
+    }
+
+    /**
+     * Retrieves non-default configuration for all topics.
+     *
+     * @param request the current request, used for {@code If-None-Match} handling
+     * @return list of topic configurations sorted by name
+     */
+    @GetMapping("/configs")
+    @Operation(summary = "List all topic configurations",
+            description = "Returns non-default configuration for every topic; per-topic failures are reported inline")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved topic configurations"),
+            @ApiResponse(responseCode = "304", description = "Topic configurations unchanged since the given ETag"),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<TopicConfigsResponse>> listTopicConfigs(WebRequest request) {
+        return ETags.ok(request, topicService.listTopicConfigs());
     }
 
     /**
      * Retrieves details for a specific topic.
      *
      * @param name the topic name
+     * @param fields comma-separated response fields to include, or null for all
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return topic details including configuration and partitions
      */
     @GetMapping("/{name}")
     @Operation(summary = "Get topic details", description = "Returns detailed information about a specific topic")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved topic details"),
+            @ApiResponse(responseCode = "304", description = "Topic details unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Topic not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -67,20 +187,25 @@ public class TopicController {
     })
     public ResponseEntity<TopicDetailResponse> getTopic(
             @Parameter(description = "Topic name", required = true)
-            @PathVariable String name) {
-        return ResponseEntity.ok(topicService.getTopic(name));
+            @PathVariable String name,
+            @Parameter(description = "Comma-separated fields to include: name, partitionCount, replicationFactor, internal, configs, partitions")
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        return ETags.ok(request, topicService.getTopic(name, Fields.parse(fields, TopicDetailResponse.FIELDS)));
     }
 
     /**
      * Retrieves partition information for a topic.
      *
      * @param name the topic name
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of partition details sorted by partition number
      */
     @GetMapping("/{name}/partitions")
     @Operation(summary = "Get topic partitions", description = "Returns partition information for a specific topic")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved partition details"),
+            @ApiResponse(responseCode = "304", description = "Partition details unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Topic not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -88,8 +213,9 @@ public class TopicController {
     })
     public ResponseEntity<List<TopicPartitionInfoResponse>> getTopicPartitions(
             @Parameter(description = "Topic name", required = true)
-            @PathVariable String name) {
-        return ResponseEntity.ok(topicService.getTopicPartitions(name));
+            @PathVariable String name,
+            WebRequest request) {
+        return ETags.ok(request, SnapshotHeaders.of(snapshotService), topicService.getTopicPartitions(name));
     }
 
     /**
@@ -97,6 +223,7 @@ public class TopicController {
      *
      * @param name the topic name
      * @param partition the partition number
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of producer states sorted by producer ID
      */
     @GetMapping("/{name}/partitions/{partition}/producers")
@@ -104,6 +231,7 @@ public class TopicController {
             description = "Returns active producer information for a specific topic partition")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved producers"),
+            @ApiResponse(responseCode = "304", description = "Producers unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Topic not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -113,14 +241,16 @@ public class TopicController {
             @Parameter(description = "Topic name", required = true)
             @PathVariable String name,
             @Parameter(description = "Partition number", required = true)
-            @PathVariable int partition) {
-        return ResponseEntity.ok(topicService.describeProducers(name, partition));
+            @PathVariable int partition,
+            WebRequest request) {
+        return ETags.ok(request, topicService.describeProducers(name, partition));
     }
 
     /**
      * Describes replica log directories for a topic.
      *
      * @param name the topic name
+     * @param request the current request, used for {@code If-None-Match} handling
      * @return list of replica log directory information
      */
     @GetMapping("/{name}/replicas/log-dirs")
@@ -128,6 +258,7 @@ public class TopicController {
             description = "Returns log directory information for all replicas of a topic")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved replica log directories"),
+            @ApiResponse(responseCode = "304", description = "Replica log directories unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Topic not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -135,7 +266,8 @@ public class TopicController {
     })
     public ResponseEntity<List<ReplicaLogDirInfoResponse>> describeReplicaLogDirs(
             @Parameter(description = "Topic name", required = true)
-            @PathVariable String name) {
-        return ResponseEntity.ok(topicService.describeReplicaLogDirs(name));
+            @PathVariable String name,
+            WebRequest request) {
+        return ETags.ok(request, topicService.describeReplicaLogDirs(name));
     }
 }
@@ -1,13 +1,18 @@
 package com.kafkaadmin.topic;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kafkaadmin.common.Fields;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Response representing topic details for API responses.
  *
+ * <p>Fields not selected with the {@code fields} query parameter are null and omitted.
+ *
  * @param name topic name
  * @param partitionCount number of partitions
  * @param replicationFactor number of replicas per partition
@@ -16,18 +21,19 @@ import java.util.Map;
  * @param partitions partition details
  */
 @Schema(description = "Topic details")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record TopicDetailResponse(
         @Schema(description = "Topic name", example = "my-topic")
         String name,
 
         @Schema(description = "Number of partitions", example = "3")
-        int partitionCount,
+        Integer partitionCount,
 
         @Schema(description = "Replication factor", example = "2")
-        int replicationFactor,
+        Integer replicationFactor,
 
         @Schema(description = "Whether this is an internal topic", example = "false")
-        boolean internal,
+        Boolean internal,
 
         @Schema(description = "Topic configuration overrides")
         Map<String, String> configs,
@@ -35,15 +41,24 @@ public record TopicDetailResponse(
         @Schema(description = "Partition details")
         List<TopicPartitionInfoResponse> partitions
 ) {
+
+    /** Fields that can be selected with the {@code fields} query parameter. */
+    public static final Set<String> FIELDS =
+            Set.of("name", "partitionCount", "replicationFactor", "internal", "configs", "partitions");
+
     public static TopicDetailResponse from(Topic topic) {
+        return from(topic, Fields.ALL);
+    }
+
+    public static TopicDetailResponse from(Topic topic, Fields fields) {
         return new TopicDetailResponse(
-                topic.name(),
-                topic.partitionCount(),
-                topic.replicationFactor(),
-                topic.internal(),
-                topic.configs(),
-                topic.partitions().stream()
-                        .map(TopicPartitionInfoResponse::from)
-                        .toList());
+                fields.select("name", topic.name()),
+                fields.select("partitionCount", topic.partitionCount()),
+                fields.select("replicationFactor", topic.replicationFactor()),
+                fields.select("internal", topic.internal()),
+                fields.select("configs", topic.configs()),
+                fields.includes("partitions")
+                        ? topic.partitions().stream().map(TopicPartitionInfoResponse::from).toList()
+                        : null);
     }
 }
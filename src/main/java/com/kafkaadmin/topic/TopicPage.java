@@ -0,0 +1,12 @@
+package com.kafkaadmin.topic;
+
+import java.util.List;
+
+/**
+ * One page of a topic listing.
+ *
+ * @param topics the topics on this page, sorted by name
+ * @param nextCursor cursor for the next page, or null if this is the last page
+ */
+public record TopicPage(List<TopicResponse> topics, String nextCursor) {
+}
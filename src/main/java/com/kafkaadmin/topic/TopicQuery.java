@@ -0,0 +1,86 @@
+package com.kafkaadmin.topic;
+
+import com.kafkaadmin.common.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Name filter and page selection for topic listings.
+ *
+ * <p>Pages are ordered by topic name. The cursor is an opaque token encoding the last name of
+ * the previous page, so paging stays stable when topics are created or deleted in between.
+ *
+ * @param prefix only include topics whose name starts with this prefix, or null
+ * @param regex only include topics whose whole name matches this pattern, or null
+ * @param limit maximum number of topics per page, or null for no limit
+ * @param after only include topics whose name sorts after this name, or null for the first page
+ */
+public record TopicQuery(String prefix, Pattern regex, Integer limit, String after) {
+
+    /** Query selecting every topic on a single page. */
+    public static final TopicQuery ALL = new TopicQuery(null, null, null, null);
+
+    /**
+     * Builds a query from request parameters.
+     *
+     * @param prefix the name prefix, or null
+     * @param regex the name pattern, or null
+     * @param limit the page size, or null
+     * @param cursor the cursor returned with the previous page, or null
+     * @return the query
+     * @throws InvalidRequestException if the pattern, limit or cursor is invalid
+     */
+    public static TopicQuery of(String prefix, String regex, Integer limit, String cursor) {
+        if (limit != null && limit < 1) {
+            throw new InvalidRequestException("limit must be at least 1");
+        }
+        return new TopicQuery(prefix, compile(regex), limit, decodeCursor(cursor));
+    }
+
+    /**
+     * Returns the cursor for the page following the given topic name.
+     *
+     * @param lastName the last topic name on the current page
+     * @return the opaque cursor
+     */
+    public static String cursorAfter(String lastName) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastName.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns whether a topic name passes the filters and lies beyond the cursor.
+     *
+     * @param topicName the topic name
+     * @return true if the topic belongs to this or a later page
+     */
+    public boolean matches(String topicName) {
+        return (after == null || topicName.compareTo(after) > 0)
+                && (prefix == null || topicName.startsWith(prefix))
+                && (regex == null || regex.matcher(topicName).matches());
+    }
+
+    private static Pattern compile(String regex) {
+        if (regex == null) {
+            return null;
+        }
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new InvalidRequestException("Invalid regex: " + e.getDescription());
+        }
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+}
@@ -1,34 +1,56 @@
 package com.kafkaadmin.topic;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kafkaadmin.common.Fields;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.Set;
+
 /**
  * Response representing topic summary for API responses.
  *
+ * <p>Fields not selected with the {@code fields} query parameter are null and omitted.
+ *
  * @param name topic name
  * @param partitionCount number of partitions
  * @param replicationFactor number of replicas per partition
  * @param internal whether this is an internal Kafka topic
  */
 @Schema(description = "Topic summary")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record TopicResponse(
         @Schema(description = "Topic name", example = "my-topic")
         String name,
 
         @Schema(description = "Number of partitions", example = "3")
-        int partitionCount,
+        Integer partitionCount,
 
         @Schema(description = "Replication factor", example = "2")
-        int replicationFactor,
+        Integer replicationFactor,
 
         @Schema(description = "Whether this is an internal topic", example = "false")
-        boolean internal
+        Boolean internal
 ) {
+
+    /** Fields that can be selected with the {@code fields} query parameter. */
+    public static final Set<String> FIELDS = Set.of("name", "partitionCount", "replicationFactor", "internal");
+
+    /** Fields that require the topic to be described. */
+    static final Set<String> DESCRIBED_FIELDS = Set.of("partitionCount", "replicationFactor", "internal");
+
     public static TopicResponse from(Topic topic) {
+        return from(topic, Fields.ALL);
+    }
+
+    public static TopicResponse from(Topic topic, Fields fields) {
         return new TopicResponse(
-                topic.name(),
-                topic.partitionCount(),
-                topic.replicationFactor(),
-                topic.internal());
+                fields.select("name", topic.name()),
+                fields.select("partitionCount", topic.partitionCount()),
+                fields.select("replicationFactor", topic.replicationFactor()),
+                fields.select("internal", topic.internal()));
+    }
+
+    static TopicResponse named(String name, Fields fields) {
+        return new TopicResponse(fields.select("name", name), null, null, null);
     }
 }
@@ -1,10 +1,17 @@
 package com.kafkaadmin.topic;
 
+import com.kafkaadmin.common.Fields;
 import com.kafkaadmin.common.KafkaAdminPort;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
 import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Service providing topic management operations.
@@ -12,50 +19,126 @@ import java.util.List;
 @Service
 public class TopicService {
 
+    static final int STREAM_DESCRIBE_CHUNK_SIZE = 500;
+
     private final KafkaAdminPort kafkaAdminPort;
+    private final ClusterSnapshotService snapshotService;
 
     /**
-     * Creates a service with the given Kafka admin port.
+     * Creates a service with the given Kafka admin port and snapshot service.
      *
      * @param kafkaAdminPort the Kafka admin port
+     * @param snapshotService the cluster metadata snapshot service
      */
-    public TopicService(KafkaAdminPort kafkaAdminPort) {
+    public TopicService(KafkaAdminPort kafkaAdminPort, ClusterSnapshotService snapshotService) {
         this.kafkaAdminPort = kafkaAdminPort;
+        this.snapshotService = snapshotService;
     }
 
     /**
-     * Lists all topics.
+     * Lists one page of topics matching a query.
+     *
+     * <p>Served from the cluster snapshot when one is available. Otherwise topic names are
+     * listed, filtered and paged first, and only the topics on the requested page are described,
+     * without their configuration, which the summary does not include. Topics deleted between
+     * listing and describing are left out of the page.
+     *
+     * <p>When only topic names are selected, no topic is described at all.
      *
-     * @return list of topic DTOs sorted by name
+     * @param query the name filters and page selection
+     * @param fields the response fields to include
+     * @return the page of topic DTOs sorted by name
      */
-    public List<TopicResponse> listTopics() {
-        return kafkaAdminPort.listTopicNames().stream()
-                .map(kafkaAdminPort::getTopic)
-                .map(TopicResponse::from)
-                .sorted(Comparator.comparing(TopicResponse::name))
+    public TopicPage listTopics(TopicQuery query, Fields fields) {
+        Optional<ClusterSnapshot> snapshot = snapshotService.current();
+        if (snapshot.isPresent()) {
+            Selection selection = select(snapshotNames(snapshot.get(), query), query);
+            return new TopicPage(
+                    fromSnapshot(snapshot.get(), selection.names(), fields).toList(),
+                    selection.nextCursor());
+        }
+
+        Selection selection = select(liveNames(query), query);
+        return new TopicPage(describe(selection.names(), fields), selection.nextCursor());
+    }
+
+    /**
+     * Streams one page of topics matching a query.
+     *
+     * <p>Topic names are listed, filtered and paged before this method returns. When the
+     * topics are not served from the cluster snapshot, they are described in chunks of
+     * {@value #STREAM_DESCRIBE_CHUNK_SIZE} as the stream is consumed, so only one chunk of
+     * topic metadata is held at a time.
+     *
+     * @param query the name filters and page selection
+     * @param fields the response fields to include
+     * @return the stream of topic DTOs sorted by name, with the cursor for the next page
+     */
+    public TopicStream streamTopics(TopicQuery query, Fields fields) {
+        Optional<ClusterSnapshot> snapshot = snapshotService.current();
+        if (snapshot.isPresent()) {
+            Selection selection = select(snapshotNames(snapshot.get(), query), query);
+            return new TopicStream(fromSnapshot(snapshot.get(), selection.names(), fields), selection.nextCursor());
+        }
+
+        Selection selection = select(liveNames(query), query);
+        List<String> names = selection.names();
+        Stream<TopicResponse> topics = IntStream.iterate(0, from -> from < names.size(),
+                        from -> from + STREAM_DESCRIBE_CHUNK_SIZE)
+                .mapToObj(from -> names.subList(from, Math.min(from + STREAM_DESCRIBE_CHUNK_SIZE, names.size())))
+                .flatMap(chunk -> describe(chunk, fields).stream());
+        return new TopicStream(topics, selection.nextCursor());
+    }
+
+    /**
+     * Retrieves non-default configuration for all topics.
+     *
+     * <p>Topics whose configuration could not be retrieved are included with an error message.
+     *
+     * @return list of topic configuration DTOs sorted by name
+     */
+    public List<TopicConfigsResponse> listTopicConfigs() {
+        return kafkaAdminPort.getTopicConfigs(kafkaAdminPort.listTopicNames()).stream()
+                .map(TopicConfigsResponse::from)
+                .sorted(Comparator.comparing(TopicConfigsResponse::name))
                 .toList();
     }
 
     /**
      * Retrieves details for a specific topic.
      *
+     * <p>The topic configuration is only fetched when {@code configs} is selected.
+     *
      * @param topicName the topic name
+     * @param fields the response fields to include
      * @return topic detail DTO
      * @throws TopicNotFoundException if the topic does not exist
      */
-    public TopicDetailResponse getTopic(String topicName) {
-        Topic topic = kafkaAdminPort.getTopic(topicName);
-        return TopicDetailResponse.from(topic);
+    public TopicDetailResponse getTopic(String topicName, Fields fields) {
+        Topic topic = fields.includes("configs")
+                ? kafkaAdminPort.getTopic(topicName)
+                : kafkaAdminPort.getTopicMetadata(topicName);
+        return TopicDetailResponse.from(topic, fields);
     }
 
     /**
      * Retrieves partition information for a topic.
      *
+     * <p>Served from the cluster snapshot when the topic is present in it. Topics created
+     * since the last refresh are looked up directly.
+     *
      * @param topicName the topic name
      * @return list of partition info DTOs sorted by partition number
      * @throws TopicNotFoundException if the topic does not exist
      */
     public List<TopicPartitionInfoResponse> getTopicPartitions(String topicName) {
+        Optional<Topic> snapshotTopic = snapshotService.current().flatMap(snapshot -> snapshot.topic(topicName));
+        if (snapshotTopic.isPresent()) {
+            return snapshotTopic.get().partitions().stream()
+                    .map(TopicPartitionInfoResponse::from)
+                    .toList();
+        }
+
         return kafkaAdminPort.getTopicPartitions(topicName).stream()
                 .map(TopicPartitionInfoResponse::from)
                 .sorted(Comparator.comparingInt(TopicPartitionInfoResponse::partition))
@@ -91,4 +174,51 @@ public class TopicService {
                         .thenComparingInt(ReplicaLogDirInfoResponse::partition))
                 .toList();
     }
+
+    private List<TopicResponse> describe(List<String> sortedNames, Fields fields) {
+        if (!fields.includesAny(TopicResponse.DESCRIBED_FIELDS)) {
+            return sortedNames.stream()
+                    .map(name -> TopicResponse.named(name, fields))
+                    .toList();
+        }
+        return kafkaAdminPort.describeTopics(sortedNames).stream()
+                .sorted(Comparator.comparing(Topic::name))
+                .map(topic -> TopicResponse.from(topic, fields))
+                .toList();
+    }
+
+    private List<String> liveNames(TopicQuery query) {
+        return kafkaAdminPort.listTopicNames().stream()
+                .filter(query::matches)
+                .sorted()
+                .toList();
+    }
+
+    private static List<String> snapshotNames(ClusterSnapshot snapshot, TopicQuery query) {
+        return snapshot.topics().stream()
+                .map(Topic::name)
+                .filter(query::matches)
+                .toList();
+    }
+
+    private static Stream<TopicResponse> fromSnapshot(ClusterSnapshot snapshot, List<String> names, Fields fields) {
+        Map<String, Topic> topicsByName = snapshot.topicsByName();
+        return names.stream()
+                .map(topicsByName::get)
+                .map(topic -> TopicResponse.from(topic, fields));
+    }
+
+    private static Selection select(List<String> sortedNames, TopicQuery query) {
+        if (query.limit() == null || sortedNames.size() <= query.limit()) {
+            return new Selection(sortedNames, null);
+        }
+        List<String> pageNames = sortedNames.subList(0, query.limit());
+        return new Selection(pageNames, TopicQuery.cursorAfter(pageNames.getLast()));
+    }
+
+    /**
+     * Sorted topic names on the requested page, with the cursor for the next page.
+     */
+    private record Selection(List<String> names, String nextCursor) {
+    }
 }
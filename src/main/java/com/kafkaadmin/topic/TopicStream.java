@@ -0,0 +1,12 @@
+package com.kafkaadmin.topic;
+
+import java.util.stream.Stream;
+
+/**
+ * One page of a topic listing, produced lazily.
+ *
+ * @param topics the topics on this page, sorted by name
+ * @param nextCursor cursor for the next page, or null if this is the last page
+ */
+public record TopicStream(Stream<TopicResponse> topics, String nextCursor) {
+}
@@ -0,0 +1,32 @@
+package com.kafkaadmin;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the application context starts, so that every bean can be created.
+ *
+ * <p>Background polling is disabled, as no Kafka cluster is available.
+ */
+@SpringBootTest(properties = {
+        "kafka.admin.bootstrap-servers=localhost:1",
+        "kafka.admin.snapshot.enabled=false",
+        "kafka.admin.lag.enabled=false",
+        "kafka.admin.group-events.enabled=false"
+})
+@ActiveProfiles("test")
+class KafkaAdminApiApplicationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void contextLoads() {
+        assertThat(applicationContext.getBeanDefinitionCount()).isPositive();
+    }
+}
@@ -1,18 +1,25 @@
 package com.kafkaadmin.acl;
 
 import com.kafkaadmin.common.GlobalExceptionHandler;
+import com.kafkaadmin.common.NdjsonResponses;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -26,7 +33,7 @@ class AclControllerTest {
 
     @BeforeEach
     void setUp() {
-        AclController controller = new AclController(aclService);
+        AclController controller = new AclController(aclService, new NdjsonResponses(JsonMapper.builder().build()));
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -64,4 +71,62 @@ class AclControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(0));
     }
+
+    @Test
+    void listAcls_withMatchingIfNoneMatch_shouldReturnNotModified() throws Exception {
+        // Given
+        List<AclResponse> acls = List.of(
+                new AclResponse("TOPIC", "my-topic", "LITERAL", "User:alice", "*", "READ", "ALLOW"));
+        when(aclService.listAcls()).thenReturn(acls);
+        String eTag = mockMvc.perform(get("/api/v1/acls"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/acls")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void listAcls_afterChange_shouldReturnNewBody() throws Exception {
+        // Given
+        when(aclService.listAcls())
+                .thenReturn(List.of(new AclResponse("TOPIC", "my-topic", "LITERAL", "User:alice", "*", "READ", "ALLOW")))
+                .thenReturn(List.of(new AclResponse("TOPIC", "my-topic", "LITERAL", "User:alice", "*", "WRITE", "ALLOW")));
+        String eTag = mockMvc.perform(get("/api/v1/acls"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/acls")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].operation").value("WRITE"));
+    }
+
+    @Test
+    void streamAcls_withNdjsonAccept_shouldWriteOneAclPerLine() throws Exception {
+        // Given
+        when(aclService.streamAcls()).thenReturn(Stream.of(
+                new AclResponse("TOPIC", "my-topic", "LITERAL", "User:alice", "*", "READ", "ALLOW"),
+                new AclResponse("TOPIC", "my-topic", "LITERAL", "User:bob", "*", "WRITE", "ALLOW")));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/acls")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"principal\":\"User:alice\"");
+        assertThat(lines.get(1)).contains("\"principal\":\"User:bob\"");
+    }
 }
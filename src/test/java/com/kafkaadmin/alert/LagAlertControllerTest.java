@@ -0,0 +1,77 @@
+package com.kafkaadmin.alert;
+
+import com.kafkaadmin.common.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class LagAlertControllerTest {
+
+    @Mock
+    private LagAlertEngine lagAlertEngine;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new LagAlertController(lagAlertEngine))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getFiringAlerts_shouldReturnAlerts() throws Exception {
+        // Given
+        when(lagAlertEngine.evaluatedAtMs()).thenReturn(60000L);
+        when(lagAlertEngine.getFiringAlerts()).thenReturn(List.of(new LagAlertResponse(
+                "orders", "my-group", "orders", 3, 150000, 100000, Instant.parse("2026-01-01T00:00:00Z"))));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/alerts"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"60000\""))
+                .andExpect(jsonPath("$[0].rule").value("orders"))
+                .andExpect(jsonPath("$[0].groupId").value("my-group"))
+                .andExpect(jsonPath("$[0].partition").value(3))
+                .andExpect(jsonPath("$[0].lag").value(150000))
+                .andExpect(jsonPath("$[0].lagThreshold").value(100000))
+                .andExpect(jsonPath("$[0].since").value("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void getFiringAlerts_shouldReturnEmptyList() throws Exception {
+        // Given
+        when(lagAlertEngine.getFiringAlerts()).thenReturn(List.of());
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/alerts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void getFiringAlerts_whenNotEvaluatedSinceETag_shouldReturnNotModifiedWithoutListingAlerts() throws Exception {
+        // Given
+        when(lagAlertEngine.evaluatedAtMs()).thenReturn(60000L);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/alerts").header(HttpHeaders.IF_NONE_MATCH, "W/\"60000\""))
+                .andExpect(status().isNotModified());
+        verify(lagAlertEngine, never()).getFiringAlerts();
+    }
+}
@@ -0,0 +1,159 @@
+package com.kafkaadmin.alert;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LagAlertEngineTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void onSample_shouldFireOnceBreachLastsForDuration() {
+        // Given
+        LagAlertEngine engine = engine(new LagAlertProperties.Rule("orders", null, null, 100, 60000));
+
+        // When
+        engine.onSample(0, Map.of("group-1", List.of(offset("orders", 0, 150))));
+        engine.onSample(30000, Map.of("group-1", List.of(offset("orders", 0, 180))));
+
+        // Then
+        assertThat(engine.getFiringAlerts()).isEmpty();
+
+        // When
+        engine.onSample(60000, Map.of("group-1", List.of(offset("orders", 0, 200))));
+
+        // Then
+        assertThat(engine.getFiringAlerts()).containsExactly(
+                new LagAlertResponse("orders", "group-1", "orders", 0, 200, 100, Instant.ofEpochMilli(0)));
+        assertThat(firingGauge("orders")).isEqualTo(1);
+        assertThat(engine.evaluatedAtMs()).isEqualTo(60000);
+    }
+
+    @Test
+    void onSample_shouldResetWhenLagDropsBelowThreshold() {
+        // Given
+        LagAlertEngine engine = engine(new LagAlertProperties.Rule("orders", null, null, 100, 0));
+        engine.onSample(0, Map.of("group-1", List.of(offset("orders", 0, 150))));
+
+        // When
+        engine.onSample(30000, Map.of("group-1", List.of(offset("orders", 0, 100))));
+
+        // Then
+        assertThat(engine.getFiringAlerts()).isEmpty();
+        assertThat(firingGauge("orders")).isZero();
+
+        // When
+        engine.onSample(60000, Map.of("group-1", List.of(offset("orders", 0, 101))));
+
+        // Then
+        assertThat(engine.getFiringAlerts()).extracting(LagAlertResponse::since)
+                .containsExactly(Instant.ofEpochMilli(60000));
+    }
+
+    @Test
+    void onSample_shouldRestartBreachWhenGroupMissedASample() {
+        // Given
+        LagAlertEngine engine = engine(new LagAlertProperties.Rule("orders", null, null, 100, 60000));
+        engine.onSample(0, Map.of("group-1", List.of(offset("orders", 0, 150))));
+        engine.onSample(30000, Map.of("group-2", List.of(offset("orders", 0, 150))));
+
+        // When
+        engine.onSample(60000, Map.of("group-1", List.of(offset("orders", 0, 150))));
+
+        // Then
+        assertThat(engine.getFiringAlerts()).isEmpty();
+    }
+
+    @Test
+    void onSample_shouldRestartBreachWhenPartitionMissedASample() {
+        // Given
+        LagAlertEngine engine = engine(new LagAlertProperties.Rule("orders", null, null, 100, 60000));
+        engine.onSample(0, Map.of("group-1", List.of(offset("orders", 0, 150), offset("orders", 1, 150))));
+        engine.onSample(30000, Map.of("group-1", List.of(offset("orders", 0, 150))));
+
+        // When
+        engine.onSample(60000, Map.of("group-1", List.of(offset("orders", 0, 150), offset("orders", 1, 150))));
+
+        // Then
+        assertThat(engine.getFiringAlerts()).extracting(LagAlertResponse::partition).containsExactly(0);
+    }
+
+    @Test
+    void onSample_shouldOnlyEvaluateMatchingRules() {
+        // Given
+        LagAlertEngine engine = engine(
+                new LagAlertProperties.Rule("payments", "payments-.*", null, 10, 0),
+                new LagAlertProperties.Rule("orders", null, "orders", 100, 0));
+
+        // When
+        engine.onSample(0, Map.of(
+                "payments-service", List.of(offset("orders", 0, 50), offset("refunds", 0, 500)),
+                "billing", List.of(offset("orders", 0, 500), offset("orders-dlq", 0, 500))));
+
+        // Then
+        assertThat(engine.getFiringAlerts()).extracting(LagAlertResponse::rule, LagAlertResponse::groupId,
+                        LagAlertResponse::topic)
+                .containsExactly(
+                        tuple("orders", "billing", "orders"),
+                        tuple("payments", "payments-service", "orders"),
+                        tuple("payments", "payments-service", "refunds"));
+        assertThat(firingGauge("payments")).isEqualTo(2);
+        assertThat(firingGauge("orders")).isEqualTo(1);
+    }
+
+    @Test
+    void onSample_shouldDoNothingWhenDisabled() {
+        // Given
+        LagAlertEngine engine = new LagAlertEngine(new LagAlertProperties(false,
+                List.of(new LagAlertProperties.Rule("orders", null, null, 0, 0))), meterRegistry);
+
+        // When
+        engine.onSample(0, Map.of("group-1", List.of(offset("orders", 0, 150))));
+
+        // Then
+        assertThat(engine.getFiringAlerts()).isEmpty();
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidRules() {
+        // When/Then
+        assertThatThrownBy(() -> engine(new LagAlertProperties.Rule(" ", null, null, 0, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine(
+                new LagAlertProperties.Rule("a", null, null, 0, 0),
+                new LagAlertProperties.Rule("a", null, null, 0, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate");
+        assertThatThrownBy(() -> engine(new LagAlertProperties.Rule("a", null, null, -1, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine(new LagAlertProperties.Rule("a", "[", null, 0, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LagAlertEngine engine(LagAlertProperties.Rule... rules) {
+        return new LagAlertEngine(new LagAlertProperties(true, List.of(rules)), meterRegistry);
+    }
+
+    private double firingGauge(String rule) {
+        return meterRegistry.get(LagAlertEngine.FIRING_METRIC).tag("rule", rule).gauge().value();
+    }
+
+    private static ConsumerGroupOffset offset(String topic, int partition, long lag) {
+        return new ConsumerGroupOffset(topic, partition, 0, lag, lag);
+    }
+}
@@ -0,0 +1,152 @@
+package com.kafkaadmin.cluster;
+
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BrokerRegistryTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private AsyncKafkaAdminPort asyncKafkaAdminPort;
+
+    @Mock
+    private ClusterSnapshotService snapshotService;
+
+    @Test
+    void get_withSnapshot_shouldServeBrokersOfCurrentSnapshot() {
+        // Given
+        BrokerRegistry registry = registry(FIXED_CLOCK);
+        when(snapshotService.current())
+                .thenReturn(Optional.of(snapshot(1, 1, 2)))
+                .thenReturn(Optional.of(snapshot(1, 1, 2)))
+                .thenReturn(Optional.of(snapshot(2, 1)));
+
+        // When
+        Broker broker = registry.get(2);
+
+        // Then
+        assertThat(broker.host()).isEqualTo("broker-2");
+        assertThat(registry.get(1).host()).isEqualTo("broker-1");
+        assertThatThrownBy(() -> registry.get(2))
+                .isInstanceOf(BrokerNotFoundException.class)
+                .hasMessageContaining("2");
+        verifyNoInteractions(asyncKafkaAdminPort);
+    }
+
+    @Test
+    void get_withSnapshot_shouldFindEveryBrokerWhenIdsCollide() {
+        // Given
+        BrokerRegistry registry = registry(FIXED_CLOCK);
+        int[] ids = IntStream.range(0, 50).map(i -> i * 1024).toArray();
+        when(snapshotService.current()).thenReturn(Optional.of(snapshot(1, ids)));
+
+        // When/Then
+        for (int id : ids) {
+            assertThat(registry.get(id).id()).isEqualTo(id);
+        }
+        assertThatThrownBy(() -> registry.get(1))
+                .isInstanceOf(BrokerNotFoundException.class);
+    }
+
+    @Test
+    void get_withoutSnapshot_shouldLoadOnceAndReuseWithinMaxAge() {
+        // Given
+        BrokerRegistry registry = registry(FIXED_CLOCK);
+        when(snapshotService.current()).thenReturn(Optional.empty());
+        when(asyncKafkaAdminPort.listBrokers()).thenReturn(brokers(1, 2, 3));
+
+        // When
+        Broker first = registry.get(2);
+        Broker second = registry.get(3);
+
+        // Then
+        assertThat(first.host()).isEqualTo("broker-2");
+        assertThat(second.host()).isEqualTo("broker-3");
+        verify(asyncKafkaAdminPort, times(1)).listBrokers();
+    }
+
+    @Test
+    void get_withoutSnapshot_shouldReloadOnMissAtMostOncePerMinInterval() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now.get());
+        BrokerRegistry registry = registry(clock);
+        when(snapshotService.current()).thenReturn(Optional.empty());
+        when(asyncKafkaAdminPort.listBrokers()).thenReturn(brokers(1)).thenReturn(brokers(1, 5));
+        registry.get(1);
+
+        // When/Then
+        now.set(500);
+        assertThatThrownBy(() -> registry.get(5))
+                .isInstanceOf(BrokerNotFoundException.class);
+        now.set(2000);
+        assertThat(registry.get(5).host()).isEqualTo("broker-5");
+        verify(asyncKafkaAdminPort, times(2)).listBrokers();
+    }
+
+    @Test
+    void get_withoutSnapshot_whenLoadFails_shouldThrowException() {
+        // Given
+        BrokerRegistry registry = registry(FIXED_CLOCK);
+        when(snapshotService.current()).thenReturn(Optional.empty());
+        when(asyncKafkaAdminPort.listBrokers())
+                .thenReturn(CompletableFuture.failedFuture(new KafkaAdminException("Failed to get cluster info")));
+
+        // When/Then
+        assertThatThrownBy(() -> registry.get(1))
+                .isInstanceOf(KafkaAdminException.class)
+                .isNotInstanceOf(BrokerNotFoundException.class);
+    }
+
+    @Test
+    void confirm_whenBrokerLeft_shouldThrowException() {
+        // Given
+        BrokerRegistry registry = registry(FIXED_CLOCK);
+        when(asyncKafkaAdminPort.listBrokers()).thenReturn(brokers(1));
+
+        // When/Then
+        registry.confirm(1);
+        assertThatThrownBy(() -> registry.confirm(2))
+                .isInstanceOf(BrokerNotFoundException.class);
+    }
+
+    private BrokerRegistry registry(Clock clock) {
+        return new BrokerRegistry(asyncKafkaAdminPort, snapshotService, new BrokerRegistryProperties(10000, 1000), clock);
+    }
+
+    private static ClusterSnapshot snapshot(long version, int... ids) {
+        return ClusterSnapshot.of(version, Instant.EPOCH, new ClusterInfo("cluster", ids[0], brokers(ids).join()), List.of());
+    }
+
+    private static CompletableFuture<List<Broker>> brokers(int... ids) {
+        return CompletableFuture.completedFuture(IntStream.of(ids)
+                .mapToObj(id -> new Broker(id, "broker-" + id, 9092, null, id == ids[0]))
+                .toList());
+    }
+}
@@ -1,18 +1,29 @@
 package com.kafkaadmin.cluster;
 
+import com.kafkaadmin.common.ETags;
 import com.kafkaadmin.common.GlobalExceptionHandler;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
+import com.kafkaadmin.snapshot.SnapshotHeaders;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -23,11 +34,14 @@ class ClusterControllerTest {
     @Mock
     private ClusterService clusterService;
 
+    @Mock
+    private ClusterSnapshotService snapshotService;
+
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
-        ClusterController controller = new ClusterController(clusterService);
+        ClusterController controller = new ClusterController(clusterService, snapshotService);
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -78,6 +92,28 @@ class ClusterControllerTest {
                 .andExpect(jsonPath("$[0].isController").value(true));
     }
 
+    @Test
+    void listBrokers_whenServedFromSnapshot_shouldIncludeFreshnessHeaders() throws Exception {
+        // Given
+        ClusterSnapshot snapshot = ClusterSnapshot.of(
+                7,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                new ClusterInfo("test-cluster-id", 1, List.of()),
+                List.of());
+        when(clusterService.listBrokers()).thenReturn(List.of());
+        when(snapshotService.current()).thenReturn(Optional.of(snapshot));
+        when(snapshotService.refreshIntervalMs()).thenReturn(10000L);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/cluster/brokers")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SnapshotHeaders.VERSION, "7"))
+                .andExpect(header().string(SnapshotHeaders.REFRESHED_AT, "2026-01-01T00:00:00Z"))
+                .andExpect(header().string(SnapshotHeaders.REFRESH_INTERVAL_MS, "10000"))
+                .andExpect(header().exists(SnapshotHeaders.AGE_MS));
+    }
+
     @Test
     void getBroker_shouldReturnBrokerDetails() throws Exception {
         // Given
@@ -89,7 +125,7 @@ class ClusterControllerTest {
                 true,
                 Map.of("log.retention.hours", "168")
         );
-        when(clusterService.getBroker(1)).thenReturn(broker);
+        when(clusterService.getBroker(eq(1), any())).thenReturn(broker);
 
         // When/Then
         mockMvc.perform(get("/api/v1/cluster/brokers/1")
@@ -104,7 +140,7 @@ class ClusterControllerTest {
     @Test
     void getBroker_whenNotFound_shouldReturn404() throws Exception {
         // Given
-        when(clusterService.getBroker(999))
+        when(clusterService.getBroker(eq(999), any()))
                 .thenThrow(new BrokerNotFoundException(999));
 
         // When/Then
@@ -115,4 +151,35 @@ class ClusterControllerTest {
                 .andExpect(jsonPath("$.error").value("Not Found"))
                 .andExpect(jsonPath("$.message").value("Broker with ID '999' not found"));
     }
+
+    @Test
+    void listBrokers_whenSnapshotUnchanged_shouldReturnNotModifiedWithoutCallingService() throws Exception {
+        // Given
+        ClusterSnapshot snapshot = ClusterSnapshot.of(
+                3,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                new ClusterInfo("test-cluster-id", 1, List.of(new Broker(1, "broker-1", 9092, null, true))),
+                List.of());
+        when(snapshotService.current()).thenReturn(Optional.of(snapshot));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/cluster/brokers")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETags.weak(snapshot.metadataDigest())))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.weak(snapshot.metadataDigest())));
+        verify(clusterService, never()).listBrokers();
+    }
+
+    @Test
+    void listBrokers_withoutSnapshot_shouldTagLiveResponse() throws Exception {
+        // Given
+        List<BrokerResponse> brokers = List.of(new BrokerResponse(1, "broker-1", 9092, null, true));
+        when(snapshotService.current()).thenReturn(Optional.empty());
+        when(clusterService.listBrokers()).thenReturn(brokers);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/cluster/brokers"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.of(brokers)));
+    }
 }
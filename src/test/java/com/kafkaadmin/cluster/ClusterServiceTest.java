@@ -1,6 +1,10 @@
 package com.kafkaadmin.cluster;
 
+import com.kafkaadmin.common.Fields;
+import com.kafkaadmin.common.KafkaAdminException;
 import com.kafkaadmin.common.KafkaAdminPort;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,10 +12,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,11 +30,17 @@ class ClusterServiceTest {
     @Mock
     private KafkaAdminPort kafkaAdminPort;
 
+    @Mock
+    private ClusterSnapshotService snapshotService;
+
+    @Mock
+    private BrokerRegistry brokerRegistry;
+
     private ClusterService clusterService;
 
     @BeforeEach
     void setUp() {
-        clusterService = new ClusterService(kafkaAdminPort);
+        clusterService = new ClusterService(kafkaAdminPort, snapshotService, brokerRegistry);
     }
 
     @Test
@@ -71,6 +87,27 @@ class ClusterServiceTest {
         assertThat(result.get(2).id()).isEqualTo(3);
     }
 
+    @Test
+    void listBrokers_whenSnapshotAvailable_shouldServeFromSnapshot() {
+        // Given
+        ClusterInfo clusterInfo = new ClusterInfo(
+                "test-cluster-id",
+                1,
+                List.of(
+                        new Broker(2, "broker-2", 9092, "rack-2", false),
+                        new Broker(1, "broker-1", 9092, "rack-1", true)
+                ));
+        ClusterSnapshot snapshot = ClusterSnapshot.of(1, Instant.now(), clusterInfo, List.of());
+        when(snapshotService.current()).thenReturn(Optional.of(snapshot));
+
+        // When
+        List<BrokerResponse> result = clusterService.listBrokers();
+
+        // Then
+        assertThat(result).extracting(BrokerResponse::id).containsExactly(1, 2);
+        verifyNoInteractions(kafkaAdminPort);
+    }
+
     @Test
     void getBroker_shouldReturnBrokerWithConfigs() {
         // Given
@@ -81,11 +118,11 @@ class ClusterServiceTest {
                 "num.partitions", "1"
         );
 
-        when(kafkaAdminPort.getBroker(brokerId)).thenReturn(broker);
+        when(brokerRegistry.get(brokerId)).thenReturn(broker);
         when(kafkaAdminPort.getBrokerConfigs(brokerId)).thenReturn(configs);
 
         // When
-        BrokerDetailResponse result = clusterService.getBroker(brokerId);
+        BrokerDetailResponse result = clusterService.getBroker(brokerId, Fields.ALL);
 
         // Then
         assertThat(result.id()).isEqualTo(brokerId);
@@ -94,18 +131,78 @@ class ClusterServiceTest {
         assertThat(result.rack()).isEqualTo("rack-1");
         assertThat(result.isController()).isTrue();
         assertThat(result.configs()).containsEntry("log.retention.hours", "168");
+        verify(kafkaAdminPort, never()).getBroker(brokerId);
     }
 
     @Test
     void getBroker_whenNotFound_shouldThrowException() {
         // Given
         int brokerId = 999;
-        when(kafkaAdminPort.getBroker(brokerId))
-                .thenThrow(new BrokerNotFoundException(brokerId));
+        when(brokerRegistry.get(brokerId)).thenThrow(new BrokerNotFoundException(brokerId));
 
         // When/Then
-        assertThatThrownBy(() -> clusterService.getBroker(brokerId))
+        assertThatThrownBy(() -> clusterService.getBroker(brokerId, Fields.ALL))
                 .isInstanceOf(BrokerNotFoundException.class)
                 .hasMessageContaining("999");
+        verifyNoInteractions(kafkaAdminPort);
+    }
+
+    @Test
+    void getBroker_whenBrokerLeftCluster_shouldThrowNotFound() {
+        // Given
+        int brokerId = 3;
+        when(brokerRegistry.get(brokerId)).thenReturn(new Broker(brokerId, "broker-3", 9092, null, false));
+        when(kafkaAdminPort.getBrokerConfigs(brokerId))
+                .thenThrow(new KafkaAdminException("Failed to get broker configs: 3"));
+        doThrow(new BrokerNotFoundException(brokerId)).when(brokerRegistry).confirm(brokerId);
+
+        // When/Then
+        assertThatThrownBy(() -> clusterService.getBroker(brokerId, Fields.ALL))
+                .isInstanceOf(BrokerNotFoundException.class);
+    }
+
+    @Test
+    void getBroker_withoutConfigsField_shouldSkipConfigLookup() {
+        // Given
+        int brokerId = 1;
+        when(brokerRegistry.get(brokerId)).thenReturn(new Broker(brokerId, "broker-1", 9092, "rack-1", true));
+
+        // When
+        BrokerDetailResponse result = clusterService.getBroker(
+                brokerId, Fields.parse("id,host", BrokerDetailResponse.FIELDS));
+
+        // Then
+        assertThat(result.id()).isEqualTo(brokerId);
+        assertThat(result.host()).isEqualTo("broker-1");
+        assertThat(result.configs()).isNull();
+        verifyNoInteractions(kafkaAdminPort);
+    }
+
+    @Test
+    void getBrokerLogDirs_shouldReturnLogDirsSortedByPath() {
+        // Given
+        int brokerId = 1;
+        when(brokerRegistry.get(brokerId)).thenReturn(new Broker(brokerId, "broker-1", 9092, null, true));
+        when(kafkaAdminPort.describeLogDirs(brokerId)).thenReturn(List.of(
+                new LogDirInfo("/data/b", null, 100, 50, List.of()),
+                new LogDirInfo("/data/a", null, 100, 50, List.of())));
+
+        // When
+        List<LogDirInfoResponse> result = clusterService.getBrokerLogDirs(brokerId);
+
+        // Then
+        assertThat(result).extracting(LogDirInfoResponse::path).containsExactly("/data/a", "/data/b");
+    }
+
+    @Test
+    void getBrokerLogDirs_whenNotFound_shouldThrowException() {
+        // Given
+        int brokerId = 999;
+        when(brokerRegistry.get(brokerId)).thenThrow(new BrokerNotFoundException(brokerId));
+
+        // When/Then
+        assertThatThrownBy(() -> clusterService.getBrokerLogDirs(brokerId))
+                .isInstanceOf(BrokerNotFoundException.class);
+        verifyNoInteractions(kafkaAdminPort);
     }
 }
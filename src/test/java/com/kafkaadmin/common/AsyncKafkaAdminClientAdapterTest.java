@@ -0,0 +1,356 @@
+package com.kafkaadmin.common;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupNotFoundException;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.topic.ProducerState;
+import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.clients.admin.DescribeProducersResult;
+import org.apache.kafka.clients.admin.DescribeProducersResult.PartitionProducerState;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.GroupListing;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListGroupsOptions;
+import org.apache.kafka.clients.admin.ListGroupsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.GroupState;
+import org.apache.kafka.common.GroupType;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.GroupIdNotFoundException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncKafkaAdminClientAdapterTest {
+
+    private static final TopicPartition ORDERS_0 = new TopicPartition("orders", 0);
+    private static final TopicPartition DELETED_0 = new TopicPartition("deleted", 0);
+
+    @Mock
+    private AdminClient adminClient;
+
+    private AsyncKafkaAdminClientAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new AsyncKafkaAdminClientAdapter(
+                adminClient, new EndOffsetCacheProperties(0L), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getTopic_whenTopicExists_shouldReturnTopicWithConfigs() {
+        // Given
+        stubDescribeTopic("orders", KafkaFuture.completedFuture(
+                new TopicDescription("orders", false, List.of(partition(0)))));
+        stubDescribeConfigs("orders", KafkaFuture.completedFuture(
+                new Config(List.of(new ConfigEntry("retention.ms", "1000")))));
+
+        // When
+        Topic result = adapter.getTopic("orders").join();
+
+        // Then
+        assertThat(result.name()).isEqualTo("orders");
+        assertThat(result.partitionCount()).isEqualTo(1);
+        assertThat(result.configs()).containsEntry("retention.ms", "1000");
+    }
+
+    @Test
+    void getTopic_whenConfigsFail_shouldReturnTopicWithoutConfigs() {
+        // Given
+        stubDescribeTopic("orders", KafkaFuture.completedFuture(
+                new TopicDescription("orders", false, List.of(partition(0)))));
+        stubDescribeConfigs("orders", failed(new TimeoutException("timed out")));
+
+        // When
+        Topic result = adapter.getTopic("orders").join();
+
+        // Then
+        assertThat(result.name()).isEqualTo("orders");
+        assertThat(result.configs()).isEmpty();
+    }
+
+    @Test
+    void getTopic_whenTopicMissing_shouldThrowNotFound() {
+        // Given
+        stubDescribeTopic("missing", failed(new UnknownTopicOrPartitionException("missing")));
+        stubDescribeConfigs("missing", failed(new UnknownTopicOrPartitionException("missing")));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.getTopic("missing").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TopicNotFoundException.class);
+    }
+
+    @Test
+    void getTopicMetadata_whenTopicExists_shouldReturnTopicWithoutConfigs() {
+        // Given
+        stubDescribeTopic("orders", KafkaFuture.completedFuture(
+                new TopicDescription("orders", false, List.of(partition(0), partition(1)))));
+
+        // When
+        Topic result = adapter.getTopicMetadata("orders").join();
+
+        // Then
+        assertThat(result.name()).isEqualTo("orders");
+        assertThat(result.partitionCount()).isEqualTo(2);
+        assertThat(result.replicationFactor()).isEqualTo(1);
+        assertThat(result.configs()).isEmpty();
+        verify(adminClient, never()).describeConfigs(anyCollection());
+    }
+
+    @Test
+    void getTopicMetadata_whenTopicMissing_shouldThrowNotFound() {
+        // Given
+        stubDescribeTopic("missing", failed(new UnknownTopicOrPartitionException("missing")));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.getTopicMetadata("missing").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TopicNotFoundException.class);
+    }
+
+    @Test
+    void getTopicMetadata_whenDescribeFails_shouldThrowException() {
+        // Given
+        stubDescribeTopic("orders", failed(new TimeoutException("timed out")));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.getTopicMetadata("orders").join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isExactlyInstanceOf(KafkaAdminException.class)
+                .hasMessageContaining("orders");
+    }
+
+    @Test
+    void topicExists_whenTopicExists_shouldReturnTrue() {
+        // Given
+        stubDescribeTopic("orders", KafkaFuture.completedFuture(
+                new TopicDescription("orders", false, List.of(partition(0)))));
+
+        // When/Then
+        assertThat(adapter.topicExists("orders").join()).isTrue();
+    }
+
+    @Test
+    void topicExists_whenTopicMissing_shouldReturnFalse() {
+        // Given
+        stubDescribeTopic("missing", failed(new UnknownTopicOrPartitionException("missing")));
+
+        // When/Then
+        assertThat(adapter.topicExists("missing").join()).isFalse();
+    }
+
+    @Test
+    void topicExists_whenDescribeFails_shouldThrowException() {
+        // Given
+        stubDescribeTopic("orders", failed(new TimeoutException("timed out")));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.topicExists("orders").join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(KafkaAdminException.class)
+                .hasMessageContaining("orders");
+    }
+
+    @Test
+    void describeProducers_shouldDescribeWithoutExistenceCheck() {
+        // Given
+        TopicPartition tp = new TopicPartition("orders", 0);
+        org.apache.kafka.clients.admin.ProducerState producer = new org.apache.kafka.clients.admin.ProducerState(
+                7, 1, 42, 1000, OptionalInt.empty(), OptionalLong.empty());
+        stubDescribeProducers(tp, KafkaFuture.completedFuture(new PartitionProducerState(List.of(producer))));
+
+        // When
+        List<ProducerState> result = adapter.describeProducers("orders", 0).join();
+
+        // Then
+        assertThat(result).containsExactly(new ProducerState(7, 1, 42, 1000, -1, -1L));
+        verify(adminClient, never()).describeTopics(anyCollection());
+    }
+
+    @Test
+    void describeProducers_whenTopicMissing_shouldThrowNotFound() {
+        // Given
+        TopicPartition tp = new TopicPartition("missing", 0);
+        stubDescribeProducers(tp, failed(new UnknownTopicOrPartitionException("missing")));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.describeProducers("missing", 0).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TopicNotFoundException.class);
+    }
+
+    @Test
+    void listConsumerGroupIds_shouldListConsumerGroups() {
+        // Given
+        ListGroupsResult result = mock(ListGroupsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(List.of(
+                new GroupListing("group-1", Optional.of(GroupType.CLASSIC), "consumer", Optional.empty()))));
+        when(adminClient.listGroups(any(ListGroupsOptions.class))).thenReturn(result);
+
+        // When
+        List<String> groupIds = adapter.listConsumerGroupIds().join();
+
+        // Then
+        assertThat(groupIds).containsExactly("group-1");
+    }
+
+    @Test
+    void getConsumerGroupOffsets_shouldFetchOffsetsAlongsideDescribe() {
+        // Given
+        KafkaFutureImpl<ConsumerGroupDescription> description = new KafkaFutureImpl<>();
+        KafkaFutureImpl<Map<TopicPartition, OffsetAndMetadata>> committed = new KafkaFutureImpl<>();
+        stubGroupLookups("group-1", description, committed);
+        when(adminClient.listOffsets(anyMap())).thenReturn(new ListOffsetsResult(Map.of(ORDERS_0, endOffset(100))));
+
+        // When
+        CompletableFuture<List<ConsumerGroupOffset>> result = adapter.getConsumerGroupOffsets("group-1");
+
+        // Then
+        verify(adminClient).describeConsumerGroups(List.of("group-1"));
+        verify(adminClient).listConsumerGroupOffsets("group-1");
+        assertThat(result).isNotDone();
+
+        committed.complete(Map.of(ORDERS_0, new OffsetAndMetadata(90)));
+        description.complete(groupDescription("group-1"));
+        assertThat(result.join()).containsExactly(new ConsumerGroupOffset("orders", 0, 90, 100, 10));
+    }
+
+    @Test
+    void getConsumerGroupOffsets_whenGroupMissingAndOffsetsFail_shouldThrowNotFound() {
+        // Given
+        stubGroupLookups("missing",
+                failed(new GroupIdNotFoundException("missing")),
+                failed(new TimeoutException("timed out")));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.getConsumerGroupOffsets("missing").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ConsumerGroupNotFoundException.class);
+    }
+
+    @Test
+    void getConsumerGroupsOffsets_whenSomeEndOffsetsFail_shouldOmitOnlyFailedPartitions() {
+        // Given
+        stubCommittedOffsets(Map.of(
+                "group-1", Map.of(ORDERS_0, new OffsetAndMetadata(90), DELETED_0, new OffsetAndMetadata(5)),
+                "group-2", Map.of(DELETED_0, new OffsetAndMetadata(5))));
+        when(adminClient.listOffsets(anyMap())).thenReturn(new ListOffsetsResult(Map.of(
+                ORDERS_0, endOffset(100),
+                DELETED_0, failed(new UnknownTopicOrPartitionException("deleted")))));
+
+        // When
+        Map<String, List<ConsumerGroupOffset>> result =
+                adapter.getConsumerGroupsOffsets(List.of("group-1", "group-2")).join();
+
+        // Then
+        assertThat(result).containsOnlyKeys("group-1");
+        assertThat(result.get("group-1")).containsExactly(new ConsumerGroupOffset("orders", 0, 90, 100, 10));
+    }
+
+    @Test
+    void getConsumerGroupsOffsets_whenAllEndOffsetsFail_shouldFail() {
+        // Given
+        stubCommittedOffsets(Map.of("group-1", Map.of(DELETED_0, new OffsetAndMetadata(5))));
+        when(adminClient.listOffsets(anyMap())).thenReturn(new ListOffsetsResult(Map.of(
+                DELETED_0, failed(new UnknownTopicOrPartitionException("deleted")))));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.getConsumerGroupsOffsets(List.of("group-1")).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(KafkaAdminException.class);
+    }
+
+    private void stubDescribeTopic(String topicName, KafkaFuture<TopicDescription> description) {
+        DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+        when(result.topicNameValues()).thenReturn(Map.of(topicName, description));
+        when(adminClient.describeTopics(List.of(topicName))).thenReturn(result);
+    }
+
+    private void stubDescribeProducers(TopicPartition tp, KafkaFuture<PartitionProducerState> state) {
+        DescribeProducersResult result = mock(DescribeProducersResult.class);
+        when(result.partitionResult(tp)).thenReturn(state);
+        when(adminClient.describeProducers(List.of(tp))).thenReturn(result);
+    }
+
+    private void stubDescribeConfigs(String topicName, KafkaFuture<Config> config) {
+        DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+        when(result.values()).thenReturn(Map.of(new ConfigResource(ConfigResource.Type.TOPIC, topicName), config));
+        when(adminClient.describeConfigs(anyCollection())).thenReturn(result);
+    }
+
+    private static org.apache.kafka.common.TopicPartitionInfo partition(int partition) {
+        Node node = new Node(1, "broker-1", 9092);
+        return new org.apache.kafka.common.TopicPartitionInfo(partition, node, List.of(node), List.of(node));
+    }
+
+    private void stubGroupLookups(String groupId, KafkaFuture<ConsumerGroupDescription> description,
+                                  KafkaFuture<Map<TopicPartition, OffsetAndMetadata>> committed) {
+        when(adminClient.describeConsumerGroups(List.of(groupId)))
+                .thenReturn(new DescribeConsumerGroupsResult(Map.of(groupId, description)));
+        ListConsumerGroupOffsetsResult result = mock(ListConsumerGroupOffsetsResult.class);
+        when(result.partitionsToOffsetAndMetadata()).thenReturn(committed);
+        when(adminClient.listConsumerGroupOffsets(groupId)).thenReturn(result);
+    }
+
+    private static ConsumerGroupDescription groupDescription(String groupId) {
+        return new ConsumerGroupDescription(groupId, false, List.of(), "range", GroupType.CLASSIC, GroupState.STABLE,
+                new Node(1, "broker-1", 9092), Set.of(), Optional.empty(), Optional.empty());
+    }
+
+    private void stubCommittedOffsets(Map<String, Map<TopicPartition, OffsetAndMetadata>> committed) {
+        ListConsumerGroupOffsetsResult result = mock(ListConsumerGroupOffsetsResult.class);
+        committed.forEach((groupId, offsets) ->
+                when(result.partitionsToOffsetAndMetadata(groupId)).thenReturn(KafkaFuture.completedFuture(offsets)));
+        when(adminClient.listConsumerGroupOffsets(anyMap())).thenReturn(result);
+    }
+
+    private static KafkaFuture<ListOffsetsResult.ListOffsetsResultInfo> endOffset(long offset) {
+        return KafkaFuture.completedFuture(new ListOffsetsResult.ListOffsetsResultInfo(offset, -1, Optional.empty()));
+    }
+
+    private static <T> KafkaFuture<T> failed(Throwable cause) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+}
@@ -0,0 +1,219 @@
+package com.kafkaadmin.common;
+
+import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingKafkaAdminPortTest {
+
+    private static final int CALLERS = 5;
+
+    @Mock
+    private KafkaAdminPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingKafkaAdminPort port;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        port = new CoalescingKafkaAdminPort(delegate, meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void listTopicNames_concurrentCalls_shouldShareSingleDelegateCall() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.listTopicNames()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of("topic-a", "topic-b");
+        });
+
+        // When
+        List<Future<List<String>>> results = submitConcurrently(() -> port.listTopicNames());
+        release.countDown();
+
+        // Then
+        for (Future<List<String>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly("topic-a", "topic-b");
+        }
+        verify(delegate, times(1)).listTopicNames();
+        assertThat(count("listTopicNames", "executed")).isEqualTo(1);
+        assertThat(count("listTopicNames", "coalesced")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void getTopic_concurrentFailure_shouldPropagateToEveryCaller() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getTopic("missing")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new TopicNotFoundException("missing");
+        });
+
+        // When
+        List<Future<Object>> results = submitConcurrently(() -> port.getTopic("missing"));
+        release.countDown();
+
+        // Then
+        for (Future<Object> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(TopicNotFoundException.class);
+        }
+        verify(delegate, times(1)).getTopic("missing");
+    }
+
+    @Test
+    void topicExists_differentArguments_shouldNotCoalesce() {
+        // Given
+        when(delegate.topicExists("topic-a")).thenReturn(true);
+        when(delegate.topicExists("topic-b")).thenReturn(false);
+
+        // When
+        boolean first = port.topicExists("topic-a");
+        boolean second = port.topicExists("topic-b");
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(count("topicExists", "executed")).isEqualTo(2);
+    }
+
+    @Test
+    void listTopicNames_sequentialCalls_shouldNotReuseCompletedResult() {
+        // Given
+        when(delegate.listTopicNames())
+                .thenReturn(List.of("topic-a"))
+                .thenReturn(List.of("topic-a", "topic-b"));
+
+        // When
+        List<String> first = port.listTopicNames();
+        List<String> second = port.listTopicNames();
+
+        // Then
+        assertThat(first).containsExactly("topic-a");
+        assertThat(second).containsExactly("topic-a", "topic-b");
+        verify(delegate, times(2)).listTopicNames();
+    }
+
+    @Test
+    void listTopicNames_concurrentCalls_shouldNotLetCallersChangeSharedResult() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.listTopicNames()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ArrayList<>(List.of("topic-b", "topic-a"));
+        });
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        List<Future<List<String>>> results = submitConcurrently(() -> {
+            List<String> names = port.listTopicNames();
+            try {
+                names.sort(Comparator.naturalOrder());
+            } catch (UnsupportedOperationException e) {
+                rejected.incrementAndGet();
+            }
+            return names;
+        });
+        release.countDown();
+
+        // Then
+        for (Future<List<String>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly("topic-b", "topic-a");
+        }
+        assertThat(rejected.get()).isEqualTo(CALLERS);
+        assertThat(count("listTopicNames", "coalesced")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void describeTopics_argumentChangedWhileInFlight_shouldKeyOnOriginalArgument() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        List<String> names = new ArrayList<>(List.of("topic-a"));
+        Future<List<Topic>> first = executor.submit(() -> port.describeTopics(names));
+        awaitCalls(1);
+        names.add("topic-b");
+
+        // When
+        Future<List<Topic>> second = executor.submit(() -> port.describeTopics(List.of("topic-a")));
+        awaitCalls(2);
+        release.countDown();
+
+        // Then
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        verify(delegate, times(1)).describeTopics(anyCollection());
+        assertThat(count("describeTopics", "coalesced")).isEqualTo(1);
+    }
+
+    private <T> List<Future<T>> submitConcurrently(Callable<T> call) throws InterruptedException {
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        // Wait until the first caller is executing and the rest have joined it
+        awaitCalls(CALLERS);
+        return results;
+    }
+
+    private void awaitCalls(int calls) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (totalCalls() < calls && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double totalCalls() {
+        return meterRegistry.find(CoalescingKafkaAdminPort.CALLS_METRIC).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private double count(String operation, String outcome) {
+        return meterRegistry.get(CoalescingKafkaAdminPort.CALLS_METRIC)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,58 @@
+package com.kafkaadmin.common;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    @Test
+    void of_shouldDistinguishContentWithEqualHashCodes() {
+        // Given
+        ConsumerGroupOffset before = new ConsumerGroupOffset("orders", 0, 100, 200, 100);
+        ConsumerGroupOffset after = new ConsumerGroupOffset("orders", 0, 101, 169, 100);
+
+        // When/Then
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(ETags.of(List.of("Aa"))).isNotEqualTo(ETags.of(List.of("BB")));
+        assertThat(after.hashCode()).isEqualTo(before.hashCode());
+        assertThat(ETags.of(after)).isNotEqualTo(ETags.of(before));
+    }
+
+    @Test
+    void of_shouldBeStableForEqualContent() {
+        // When/Then
+        assertThat(ETags.of(Map.of("b", 2, "a", 1)))
+                .isEqualTo(ETags.of(Map.of("a", 1, "b", 2)))
+                .startsWith("W/\"")
+                .hasSize(3 + 64 + 1);
+    }
+
+    @Test
+    void of_shouldIgnoreSetOrder() {
+        // Given
+        Set<String> inserted = new LinkedHashSet<>(List.of("b", "a"));
+        Set<String> reversed = new LinkedHashSet<>(List.of("a", "b"));
+
+        // When/Then
+        assertThat(ETags.of(inserted)).isEqualTo(ETags.of(reversed));
+    }
+
+    @Test
+    void of_shouldDistinguishStructure() {
+        // When/Then
+        assertThat(ETags.of(List.of("ab", "c"))).isNotEqualTo(ETags.of(List.of("a", "bc")));
+        assertThat(ETags.of(Arrays.asList("null", null))).isNotEqualTo(ETags.of(Arrays.asList(null, "null")));
+        assertThat(ETags.of(List.of(List.of(), List.of(1)))).isNotEqualTo(ETags.of(List.of(List.of(1), List.of())));
+        assertThat(ETags.of(Map.of("a", 1))).isNotEqualTo(ETags.of(Map.of("a", 2)));
+        assertThat(ETags.of(new ConsumerGroupOffset("orders", 0, 1, 2, 1)))
+                .isNotEqualTo(ETags.of(new ConsumerGroupOffset("orders", 1, 0, 2, 1)));
+    }
+}
@@ -0,0 +1,166 @@
+package com.kafkaadmin.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EndOffsetCacheTest {
+
+    private static final long TTL_MS = 1000;
+    private static final TopicPartition TP0 = new TopicPartition("orders", 0);
+    private static final TopicPartition TP1 = new TopicPartition("orders", 1);
+
+    private final List<Set<TopicPartition>> requests = new ArrayList<>();
+    private final List<CompletableFuture<Map<TopicPartition, Long>>> responses = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private EndOffsetCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EndOffsetCache(partitions -> {
+            requests.add(partitions);
+            CompletableFuture<Map<TopicPartition, Long>> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        }, TTL_MS, meterRegistry, now::get);
+    }
+
+    @Test
+    void endOffsets_withinTtl_shouldServeFromCache() {
+        // Given
+        CompletableFuture<Map<TopicPartition, Long>> first = cache.endOffsets(Set.of(TP0, TP1));
+        responses.get(0).complete(offsets(100L, 200L));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS));
+
+        // When
+        Map<TopicPartition, Long> second = cache.endOffsets(Set.of(TP0, TP1)).join();
+
+        // Then
+        assertThat(first.join()).isEqualTo(second).containsEntry(TP0, 100L).containsEntry(TP1, 200L);
+        assertThat(requests).hasSize(1);
+        assertThat(lookups("hit")).isEqualTo(2);
+        assertThat(lookups("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void endOffsets_afterTtl_shouldReloadOnlyStalePartitions() {
+        // Given
+        cache.endOffsets(Set.of(TP0));
+        responses.get(0).complete(Map.of(TP0, 100L));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS + 1));
+
+        // When
+        CompletableFuture<Map<TopicPartition, Long>> result = cache.endOffsets(Set.of(TP0, TP1));
+        responses.get(1).complete(offsets(150L, 200L));
+
+        // Then
+        assertThat(requests.get(1)).containsExactlyInAnyOrder(TP0, TP1);
+        assertThat(result.join()).containsEntry(TP0, 150L).containsEntry(TP1, 200L);
+    }
+
+    @Test
+    void endOffsets_concurrentLookups_shouldShareInFlightRequest() {
+        // Given
+        CompletableFuture<Map<TopicPartition, Long>> first = cache.endOffsets(Set.of(TP0));
+
+        // When
+        CompletableFuture<Map<TopicPartition, Long>> second = cache.endOffsets(Set.of(TP0, TP1));
+        responses.get(0).complete(Map.of(TP0, 100L));
+        responses.get(1).complete(Map.of(TP1, 200L));
+
+        // Then
+        assertThat(requests).containsExactly(Set.of(TP0), Set.of(TP1));
+        assertThat(first.join()).containsEntry(TP0, 100L);
+        assertThat(second.join()).containsEntry(TP0, 100L).containsEntry(TP1, 200L);
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void endOffsets_whenLoadFails_shouldNotCacheFailure() {
+        // Given
+        CompletableFuture<Map<TopicPartition, Long>> failed = cache.endOffsets(Set.of(TP0));
+        responses.get(0).completeExceptionally(new KafkaAdminException("Failed to list end offsets"));
+
+        // When
+        CompletableFuture<Map<TopicPartition, Long>> retried = cache.endOffsets(Set.of(TP0));
+        responses.get(1).complete(Map.of(TP0, 100L));
+
+        // Then
+        assertThatThrownBy(failed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(KafkaAdminException.class);
+        assertThat(retried.join()).containsEntry(TP0, 100L);
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void endOffsets_whenSomePartitionsFail_shouldReturnTheOthers() {
+        // Given
+        CompletableFuture<Map<TopicPartition, Long>> result = cache.endOffsets(Set.of(TP0, TP1));
+
+        // When
+        responses.get(0).complete(Map.of(TP1, 200L));
+
+        // Then
+        assertThat(result.join()).containsExactly(Map.entry(TP1, 200L));
+    }
+
+    @Test
+    void endOffsets_whenInFlightPartitionFails_shouldReturnTheOthers() {
+        // Given
+        CompletableFuture<Map<TopicPartition, Long>> first = cache.endOffsets(Set.of(TP0));
+        CompletableFuture<Map<TopicPartition, Long>> second = cache.endOffsets(Set.of(TP0, TP1));
+
+        // When
+        responses.get(0).completeExceptionally(new KafkaAdminException("Failed to list end offsets"));
+        responses.get(1).complete(Map.of(TP1, 200L));
+
+        // Then
+        assertThatThrownBy(first::join).hasCauseInstanceOf(KafkaAdminException.class);
+        assertThat(second.join()).containsExactly(Map.entry(TP1, 200L));
+    }
+
+    @Test
+    void endOffsets_afterTtl_shouldEvictStaleEntries() {
+        // Given
+        cache.endOffsets(Set.of(TP0));
+        responses.get(0).complete(Map.of(TP0, 100L));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS + 1));
+
+        // When
+        cache.endOffsets(Set.of(TP1));
+        responses.get(1).complete(Map.of(TP1, 200L));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private static Map<TopicPartition, Long> offsets(long tp0, long tp1) {
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        offsets.put(TP0, tp0);
+        offsets.put(TP1, tp1);
+        return offsets;
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.counter(EndOffsetCache.LOOKUPS_METRIC, "result", result).count();
+    }
+}
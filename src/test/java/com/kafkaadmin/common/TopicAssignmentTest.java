@@ -0,0 +1,60 @@
+package com.kafkaadmin.common;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicAssignmentTest {
+
+    @Test
+    void of_shouldGroupPartitionsByTopicInOrder() {
+        // Given
+        Set<TopicPartition> partitions = Set.of(
+                new TopicPartition("orders-v1", 2),
+                new TopicPartition("payments", 0),
+                new TopicPartition("orders-v1", 0),
+                new TopicPartition("orders", 1));
+
+        // When
+        List<TopicAssignment> result = TopicAssignment.of(partitions);
+
+        // Then
+        assertThat(result).containsExactly(
+                new TopicAssignment("orders", new int[]{1}),
+                new TopicAssignment("orders-v1", new int[]{0, 2}),
+                new TopicAssignment("payments", new int[]{0}));
+    }
+
+    @Test
+    void of_shouldInternTopicNames() {
+        // Given
+        String topic = new String("orders");
+
+        // When
+        List<TopicAssignment> result = TopicAssignment.of(Set.of(new TopicPartition(topic, 0)));
+
+        // Then
+        assertThat(result.getFirst().topic()).isSameAs("orders");
+    }
+
+    @Test
+    void of_shouldReturnEmptyListWithoutPartitions() {
+        // When/Then
+        assertThat(TopicAssignment.of(Set.of())).isEmpty();
+    }
+
+    @Test
+    void equals_shouldCompareOnPartitionContents() {
+        // Given
+        TopicAssignment assignment = new TopicAssignment("orders", new int[]{0, 1});
+
+        // When/Then
+        assertThat(assignment).isEqualTo(new TopicAssignment("orders", new int[]{0, 1}));
+        assertThat(assignment).hasSameHashCodeAs(new TopicAssignment("orders", new int[]{0, 1}));
+        assertThat(assignment).isNotEqualTo(new TopicAssignment("orders", new int[]{0}));
+    }
+}
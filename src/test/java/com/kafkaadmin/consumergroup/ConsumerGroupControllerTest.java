@@ -1,18 +1,29 @@
 package com.kafkaadmin.consumergroup;
 
+import com.kafkaadmin.common.ETags;
 import com.kafkaadmin.common.GlobalExceptionHandler;
+import com.kafkaadmin.common.InvalidRequestException;
+import com.kafkaadmin.common.NdjsonResponses;
+import com.kafkaadmin.common.TopicAssignmentResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -26,7 +37,8 @@ class ConsumerGroupControllerTest {
 
     @BeforeEach
     void setUp() {
-        ConsumerGroupController controller = new ConsumerGroupController(consumerGroupService);
+        ConsumerGroupController controller = new ConsumerGroupController(consumerGroupService,
+                new NdjsonResponses(JsonMapper.builder().build()));
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -39,7 +51,7 @@ class ConsumerGroupControllerTest {
                 new ConsumerGroupResponse("group-1", "Stable", 2),
                 new ConsumerGroupResponse("group-2", "Empty", 0)
         );
-        when(consumerGroupService.listConsumerGroups()).thenReturn(groups);
+        when(consumerGroupService.listConsumerGroups(any())).thenReturn(groups);
 
         // When/Then
         mockMvc.perform(get("/api/v1/consumer-groups")
@@ -62,10 +74,10 @@ class ConsumerGroupControllerTest {
                 1,
                 List.of(
                         new ConsumerGroupMemberResponse("consumer-1-id", "consumer-1", "/192.168.1.100",
-                                List.of("topic-0"))
+                                List.of(new TopicAssignmentResponse("topic", new int[]{0, 1})))
                 )
         );
-        when(consumerGroupService.getConsumerGroup("my-group")).thenReturn(group);
+        when(consumerGroupService.getConsumerGroup(eq("my-group"), any())).thenReturn(group);
 
         // When/Then
         mockMvc.perform(get("/api/v1/consumer-groups/my-group")
@@ -74,13 +86,15 @@ class ConsumerGroupControllerTest {
                 .andExpect(jsonPath("$.groupId").value("my-group"))
                 .andExpect(jsonPath("$.state").value("Stable"))
                 .andExpect(jsonPath("$.partitionAssignor").value("range"))
-                .andExpect(jsonPath("$.members.length()").value(1));
+                .andExpect(jsonPath("$.members.length()").value(1))
+                .andExpect(jsonPath("$.members[0].assignments[0].topic").value("topic"))
+                .andExpect(jsonPath("$.members[0].assignments[0].partitions[1]").value(1));
     }
 
     @Test
     void getConsumerGroup_whenNotFound_shouldReturn404() throws Exception {
         // Given
-        when(consumerGroupService.getConsumerGroup("non-existent"))
+        when(consumerGroupService.getConsumerGroup(eq("non-existent"), any()))
                 .thenThrow(new ConsumerGroupNotFoundException("non-existent"));
 
         // When/Then
@@ -96,8 +110,8 @@ class ConsumerGroupControllerTest {
     void getConsumerGroupOffsets_shouldReturnOffsets() throws Exception {
         // Given
         List<ConsumerGroupOffsetResponse> offsets = List.of(
-                new ConsumerGroupOffsetResponse("topic-1", 0, 100, 150, 50),
-                new ConsumerGroupOffsetResponse("topic-1", 1, 200, 250, 50)
+                new ConsumerGroupOffsetResponse("topic-1", 0, 100, 150, 50, null),
+                new ConsumerGroupOffsetResponse("topic-1", 1, 200, 250, 50, null)
         );
         when(consumerGroupService.getConsumerGroupOffsets("my-group")).thenReturn(offsets);
 
@@ -113,4 +127,116 @@ class ConsumerGroupControllerTest {
                 .andExpect(jsonPath("$[0].endOffset").value(150))
                 .andExpect(jsonPath("$[0].lag").value(50));
     }
+
+    @Test
+    void getConsumerGroupOffsets_whenETagMatches_shouldReturnNotModified() throws Exception {
+        // Given
+        List<ConsumerGroupOffsetResponse> offsets = List.of(
+                new ConsumerGroupOffsetResponse("topic-1", 0, 100, 150, 50, null));
+        when(consumerGroupService.getConsumerGroupOffsets("my-group")).thenReturn(offsets);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/my-group/offsets")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETags.of(offsets)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.of(offsets)))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void listConsumerGroupLag_shouldReturnLagPerGroup() throws Exception {
+        // Given
+        when(consumerGroupService.listConsumerGroupLag()).thenReturn(List.of(
+                new ConsumerGroupLagResponse("my-group", 50, List.of(
+                        new ConsumerGroupOffsetResponse("topic-1", 0, 100, 150, 50, null)))));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/lag"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].groupId").value("my-group"))
+                .andExpect(jsonPath("$[0].totalLag").value(50))
+                .andExpect(jsonPath("$[0].offsets[0].topic").value("topic-1"))
+                .andExpect(jsonPath("$[0].offsets[0].lag").value(50));
+    }
+
+    @Test
+    void topLaggingPartitions_shouldPassParameters() throws Exception {
+        // Given
+        when(consumerGroupService.topLaggingPartitions(5, "orders-", null)).thenReturn(List.of(
+                new LaggingPartitionResponse("orders-1", "topic-1", 3, 100, 900, 800, null)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/lag/top")
+                        .param("k", "5")
+                        .param("groupPrefix", "orders-"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupId").value("orders-1"))
+                .andExpect(jsonPath("$[0].partition").value(3))
+                .andExpect(jsonPath("$[0].lag").value(800))
+                .andExpect(jsonPath("$[0].timeLagMs").doesNotExist());
+    }
+
+    @Test
+    void topLaggingPartitions_withInvalidK_shouldReturnBadRequest() throws Exception {
+        // Given
+        when(consumerGroupService.topLaggingPartitions(0, null, null))
+                .thenThrow(new InvalidRequestException("k must be between 1 and 1000"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/lag/top").param("k", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listConsumerGroups_withMatchingIfNoneMatch_shouldReturnNotModified() throws Exception {
+        // Given
+        when(consumerGroupService.listConsumerGroups(any()))
+                .thenReturn(List.of(new ConsumerGroupResponse("group-1", "Stable", 2)));
+        String eTag = mockMvc.perform(get("/api/v1/consumer-groups"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void streamConsumerGroupOffsets_withNdjsonAccept_shouldWriteOneOffsetPerLine() throws Exception {
+        // Given
+        when(consumerGroupService.streamConsumerGroupOffsets("my-group")).thenReturn(Stream.of(
+                new ConsumerGroupOffsetResponse("topic-a", 0, 90, 100, 10, null),
+                new ConsumerGroupOffsetResponse("topic-a", 1, 50, 50, 0, null)));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/consumer-groups/my-group/offsets")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("""
+                        {"topic":"topic-a","partition":0,"currentOffset":90,"endOffset":100,"lag":10}
+                        {"topic":"topic-a","partition":1,"currentOffset":50,"endOffset":50,"lag":0}
+                        """));
+    }
+
+    @Test
+    void streamConsumerGroupOffsets_whenGroupNotFound_shouldReturnNotFound() throws Exception {
+        // Given
+        when(consumerGroupService.streamConsumerGroupOffsets("missing"))
+                .thenThrow(new ConsumerGroupNotFoundException("missing"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/missing/offsets")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isNotFound());
+    }
 }
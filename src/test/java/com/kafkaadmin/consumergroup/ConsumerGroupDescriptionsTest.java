@@ -0,0 +1,67 @@
+package com.kafkaadmin.consumergroup;
+
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.KafkaAdminException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConsumerGroupDescriptionsTest {
+
+    private static final ConsumerGroup GROUP = new ConsumerGroup("group-1", "Stable", "range", 1, List.of());
+
+    @Mock
+    private AsyncKafkaAdminPort asyncKafkaAdminPort;
+
+    @Test
+    void describeAll_withinMaxAge_shouldReuseDescriptions() {
+        // Given
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 5000L, 20000L);
+        ConsumerGroupDescriptions descriptions = new ConsumerGroupDescriptions(asyncKafkaAdminPort, clock);
+        stubGroups();
+
+        // When
+        List<ConsumerGroup> first = descriptions.describeAll(10000);
+        List<ConsumerGroup> reused = descriptions.describeAll(10000);
+        List<ConsumerGroup> described = descriptions.describeAll(10000);
+
+        // Then
+        assertThat(first).containsExactly(GROUP);
+        assertThat(reused).isSameAs(first);
+        assertThat(described).containsExactly(GROUP);
+        verify(asyncKafkaAdminPort, times(2)).listConsumerGroupIds();
+    }
+
+    @Test
+    void describeAll_whenListingFails_shouldThrowAndNotKeepFailure() {
+        // Given
+        ConsumerGroupDescriptions descriptions = new ConsumerGroupDescriptions(asyncKafkaAdminPort);
+        when(asyncKafkaAdminPort.listConsumerGroupIds()).thenReturn(
+                CompletableFuture.failedFuture(new KafkaAdminException("Failed to list consumer groups")));
+
+        // When/Then
+        assertThatThrownBy(() -> descriptions.describeAll(10000)).isInstanceOf(KafkaAdminException.class);
+        stubGroups();
+        assertThat(descriptions.describeAll(10000)).containsExactly(GROUP);
+    }
+
+    private void stubGroups() {
+        when(asyncKafkaAdminPort.listConsumerGroupIds()).thenReturn(CompletableFuture.completedFuture(List.of("group-1")));
+        when(asyncKafkaAdminPort.describeConsumerGroups(List.of("group-1")))
+                .thenReturn(CompletableFuture.completedFuture(List.of(GROUP)));
+    }
+}
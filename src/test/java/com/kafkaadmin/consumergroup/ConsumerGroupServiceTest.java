@@ -1,29 +1,48 @@
 package com.kafkaadmin.consumergroup;
 
+import com.kafkaadmin.common.Fields;
+import com.kafkaadmin.common.InvalidRequestException;
 import com.kafkaadmin.common.KafkaAdminPort;
+import com.kafkaadmin.common.TopicAssignment;
+import com.kafkaadmin.lag.LagHistoryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ConsumerGroupServiceTest {
 
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
     @Mock
     private KafkaAdminPort kafkaAdminPort;
 
+    @Mock
+    private LagHistoryService lagHistoryService;
+
     private ConsumerGroupService consumerGroupService;
 
     @BeforeEach
     void setUp() {
-        consumerGroupService = new ConsumerGroupService(kafkaAdminPort);
+        consumerGroupService = new ConsumerGroupService(kafkaAdminPort, lagHistoryService,
+                Clock.fixed(NOW, ZoneOffset.UTC));
     }
 
     @Test
@@ -33,16 +52,36 @@ class ConsumerGroupServiceTest {
         ConsumerGroup group2 = createConsumerGroup("alpha-group");
 
         when(kafkaAdminPort.listConsumerGroupIds()).thenReturn(List.of("zebra-group", "alpha-group"));
-        when(kafkaAdminPort.getConsumerGroup("zebra-group")).thenReturn(group1);
-        when(kafkaAdminPort.getConsumerGroup("alpha-group")).thenReturn(group2);
+        when(kafkaAdminPort.describeConsumerGroups(List.of("alpha-group", "zebra-group")))
+                .thenReturn(List.of(group2, group1));
 
         // When
-        List<ConsumerGroupResponse> result = consumerGroupService.listConsumerGroups();
+        List<ConsumerGroupResponse> result = consumerGroupService.listConsumerGroups(Fields.ALL);
 
         // Then
         assertThat(result).hasSize(2);
         assertThat(result.get(0).groupId()).isEqualTo("alpha-group");
         assertThat(result.get(1).groupId()).isEqualTo("zebra-group");
+        verify(kafkaAdminPort, never()).getConsumerGroup(anyString());
+    }
+
+    @Test
+    void listConsumerGroups_shouldOmitGroupsDeletedWhileDescribing() {
+        // Given
+        ConsumerGroup remaining = createConsumerGroup("alpha-group");
+        ConsumerGroup failed = new ConsumerGroup("beta-group", "Unknown", null, -1, List.of());
+
+        when(kafkaAdminPort.listConsumerGroupIds()).thenReturn(List.of("gone-group", "beta-group", "alpha-group"));
+        when(kafkaAdminPort.describeConsumerGroups(List.of("alpha-group", "beta-group", "gone-group")))
+                .thenReturn(List.of(remaining, failed));
+
+        // When
+        List<ConsumerGroupResponse> result = consumerGroupService.listConsumerGroups(Fields.ALL);
+
+        // Then
+        assertThat(result).extracting(ConsumerGroupResponse::groupId).containsExactly("alpha-group", "beta-group");
+        assertThat(result.get(1).state()).isEqualTo("Unknown");
+        assertThat(result.get(1).memberCount()).isZero();
     }
 
     @Test
@@ -56,15 +95,15 @@ class ConsumerGroupServiceTest {
                 1,
                 List.of(
                         new ConsumerGroupMember("consumer-1-id", "consumer-1", "/192.168.1.100",
-                                List.of("topic-0", "topic-1")),
+                                List.of(new TopicAssignment("topic", new int[]{0, 1}))),
                         new ConsumerGroupMember("consumer-2-id", "consumer-2", "/192.168.1.101",
-                                List.of("topic-2"))
+                                List.of(new TopicAssignment("topic", new int[]{2})))
                 ));
 
         when(kafkaAdminPort.getConsumerGroup(groupId)).thenReturn(group);
 
         // When
-        ConsumerGroupDetailResponse result = consumerGroupService.getConsumerGroup(groupId);
+        ConsumerGroupDetailResponse result = consumerGroupService.getConsumerGroup(groupId, Fields.ALL);
 
         // Then
         assertThat(result.groupId()).isEqualTo(groupId);
@@ -82,7 +121,7 @@ class ConsumerGroupServiceTest {
                 .thenThrow(new ConsumerGroupNotFoundException(groupId));
 
         // When/Then
-        assertThatThrownBy(() -> consumerGroupService.getConsumerGroup(groupId))
+        assertThatThrownBy(() -> consumerGroupService.getConsumerGroup(groupId, Fields.ALL))
                 .isInstanceOf(ConsumerGroupNotFoundException.class)
                 .hasMessageContaining(groupId);
     }
@@ -111,6 +150,126 @@ class ConsumerGroupServiceTest {
         assertThat(result.get(2).topic()).isEqualTo("topic-b");
     }
 
+    @Test
+    void getConsumerGroupOffsets_shouldIncludeEstimatedTimeLag() {
+        // Given
+        ConsumerGroupOffset sampled = new ConsumerGroupOffset("topic-a", 0, 100, 150, 50);
+        ConsumerGroupOffset unsampled = new ConsumerGroupOffset("topic-a", 1, 100, 120, 20);
+        when(kafkaAdminPort.getConsumerGroupOffsets("test-group")).thenReturn(List.of(sampled, unsampled));
+        when(lagHistoryService.timeLagMs("test-group", sampled, NOW.toEpochMilli())).thenReturn(12000L);
+        when(lagHistoryService.timeLagMs("test-group", unsampled, NOW.toEpochMilli())).thenReturn(null);
+
+        // When
+        List<ConsumerGroupOffsetResponse> result = consumerGroupService.getConsumerGroupOffsets("test-group");
+
+        // Then
+        assertThat(result).extracting(ConsumerGroupOffsetResponse::timeLagMs).containsExactly(12000L, null);
+    }
+
+    @Test
+    void listConsumerGroupLag_shouldFetchAllGroupsInOneCallAndSumLag() {
+        // Given
+        when(kafkaAdminPort.listConsumerGroupIds()).thenReturn(List.of("zebra-group", "alpha-group"));
+        Map<String, List<ConsumerGroupOffset>> offsets = new LinkedHashMap<>();
+        offsets.put("alpha-group", List.of(
+                new ConsumerGroupOffset("topic-b", 0, 10, 15, 5),
+                new ConsumerGroupOffset("topic-a", 1, 20, 40, 20)));
+        offsets.put("zebra-group", List.of());
+        when(kafkaAdminPort.getConsumerGroupsOffsets(List.of("alpha-group", "zebra-group"))).thenReturn(offsets);
+
+        // When
+        List<ConsumerGroupLagResponse> result = consumerGroupService.listConsumerGroupLag();
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).groupId()).isEqualTo("alpha-group");
+        assertThat(result.get(0).totalLag()).isEqualTo(25);
+        assertThat(result.get(0).offsets()).extracting(ConsumerGroupOffsetResponse::topic)
+                .containsExactly("topic-a", "topic-b");
+        assertThat(result.get(1)).isEqualTo(new ConsumerGroupLagResponse("zebra-group", 0, List.of()));
+        verify(kafkaAdminPort, never()).getConsumerGroupOffsets(anyString());
+    }
+
+    @Test
+    void topLaggingPartitions_shouldKeepHighestLagAcrossGroups() {
+        // Given
+        when(kafkaAdminPort.listConsumerGroupIds()).thenReturn(List.of("group-b", "group-a"));
+        Map<String, List<ConsumerGroupOffset>> offsets = new LinkedHashMap<>();
+        offsets.put("group-a", List.of(
+                new ConsumerGroupOffset("topic-a", 0, 0, 10, 10),
+                new ConsumerGroupOffset("topic-a", 1, 0, 500, 500)));
+        offsets.put("group-b", List.of(
+                new ConsumerGroupOffset("topic-a", 0, 0, 10, 10),
+                new ConsumerGroupOffset("topic-b", 0, 0, 90, 90)));
+        when(kafkaAdminPort.getConsumerGroupsOffsets(List.of("group-a", "group-b"))).thenReturn(offsets);
+
+        // When
+        List<LaggingPartitionResponse> result = consumerGroupService.topLaggingPartitions(3, null, null);
+
+        // Then
+        assertThat(result).extracting(LaggingPartitionResponse::lag).containsExactly(500L, 90L, 10L);
+        assertThat(result.get(2).groupId()).isEqualTo("group-a");
+    }
+
+    @Test
+    void topLaggingPartitions_shouldApplyPrefixesBeforeRanking() {
+        // Given
+        when(kafkaAdminPort.listConsumerGroupIds()).thenReturn(List.of("billing-1", "orders-1", "orders-2"));
+        when(kafkaAdminPort.getConsumerGroupsOffsets(List.of("orders-1", "orders-2"))).thenReturn(Map.of(
+                "orders-1", List.of(
+                        new ConsumerGroupOffset("orders.v1", 0, 0, 40, 40),
+                        new ConsumerGroupOffset("audit", 0, 0, 900, 900)),
+                "orders-2", List.of(new ConsumerGroupOffset("orders.v1", 0, 0, 70, 70))));
+
+        // When
+        List<LaggingPartitionResponse> result = consumerGroupService.topLaggingPartitions(10, "orders-", "orders.");
+
+        // Then
+        assertThat(result).extracting(LaggingPartitionResponse::groupId).containsExactly("orders-2", "orders-1");
+    }
+
+    @Test
+    void topLaggingPartitions_withInvalidK_shouldThrowException() {
+        assertThatThrownBy(() -> consumerGroupService.topLaggingPartitions(0, null, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void listConsumerGroups_withOnlyGroupIdField_shouldNotDescribeGroups() {
+        // Given
+        when(kafkaAdminPort.listConsumerGroupIds()).thenReturn(List.of("zebra-group", "alpha-group"));
+
+        // When
+        List<ConsumerGroupResponse> result = consumerGroupService.listConsumerGroups(
+                Fields.parse("groupId", ConsumerGroupResponse.FIELDS));
+
+        // Then
+        assertThat(result).containsExactly(
+                new ConsumerGroupResponse("alpha-group", null, null),
+                new ConsumerGroupResponse("zebra-group", null, null));
+        verify(kafkaAdminPort, never()).describeConsumerGroups(anyCollection());
+    }
+
+    @Test
+    void getConsumerGroup_withoutAssignmentsField_shouldOmitAssignments() {
+        // Given
+        ConsumerGroup group = new ConsumerGroup("test-group", "Stable", "range", 1, List.of(
+                new ConsumerGroupMember("consumer-1-id", "consumer-1", "/192.168.1.100", List.of(new TopicAssignment("topic", new int[]{0})))));
+        when(kafkaAdminPort.getConsumerGroup("test-group")).thenReturn(group);
+
+        // When
+        ConsumerGroupDetailResponse result = consumerGroupService.getConsumerGroup(
+                "test-group", Fields.parse("groupId,members", ConsumerGroupDetailResponse.FIELDS));
+
+        // Then
+        assertThat(result.state()).isNull();
+        assertThat(result.members()).singleElement()
+                .satisfies(member -> {
+                    assertThat(member.consumerId()).isEqualTo("consumer-1-id");
+                    assertThat(member.assignments()).isNull();
+                });
+    }
+
     private ConsumerGroup createConsumerGroup(String groupId) {
         return new ConsumerGroup(
                 groupId,
@@ -0,0 +1,64 @@
+package com.kafkaadmin.groupevent;
+
+import com.kafkaadmin.common.GlobalExceptionHandler;
+import com.kafkaadmin.common.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupEventControllerTest {
+
+    @Mock
+    private GroupEventLog groupEventLog;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new GroupEventController(groupEventLog))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getEvents_shouldReturnEventsAndResumeSequence() throws Exception {
+        // Given
+        GroupChange change = new GroupChange("my-group", GroupEventType.STATE_CHANGED, null, "Stable", "Empty");
+        when(groupEventLog.read(41L, 100, 30000))
+                .thenReturn(new GroupEventPage(List.of(new GroupEvent(42, 0, change)), 42, false));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/events")
+                        .param("after", "41")
+                        .param("waitMs", "30000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].sequence").value(42))
+                .andExpect(jsonPath("$.events[0].type").value("STATE_CHANGED"))
+                .andExpect(jsonPath("$.events[0].currentValue").value("Empty"))
+                .andExpect(jsonPath("$.events[0].memberId").doesNotExist())
+                .andExpect(jsonPath("$.lastSequence").value(42))
+                .andExpect(jsonPath("$.gap").value(false));
+    }
+
+    @Test
+    void getEvents_withInvalidLimit_shouldReturn400() throws Exception {
+        // Given
+        when(groupEventLog.read(null, 0, 0)).thenThrow(new InvalidRequestException("limit must be between 1 and 1000"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/events").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("limit must be between 1 and 1000"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.kafkaadmin.groupevent;
+
+import com.kafkaadmin.common.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupEventLogTest {
+
+    private GroupEventLog groupEventLog;
+
+    @BeforeEach
+    void setUp() {
+        groupEventLog = new GroupEventLog(new GroupEventProperties(true, 15000, 3, 5000));
+    }
+
+    @Test
+    void read_shouldReturnEventsAfterSequence() {
+        // Given
+        groupEventLog.append(1000, List.of(change("group-1"), change("group-2")));
+
+        // When
+        GroupEventPage fromStart = groupEventLog.read(null, 10, 0);
+        GroupEventPage resumed = groupEventLog.read(1L, 10, 0);
+
+        // Then
+        assertThat(fromStart.events()).extracting(GroupEvent::sequence).containsExactly(1L, 2L);
+        assertThat(fromStart.lastSequence()).isEqualTo(2);
+        assertThat(resumed.events()).extracting(event -> event.change().groupId()).containsExactly("group-2");
+        assertThat(resumed.gap()).isFalse();
+    }
+
+    @Test
+    void read_shouldApplyLimit() {
+        // Given
+        groupEventLog.append(1000, List.of(change("group-1"), change("group-2"), change("group-3")));
+
+        // When
+        GroupEventPage page = groupEventLog.read(0L, 2, 0);
+
+        // Then
+        assertThat(page.events()).hasSize(2);
+        assertThat(page.lastSequence()).isEqualTo(2);
+    }
+
+    @Test
+    void read_afterDroppedEvents_shouldReportGap() {
+        // Given
+        groupEventLog.append(1000, List.of(change("g1"), change("g2"), change("g3"), change("g4"), change("g5")));
+
+        // When
+        GroupEventPage page = groupEventLog.read(1L, 10, 0);
+
+        // Then
+        assertThat(page.gap()).isTrue();
+        assertThat(page.events()).extracting(GroupEvent::sequence).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void read_withSequenceFromBeforeRestart_shouldReportGap() {
+        // Given
+        groupEventLog.append(1000, List.of(change("group-1")));
+
+        // When
+        GroupEventPage page = groupEventLog.read(500L, 10, 0);
+
+        // Then
+        assertThat(page.gap()).isTrue();
+        assertThat(page.events()).extracting(GroupEvent::sequence).containsExactly(1L);
+    }
+
+    @Test
+    void read_withoutNewEvents_shouldWaitForNextAppend() throws Exception {
+        // Given
+        groupEventLog.append(1000, List.of(change("group-1")));
+        CompletableFuture<GroupEventPage> read = CompletableFuture.supplyAsync(() -> groupEventLog.read(1L, 10, 5000));
+
+        // When
+        Thread.sleep(100);
+        groupEventLog.append(2000, List.of(change("group-2")));
+
+        // Then
+        GroupEventPage page = read.get(5, TimeUnit.SECONDS);
+        assertThat(page.events()).extracting(GroupEvent::sequence).containsExactly(2L);
+    }
+
+    @Test
+    void read_withoutNewEvents_shouldReturnEmptyPageAfterWait() {
+        // When
+        GroupEventPage page = groupEventLog.read(0L, 10, 10);
+
+        // Then
+        assertThat(page.events()).isEmpty();
+        assertThat(page.lastSequence()).isZero();
+        assertThat(page.gap()).isFalse();
+    }
+
+    @Test
+    void read_withInvalidParameters_shouldThrow() {
+        // When/Then
+        assertThatThrownBy(() -> groupEventLog.read(-1L, 10, 0)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> groupEventLog.read(null, 0, 0)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> groupEventLog.read(null, 10, -1)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static GroupChange change(String groupId) {
+        return new GroupChange(groupId, GroupEventType.GROUP_CREATED, null, null, "Stable");
+    }
+}
@@ -0,0 +1,141 @@
+package com.kafkaadmin.groupevent;
+
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.common.TopicAssignment;
+import com.kafkaadmin.consumergroup.ConsumerGroup;
+import com.kafkaadmin.consumergroup.ConsumerGroupDescriptions;
+import com.kafkaadmin.consumergroup.ConsumerGroupMember;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupStateDifferTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private ConsumerGroupDescriptions groupDescriptions;
+
+    private GroupEventLog groupEventLog;
+    private GroupStateDiffer differ;
+
+    @BeforeEach
+    void setUp() {
+        GroupEventProperties properties = new GroupEventProperties(true, 15000, 100, 1000);
+        groupEventLog = new GroupEventLog(properties);
+        differ = new GroupStateDiffer(groupDescriptions, groupEventLog, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void poll_firstPoll_shouldOnlyRecordBaseline() {
+        // Given
+        stubGroups(group("group-1", "Stable", 1, member("m1", 0)));
+
+        // When
+        differ.poll();
+
+        // Then
+        assertThat(groupEventLog.read(null, 100, 0).events()).isEmpty();
+    }
+
+    @Test
+    void poll_shouldRecordTypedChanges() {
+        // Given
+        stubGroups(
+                group("group-1", "Stable", 1, member("m1", 0), member("m2", 1)),
+                group("group-2", "Stable", 1));
+        differ.poll();
+        stubGroups(
+                group("group-1", "PreparingRebalance", 2, member("m1", 0, 1), member("m3", 2)),
+                group("group-3", "Empty", 1));
+
+        // When
+        differ.poll();
+
+        // Then
+        List<GroupChange> changes = groupEventLog.read(null, 100, 0).events().stream()
+                .map(GroupEvent::change)
+                .toList();
+        assertThat(changes).containsExactly(
+                new GroupChange("group-1", GroupEventType.STATE_CHANGED, null, "Stable", "PreparingRebalance"),
+                new GroupChange("group-1", GroupEventType.COORDINATOR_CHANGED, null, "1", "2"),
+                new GroupChange("group-1", GroupEventType.MEMBER_LEFT, "m2", null, null),
+                new GroupChange("group-1", GroupEventType.ASSIGNMENT_CHANGED, "m1",
+                        Integer.toHexString(assignment(0).hashCode()), Integer.toHexString(assignment(0, 1).hashCode())),
+                new GroupChange("group-1", GroupEventType.MEMBER_JOINED, "m3", null, null),
+                new GroupChange("group-2", GroupEventType.GROUP_DELETED, null, "Stable", null),
+                new GroupChange("group-3", GroupEventType.GROUP_CREATED, null, null, "Empty"));
+        assertThat(groupEventLog.read(null, 100, 0).events().get(0).timestampMs()).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    void poll_whenGroupDescribeFails_shouldKeepPreviousFingerprint() {
+        // Given
+        stubGroups(group("group-1", "Stable", 1, member("m1", 0)));
+        differ.poll();
+        stubGroups(new ConsumerGroup("group-1", "Unknown", null, -1, List.of()));
+        differ.poll();
+        stubGroups(group("group-1", "Stable", 1, member("m1", 0)));
+
+        // When
+        differ.poll();
+
+        // Then
+        assertThat(groupEventLog.read(null, 100, 0).events()).isEmpty();
+    }
+
+    @Test
+    void poll_whenDescribeFails_shouldRecordNothing() {
+        // Given
+        stubGroups(group("group-1", "Stable", 1));
+        differ.poll();
+        when(groupDescriptions.describeAll(15000)).thenThrow(new KafkaAdminException("boom"));
+
+        // When
+        differ.poll();
+
+        // Then
+        assertThat(groupEventLog.read(null, 100, 0).events()).isEmpty();
+    }
+
+    @Test
+    void poll_whenDisabled_shouldNotDescribe() {
+        // Given
+        GroupEventProperties properties = new GroupEventProperties(false, 15000, 100, 1000);
+        GroupStateDiffer disabled = new GroupStateDiffer(groupDescriptions, groupEventLog, properties);
+
+        // When
+        disabled.poll();
+
+        // Then
+        verifyNoInteractions(groupDescriptions);
+    }
+
+    private void stubGroups(ConsumerGroup... groups) {
+        when(groupDescriptions.describeAll(15000)).thenReturn(List.of(groups));
+    }
+
+    private static ConsumerGroup group(String groupId, String state, int coordinatorId, ConsumerGroupMember... members) {
+        return new ConsumerGroup(groupId, state, "range", coordinatorId, List.of(members));
+    }
+
+    private static ConsumerGroupMember member(String consumerId, int... partitions) {
+        return new ConsumerGroupMember(consumerId, "client", "/127.0.0.1", assignment(partitions));
+    }
+
+    private static List<TopicAssignment> assignment(int... partitions) {
+        return List.of(new TopicAssignment("orders", partitions));
+    }
+}
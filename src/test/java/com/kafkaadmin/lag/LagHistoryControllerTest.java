@@ -0,0 +1,83 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class LagHistoryControllerTest {
+
+    @Mock
+    private LagHistoryService lagHistoryService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new LagHistoryController(lagHistoryService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getOffsetHistory_shouldReturnSamplesPerPartition() throws Exception {
+        // Given
+        when(lagHistoryService.getOffsetHistory("my-group")).thenReturn(List.of(
+                new PartitionLagHistoryResponse("topic-a", 0, List.of(
+                        new LagSampleResponse(Instant.parse("2026-01-01T00:00:00Z"), 100, 150, 50),
+                        new LagSampleResponse(Instant.parse("2026-01-01T00:00:30Z"), 140, 160, 20)))));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/my-group/offsets/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].topic").value("topic-a"))
+                .andExpect(jsonPath("$[0].partition").value(0))
+                .andExpect(jsonPath("$[0].samples.length()").value(2))
+                .andExpect(jsonPath("$[0].samples[0].timestamp").value("2026-01-01T00:00:00Z"))
+                .andExpect(jsonPath("$[0].samples[1].lag").value(20));
+    }
+
+    @Test
+    void getForecast_shouldReturnGroupAndPartitionForecasts() throws Exception {
+        // Given
+        when(lagHistoryService.getForecast("my-group")).thenReturn(new ConsumerGroupForecastResponse(
+                "my-group", Instant.parse("2026-01-01T00:00:00Z"), 50, LagTrend.CONVERGING, 10_000L, List.of(
+                        new PartitionForecastResponse("topic-a", 0, 50, 5.0, 0.0, LagTrend.CONVERGING, 10_000L))));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/my-group/offsets/forecast"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trend").value("CONVERGING"))
+                .andExpect(jsonPath("$.etaMs").value(10_000))
+                .andExpect(jsonPath("$.partitions[0].consumeRate").value(5.0))
+                .andExpect(jsonPath("$.partitions[0].trend").value("CONVERGING"));
+    }
+
+    @Test
+    void getForecast_whenNoSampleSinceETag_shouldReturnNotModifiedWithoutForecasting() throws Exception {
+        // Given
+        when(lagHistoryService.sampledAtMs()).thenReturn(30000L);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/my-group/offsets/forecast")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"30000\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"30000\""));
+        verify(lagHistoryService, never()).getForecast("my-group");
+    }
+}
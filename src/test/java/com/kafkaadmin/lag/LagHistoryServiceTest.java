@@ -0,0 +1,161 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LagHistoryServiceTest {
+
+    private LagHistoryService lagHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        lagHistoryService = new LagHistoryService(new LagProperties(true, 30000, 2, 3, 10));
+    }
+
+    @Test
+    void getOffsetHistory_shouldReturnSortedPartitionsWithSamples() {
+        // Given
+        lagHistoryService.record("my-group", 1000, List.of(
+                new ConsumerGroupOffset("topic-b", 0, 10, 15, 5),
+                new ConsumerGroupOffset("topic-a", 0, 20, 20, 0)));
+        lagHistoryService.record("my-group", 2000, List.of(
+                new ConsumerGroupOffset("topic-b", 0, 12, 30, 18),
+                new ConsumerGroupOffset("topic-a", 0, 25, 25, 0)));
+
+        // When
+        List<PartitionLagHistoryResponse> result = lagHistoryService.getOffsetHistory("my-group");
+
+        // Then
+        assertThat(result).extracting(PartitionLagHistoryResponse::topic).containsExactly("topic-a", "topic-b");
+        assertThat(result.get(1).samples()).extracting(LagSampleResponse::lag).containsExactly(5L, 18L);
+    }
+
+    @Test
+    void getOffsetHistory_forUnsampledGroup_shouldBeEmpty() {
+        assertThat(lagHistoryService.getOffsetHistory("unknown-group")).isEmpty();
+    }
+
+    @Test
+    void record_shouldDropPartitionsNoLongerCommitted() {
+        // Given
+        lagHistoryService.record("my-group", 1000, List.of(
+                new ConsumerGroupOffset("topic-a", 0, 10, 15, 5),
+                new ConsumerGroupOffset("topic-a", 1, 10, 15, 5)));
+
+        // When
+        lagHistoryService.record("my-group", 2000, List.of(new ConsumerGroupOffset("topic-a", 1, 12, 15, 3)));
+
+        // Then
+        assertThat(lagHistoryService.history("my-group")).extracting(PartitionLagHistory::partition).containsExactly(1);
+        assertThat(lagHistoryService.trackedPartitions()).isEqualTo(1);
+    }
+
+    @Test
+    void record_beyondMaxPartitions_shouldSkipNewPartitions() {
+        // Given
+        lagHistoryService.record("group-1", 1000, List.of(
+                new ConsumerGroupOffset("topic-a", 0, 10, 15, 5),
+                new ConsumerGroupOffset("topic-a", 1, 10, 15, 5)));
+
+        // When
+        int skipped = lagHistoryService.record("group-2", 1000, List.of(
+                new ConsumerGroupOffset("topic-a", 0, 10, 15, 5),
+                new ConsumerGroupOffset("topic-a", 1, 10, 15, 5)));
+
+        // Then
+        assertThat(skipped).isEqualTo(1);
+        assertThat(lagHistoryService.trackedPartitions()).isEqualTo(3);
+        assertThat(lagHistoryService.history("group-2")).hasSize(1);
+    }
+
+    @Test
+    void retainGroups_shouldDropDeletedGroupsAndReleaseTheirPartitions() {
+        // Given
+        lagHistoryService.record("group-1", 1000, List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5)));
+        lagHistoryService.record("group-2", 1000, List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5)));
+
+        // When
+        lagHistoryService.retainGroups(Set.of("group-2"));
+
+        // Then
+        assertThat(lagHistoryService.history("group-1")).isEmpty();
+        assertThat(lagHistoryService.history("group-2")).hasSize(1);
+        assertThat(lagHistoryService.trackedPartitions()).isEqualTo(1);
+    }
+
+    @Test
+    void timeLagMs_shouldEstimateFromSampledEndOffsets() {
+        // Given
+        lagHistoryService.record("my-group", 0, List.of(new ConsumerGroupOffset("topic-a", 0, 0, 100, 100)));
+        lagHistoryService.record("my-group", 10_000, List.of(new ConsumerGroupOffset("topic-a", 0, 0, 200, 200)));
+
+        // When
+        Long sampled = lagHistoryService.timeLagMs("my-group", new ConsumerGroupOffset("topic-a", 0, 150, 300, 150), 20_000);
+        Long unsampled = lagHistoryService.timeLagMs("my-group", new ConsumerGroupOffset("topic-b", 0, 10, 20, 10), 20_000);
+        Long caughtUp = lagHistoryService.timeLagMs("other-group", new ConsumerGroupOffset("topic-b", 0, 20, 20, 0), 20_000);
+
+        // Then
+        assertThat(sampled).isEqualTo(15_000);
+        assertThat(unsampled).isNull();
+        assertThat(caughtUp).isZero();
+    }
+
+    @Test
+    void getForecast_shouldUseSlowestConvergingPartition() {
+        // Given
+        lagHistoryService.record("my-group", 0, List.of(
+                new ConsumerGroupOffset("topic-a", 1, 0, 100, 100),
+                new ConsumerGroupOffset("topic-a", 0, 0, 100, 100)));
+        lagHistoryService.record("my-group", 10_000, List.of(
+                new ConsumerGroupOffset("topic-a", 1, 50, 100, 50),
+                new ConsumerGroupOffset("topic-a", 0, 100, 100, 0)));
+
+        // When
+        ConsumerGroupForecastResponse result = lagHistoryService.getForecast("my-group");
+
+        // Then
+        assertThat(result.timestamp()).isEqualTo(Instant.ofEpochMilli(10_000));
+        assertThat(result.totalLag()).isEqualTo(50);
+        assertThat(result.trend()).isEqualTo(LagTrend.CONVERGING);
+        assertThat(result.etaMs()).isEqualTo(10_000);
+        assertThat(result.partitions()).extracting(PartitionForecastResponse::partition).containsExactly(0, 1);
+        assertThat(result.partitions().get(0).trend()).isEqualTo(LagTrend.CAUGHT_UP);
+    }
+
+    @Test
+    void getForecast_whenAnyPartitionDiverges_shouldFlagGroup() {
+        // Given
+        lagHistoryService.record("my-group", 0, List.of(
+                new ConsumerGroupOffset("topic-a", 0, 0, 100, 100),
+                new ConsumerGroupOffset("topic-b", 0, 0, 100, 100)));
+        lagHistoryService.record("my-group", 10_000, List.of(
+                new ConsumerGroupOffset("topic-a", 0, 50, 100, 50),
+                new ConsumerGroupOffset("topic-b", 0, 0, 200, 200)));
+
+        // When
+        ConsumerGroupForecastResponse result = lagHistoryService.getForecast("my-group");
+
+        // Then
+        assertThat(result.trend()).isEqualTo(LagTrend.DIVERGING);
+        assertThat(result.etaMs()).isNull();
+        assertThat(result.partitions().get(1).etaMs()).isNull();
+    }
+
+    @Test
+    void getForecast_forUnsampledGroup_shouldBeUnknown() {
+        // When
+        ConsumerGroupForecastResponse result = lagHistoryService.getForecast("unknown-group");
+
+        // Then
+        assertThat(result.trend()).isEqualTo(LagTrend.UNKNOWN);
+        assertThat(result.timestamp()).isNull();
+        assertThat(result.partitions()).isEmpty();
+    }
+}
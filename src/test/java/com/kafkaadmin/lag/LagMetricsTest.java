@@ -0,0 +1,134 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LagMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void onSample_shouldPublishGroupAndTopicLag() {
+        // Given
+        LagMetrics lagMetrics = new LagMetrics(meterRegistry,
+                new LagMetricsProperties(true, false, null, null, null, null, null));
+
+        // When
+        lagMetrics.onSample(0, Map.of("group-1", List.of(
+                new ConsumerGroupOffset("topic-a", 0, 10, 15, 5),
+                new ConsumerGroupOffset("topic-a", 1, 10, 20, 10),
+                new ConsumerGroupOffset("topic-b", 0, 0, 7, 7))));
+
+        // Then
+        assertThat(gauge(LagMetrics.GROUP_LAG_METRIC, "group", "group-1").value()).isEqualTo(22);
+        assertThat(gauge(LagMetrics.TOPIC_LAG_METRIC, "group", "group-1", "topic", "topic-a").value()).isEqualTo(15);
+        assertThat(meterRegistry.find(LagMetrics.PARTITION_LAG_METRIC).gauges()).isEmpty();
+    }
+
+    @Test
+    void onSample_shouldUpdateInPlaceAndRemoveVanishedSeries() {
+        // Given
+        LagMetrics lagMetrics = new LagMetrics(meterRegistry,
+                new LagMetricsProperties(true, true, null, null, null, null, 2));
+        lagMetrics.onSample(0, Map.of(
+                "group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5)),
+                "group-2", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+        Gauge partitionGauge = gauge(LagMetrics.PARTITION_LAG_METRIC, "group", "group-1", "partition", "0");
+
+        // When
+        lagMetrics.onSample(1, Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 12, 40, 28))));
+        lagMetrics.onSample(2, Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 12, 40, 28))));
+
+        // Then
+        assertThat(gauge(LagMetrics.PARTITION_LAG_METRIC, "group", "group-1", "partition", "0"))
+                .isSameAs(partitionGauge);
+        assertThat(partitionGauge.value()).isEqualTo(28);
+        assertThat(meterRegistry.find(LagMetrics.GROUP_LAG_METRIC).tag("group", "group-2").gauge()).isNull();
+    }
+
+    @Test
+    void onSample_whenGroupMissingFromOneSample_shouldKeepItsSeries() {
+        // Given
+        LagMetrics lagMetrics = new LagMetrics(meterRegistry,
+                new LagMetricsProperties(true, true, null, null, null, null, 3));
+        lagMetrics.onSample(0, Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+        Gauge groupGauge = gauge(LagMetrics.GROUP_LAG_METRIC, "group", "group-1");
+
+        // When
+        lagMetrics.onSample(1, Map.of());
+        lagMetrics.onSample(2, Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 12, 20, 8))));
+
+        // Then
+        assertThat(gauge(LagMetrics.GROUP_LAG_METRIC, "group", "group-1")).isSameAs(groupGauge);
+        assertThat(groupGauge.value()).isEqualTo(8);
+    }
+
+    @Test
+    void onSample_whenGroupMissingFromConsecutiveSamples_shouldRemoveItsSeries() {
+        // Given
+        LagMetrics lagMetrics = new LagMetrics(meterRegistry,
+                new LagMetricsProperties(true, true, null, null, null, null, 3));
+        lagMetrics.onSample(0, Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+
+        // When
+        lagMetrics.onSample(1, Map.of());
+        lagMetrics.onSample(2, Map.of());
+        lagMetrics.onSample(3, Map.of());
+
+        // Then
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void onSample_shouldApplyAllowAndDenyPatterns() {
+        // Given
+        LagMetrics lagMetrics = new LagMetrics(meterRegistry,
+                new LagMetricsProperties(true, false, List.of("orders-.*"), List.of("orders-test"),
+                        null, List.of("__.*"), null));
+
+        // When
+        lagMetrics.onSample(0, Map.of(
+                "orders-1", List.of(
+                        new ConsumerGroupOffset("orders", 0, 0, 5, 5),
+                        new ConsumerGroupOffset("__consumer_offsets", 0, 0, 100, 100)),
+                "orders-test", List.of(new ConsumerGroupOffset("orders", 0, 0, 5, 5)),
+                "billing", List.of(new ConsumerGroupOffset("orders", 0, 0, 5, 5))));
+
+        // Then
+        assertThat(meterRegistry.find(LagMetrics.GROUP_LAG_METRIC).gauges()).hasSize(1);
+        assertThat(gauge(LagMetrics.GROUP_LAG_METRIC, "group", "orders-1").value()).isEqualTo(5);
+        assertThat(meterRegistry.find(LagMetrics.TOPIC_LAG_METRIC).gauges()).hasSize(1);
+    }
+
+    @Test
+    void onSample_whenDisabled_shouldNotPublish() {
+        // Given
+        LagMetrics lagMetrics = new LagMetrics(meterRegistry,
+                new LagMetricsProperties(false, true, null, null, null, null, null));
+
+        // When
+        lagMetrics.onSample(0, Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+
+        // Then
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    private Gauge gauge(String name, String... tags) {
+        Gauge gauge = meterRegistry.find(name).tags(tags).gauge();
+        assertThat(gauge).as("gauge %s %s", name, List.of(tags)).isNotNull();
+        return gauge;
+    }
+}
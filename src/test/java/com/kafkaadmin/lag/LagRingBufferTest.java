@@ -0,0 +1,152 @@
+package com.kafkaadmin.lag;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LagRingBufferTest {
+
+    @Test
+    void samples_beforeFull_shouldReturnSamplesOldestFirst() {
+        // Given
+        LagRingBuffer buffer = new LagRingBuffer(3);
+
+        // When
+        buffer.add(1000, 10, 15);
+        buffer.add(2000, 12, 20);
+
+        // Then
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.samples()).containsExactly(
+                new LagSample(1000, 10, 15),
+                new LagSample(2000, 12, 20));
+    }
+
+    @Test
+    void add_whenFull_shouldOverwriteOldestSample() {
+        // Given
+        LagRingBuffer buffer = new LagRingBuffer(3);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i * 1000L, i, i * 2L);
+        }
+
+        // Then
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.samples()).extracting(LagSample::timestampMs).containsExactly(3000L, 4000L, 5000L);
+        assertThat(buffer.samples().get(2).lag()).isEqualTo(5);
+    }
+
+    @Test
+    void timeLagMs_shouldInterpolateBetweenSamplesAroundCommittedOffset() {
+        // Given: end offset grows by 100 every 10 seconds
+        LagRingBuffer buffer = new LagRingBuffer(10);
+        buffer.add(0, 0, 0);
+        buffer.add(10_000, 0, 100);
+        buffer.add(20_000, 0, 200);
+
+        // When: the committed offset was reached by the end offset at 15 seconds
+        long timeLagMs = buffer.timeLagMs(150, 300, 30_000);
+
+        // Then
+        assertThat(timeLagMs).isEqualTo(15_000);
+    }
+
+    @Test
+    void timeLagMs_beforeOldestSample_shouldExtrapolateFromProduceRate() {
+        // Given: 100 offsets per 10 seconds over the sampled window
+        LagRingBuffer buffer = new LagRingBuffer(10);
+        buffer.add(10_000, 0, 1000);
+        buffer.add(20_000, 0, 1100);
+
+        // When: the committed offset is 100 offsets before the oldest sample
+        long timeLagMs = buffer.timeLagMs(900, 1200, 30_000);
+
+        // Then
+        assertThat(timeLagMs).isEqualTo(30_000);
+    }
+
+    @Test
+    void timeLagMs_whenCaughtUp_shouldBeZero() {
+        assertThat(new LagRingBuffer(3).timeLagMs(100, 100, 30_000)).isZero();
+    }
+
+    @Test
+    void timeLagMs_withoutHistory_shouldBeUnknown() {
+        assertThat(new LagRingBuffer(3).timeLagMs(50, 100, 30_000)).isEqualTo(-1);
+    }
+
+    @Test
+    void forecast_shouldFitRatesAndEstimateCatchUp() {
+        // Given
+        LagRingBuffer buffer = new LagRingBuffer(5);
+        buffer.add(0, 0, 1000);
+        buffer.add(10_000, 300, 1500);
+        buffer.add(20_000, 600, 2000);
+
+        // When
+        LagForecast forecast = buffer.forecast(10);
+
+        // Then
+        assertThat(forecast.lag()).isEqualTo(1400);
+        assertThat(forecast.consumeRate()).isCloseTo(30.0, within(1e-9));
+        assertThat(forecast.produceRate()).isCloseTo(50.0, within(1e-9));
+        assertThat(forecast.trend()).isEqualTo(LagTrend.DIVERGING);
+        assertThat(forecast.etaMs()).isEqualTo(-1);
+    }
+
+    @Test
+    void forecast_whenConsumingFaster_shouldEstimateTimeToZeroLag() {
+        // Given
+        LagRingBuffer buffer = new LagRingBuffer(5);
+        buffer.add(0, 0, 1000);
+        buffer.add(10_000, 500, 1100);
+        buffer.add(20_000, 1000, 1200);
+
+        // When
+        LagForecast forecast = buffer.forecast(10);
+
+        // Then
+        assertThat(forecast.trend()).isEqualTo(LagTrend.CONVERGING);
+        assertThat(forecast.etaMs()).isEqualTo(5_000);
+        assertThat(forecast.timestampMs()).isEqualTo(20_000);
+    }
+
+    @Test
+    void forecast_shouldOnlyUseWindowAndSamplesAfterReset() {
+        // Given
+        LagRingBuffer buffer = new LagRingBuffer(5);
+        buffer.add(0, 5000, 6000);
+        buffer.add(10_000, 0, 100);
+        buffer.add(20_000, 100, 200);
+        buffer.add(30_000, 300, 300);
+        buffer.add(40_000, 300, 400);
+
+        // When
+        LagForecast afterReset = buffer.forecast(10);
+        LagForecast windowed = buffer.forecast(2);
+
+        // Then
+        assertThat(afterReset.samples()).isEqualTo(4);
+        assertThat(windowed.samples()).isEqualTo(2);
+        assertThat(windowed.consumeRate()).isZero();
+        assertThat(windowed.produceRate()).isCloseTo(10.0, within(1e-9));
+    }
+
+    @Test
+    void forecast_withSingleSample_shouldBeUnknownUnlessCaughtUp() {
+        // Given
+        LagRingBuffer lagging = new LagRingBuffer(3);
+        lagging.add(0, 10, 20);
+        LagRingBuffer caughtUp = new LagRingBuffer(3);
+        caughtUp.add(0, 20, 20);
+
+        // When/Then
+        assertThat(lagging.forecast(10).trend()).isEqualTo(LagTrend.UNKNOWN);
+        assertThat(caughtUp.forecast(10).trend()).isEqualTo(LagTrend.CAUGHT_UP);
+        assertThat(caughtUp.forecast(10).etaMs()).isZero();
+        assertThat(new LagRingBuffer(3).forecast(10)).isNull();
+    }
+}
@@ -0,0 +1,96 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LagSamplerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private AsyncKafkaAdminPort asyncKafkaAdminPort;
+
+    @Mock
+    private LagSampleListener listener;
+
+    private LagHistoryService lagHistoryService;
+    private LagSampler lagSampler;
+
+    @BeforeEach
+    void setUp() {
+        LagProperties properties = new LagProperties(true, 30000, 10, 1000, 10);
+        lagHistoryService = new LagHistoryService(properties);
+        lagSampler = new LagSampler(asyncKafkaAdminPort, lagHistoryService, List.of(listener), properties,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void sample_shouldRecordOffsetsOfAllGroups() {
+        // Given
+        when(asyncKafkaAdminPort.listConsumerGroupIds())
+                .thenReturn(CompletableFuture.completedFuture(List.of("group-1", "group-2")));
+        Map<String, List<ConsumerGroupOffset>> offsets = Map.of(
+                "group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5)),
+                "group-2", List.of(new ConsumerGroupOffset("topic-b", 0, 7, 7, 0)));
+        when(asyncKafkaAdminPort.getConsumerGroupsOffsets(List.of("group-1", "group-2")))
+                .thenReturn(CompletableFuture.completedFuture(offsets));
+
+        // When
+        lagSampler.sample();
+
+        // Then
+        verify(listener).onSample(NOW.toEpochMilli(), offsets);
+        assertThat(lagHistoryService.history("group-1").get(0).samples())
+                .containsExactly(new LagSample(NOW.toEpochMilli(), 10, 15));
+        assertThat(lagHistoryService.history("group-2")).hasSize(1);
+        assertThat(lagHistoryService.sampledAtMs()).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    void sample_whenFetchFails_shouldKeepHistory() {
+        // Given
+        lagHistoryService.record("group-1", 0, List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5)));
+        when(asyncKafkaAdminPort.listConsumerGroupIds())
+                .thenReturn(CompletableFuture.failedFuture(new KafkaAdminException("Failed to list consumer groups")));
+
+        // When
+        lagSampler.sample();
+
+        // Then
+        assertThat(lagHistoryService.history("group-1")).hasSize(1);
+        assertThat(lagHistoryService.sampledAtMs()).isEqualTo(-1);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void sample_whenDisabled_shouldNotCallKafka() {
+        // Given
+        LagSampler disabled = new LagSampler(asyncKafkaAdminPort, lagHistoryService, List.of(),
+                new LagProperties(false, 30000, 10, 1000, 10));
+
+        // When
+        disabled.sample();
+
+        // Then
+        verifyNoInteractions(asyncKafkaAdminPort);
+    }
+}
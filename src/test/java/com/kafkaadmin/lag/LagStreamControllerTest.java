@@ -0,0 +1,70 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.GlobalExceptionHandler;
+import com.kafkaadmin.common.InvalidRequestException;
+import com.kafkaadmin.common.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class LagStreamControllerTest {
+
+    @Mock
+    private LagStreamService lagStreamService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new LagStreamController(lagStreamService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void streamLag_shouldStartEventStream() throws Exception {
+        // Given
+        when(lagStreamService.subscribe(List.of("group-1", "group-2"))).thenReturn(new SseEmitter());
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/lag/stream")
+                        .param("groupId", "group-1", "group-2"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamLag_whenInvalid_shouldReturn400() throws Exception {
+        // Given
+        when(lagStreamService.subscribe(List.of("a", "b", "c")))
+                .thenThrow(new InvalidRequestException("At most 2 groups can be followed per subscription"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/lag/stream").param("groupId", "a,b,c"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At most 2 groups can be followed per subscription"));
+    }
+
+    @Test
+    void streamLag_whenLimitReached_shouldReturn503() throws Exception {
+        // Given
+        when(lagStreamService.subscribe(List.of("group-1")))
+                .thenThrow(new ServiceUnavailableException("Maximum of 1 lag stream subscriptions reached"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/consumer-groups/lag/stream").param("groupId", "group-1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value(503));
+    }
+}
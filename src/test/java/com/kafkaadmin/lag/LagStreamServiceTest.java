@@ -0,0 +1,236 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.InvalidRequestException;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.common.ServiceUnavailableException;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffsetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LagStreamServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private AsyncKafkaAdminPort asyncKafkaAdminPort;
+
+    private LagStreamService lagStreamService;
+
+    @BeforeEach
+    void setUp() {
+        lagStreamService = new LagStreamService(asyncKafkaAdminPort, new LagStreamProperties(2000, 60000, 2, 2),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void publish_shouldSendSnapshotThenChangedPartitions() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        lagStreamService.subscribe(List.of("group-1"), emitter);
+        stubOffsets(Map.of("group-1", List.of(
+                new ConsumerGroupOffset("topic-a", 1, 5, 5, 0),
+                new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+        lagStreamService.publish();
+        stubOffsets(Map.of("group-1", List.of(
+                new ConsumerGroupOffset("topic-a", 0, 12, 20, 8),
+                new ConsumerGroupOffset("topic-a", 1, 5, 5, 0))));
+
+        // When
+        lagStreamService.publish();
+
+        // Then
+        assertThat(emitter.events).containsExactly(
+                new Event(LagStreamService.SNAPSHOT_EVENT, new LagUpdateResponse("group-1", NOW, 5, List.of(
+                        new ConsumerGroupOffsetResponse("topic-a", 0, 10, 15, 5, null),
+                        new ConsumerGroupOffsetResponse("topic-a", 1, 5, 5, 0, null)))),
+                new Event(LagStreamService.DELTA_EVENT, new LagUpdateResponse("group-1", NOW, 8, List.of(
+                        new ConsumerGroupOffsetResponse("topic-a", 0, 12, 20, 8, null)))));
+    }
+
+    @Test
+    void publish_shouldFetchEachGroupOnceForAllSubscribers() {
+        // Given
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        lagStreamService.subscribe(List.of("group-1"), first);
+        lagStreamService.subscribe(List.of("group-1", "group-2"), second);
+        stubOffsets(Map.of(
+                "group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5)),
+                "group-2", List.of(new ConsumerGroupOffset("topic-b", 0, 1, 1, 0))));
+
+        // When
+        lagStreamService.publish();
+
+        // Then
+        verify(asyncKafkaAdminPort).getConsumerGroupsOffsets(Set.of("group-1", "group-2"));
+        assertThat(first.events).extracting(event -> event.update().groupId()).containsExactly("group-1");
+        assertThat(second.events).extracting(event -> event.update().groupId())
+                .containsExactlyInAnyOrder("group-1", "group-2");
+    }
+
+    @Test
+    void publish_shouldSendNoEventWhenNothingChanged() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        lagStreamService.subscribe(List.of("group-1"), emitter);
+        stubOffsets(Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+        lagStreamService.publish();
+
+        // When
+        lagStreamService.publish();
+
+        // Then
+        assertThat(emitter.events).hasSize(1);
+    }
+
+    @Test
+    void publish_shouldSendSnapshotToLateSubscriber() {
+        // Given
+        RecordingEmitter early = new RecordingEmitter();
+        lagStreamService.subscribe(List.of("group-1"), early);
+        stubOffsets(Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+        lagStreamService.publish();
+        RecordingEmitter late = new RecordingEmitter();
+        lagStreamService.subscribe(List.of("group-1"), late);
+
+        // When
+        lagStreamService.publish();
+
+        // Then
+        assertThat(early.events).hasSize(1);
+        assertThat(late.events).extracting(Event::name).containsExactly(LagStreamService.SNAPSHOT_EVENT);
+    }
+
+    @Test
+    void publish_whenPartitionRemoved_shouldSendSnapshot() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        lagStreamService.subscribe(List.of("group-1"), emitter);
+        stubOffsets(Map.of("group-1", List.of(
+                new ConsumerGroupOffset("topic-a", 0, 10, 15, 5),
+                new ConsumerGroupOffset("topic-b", 0, 1, 1, 0))));
+        lagStreamService.publish();
+        stubOffsets(Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+
+        // When
+        lagStreamService.publish();
+
+        // Then
+        assertThat(emitter.events).extracting(Event::name)
+                .containsExactly(LagStreamService.SNAPSHOT_EVENT, LagStreamService.SNAPSHOT_EVENT);
+        assertThat(emitter.events.get(1).update().partitions()).hasSize(1);
+    }
+
+    @Test
+    void publish_whenSendFails_shouldDropSubscription() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.fail = true;
+        lagStreamService.subscribe(List.of("group-1"), emitter);
+        stubOffsets(Map.of("group-1", List.of(new ConsumerGroupOffset("topic-a", 0, 10, 15, 5))));
+
+        // When
+        lagStreamService.publish();
+
+        // Then
+        assertThat(lagStreamService.subscriptionCount()).isZero();
+    }
+
+    @Test
+    void publish_whenFetchFails_shouldKeepSubscriptions() {
+        // Given
+        lagStreamService.subscribe(List.of("group-1"), new RecordingEmitter());
+        when(asyncKafkaAdminPort.getConsumerGroupsOffsets(Set.of("group-1")))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaAdminException("boom")));
+
+        // When
+        lagStreamService.publish();
+
+        // Then
+        assertThat(lagStreamService.subscriptionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_withoutSubscribers_shouldNotFetch() {
+        // When
+        lagStreamService.publish();
+
+        // Then
+        verifyNoInteractions(asyncKafkaAdminPort);
+    }
+
+    @Test
+    void subscribe_shouldRejectInvalidGroupLists() {
+        // When/Then
+        assertThatThrownBy(() -> lagStreamService.subscribe(List.of(" ")))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> lagStreamService.subscribe(List.of("a", "b", "c")))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void subscribe_whenLimitReached_shouldThrow() {
+        // Given
+        lagStreamService.subscribe(List.of("group-1"), new RecordingEmitter());
+        lagStreamService.subscribe(List.of("group-1"), new RecordingEmitter());
+
+        // When/Then
+        assertThatThrownBy(() -> lagStreamService.subscribe(List.of("group-1"), new RecordingEmitter()))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private void stubOffsets(Map<String, List<ConsumerGroupOffset>> offsets) {
+        when(asyncKafkaAdminPort.getConsumerGroupsOffsets(offsets.keySet()))
+                .thenReturn(CompletableFuture.completedFuture(offsets));
+    }
+
+    private record Event(String name, LagUpdateResponse update) {
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Event> events = new ArrayList<>();
+        private boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            String name = null;
+            LagUpdateResponse update = null;
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof LagUpdateResponse response) {
+                    update = response;
+                } else if (data.getData() instanceof String text && text.startsWith("event:")) {
+                    name = text.substring("event:".length(), text.indexOf('\n'));
+                }
+            }
+            events.add(new Event(name, update));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.common.GlobalExceptionHandler;
+import com.kafkaadmin.topic.TopicNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class TopicConsumerControllerTest {
+
+    @Mock
+    private TopicConsumerIndex topicConsumerIndex;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TopicConsumerController(topicConsumerIndex))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getConsumerGroups_shouldReturnGroupsWithLag() throws Exception {
+        // Given
+        when(topicConsumerIndex.getConsumerGroups("orders")).thenReturn(List.of(
+                new TopicConsumerGroupResponse("group-a", 42, 3, 2)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/topics/orders/consumer-groups"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupId").value("group-a"))
+                .andExpect(jsonPath("$[0].lag").value(42))
+                .andExpect(jsonPath("$[0].committedPartitions").value(3))
+                .andExpect(jsonPath("$[0].assignedMembers").value(2));
+    }
+
+    @Test
+    void getConsumerGroups_whenTopicNotFound_shouldReturn404() throws Exception {
+        // Given
+        when(topicConsumerIndex.getConsumerGroups("unknown")).thenThrow(new TopicNotFoundException("unknown"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/topics/unknown/consumer-groups"))
+                .andExpect(status().isNotFound());
+    }
+}
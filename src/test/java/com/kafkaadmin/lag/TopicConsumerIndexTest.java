@@ -0,0 +1,140 @@
+package com.kafkaadmin.lag;
+
+import com.kafkaadmin.cluster.ClusterInfo;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.common.ServiceUnavailableException;
+import com.kafkaadmin.common.TopicAssignment;
+import com.kafkaadmin.consumergroup.ConsumerGroup;
+import com.kafkaadmin.consumergroup.ConsumerGroupDescriptions;
+import com.kafkaadmin.consumergroup.ConsumerGroupMember;
+import com.kafkaadmin.consumergroup.ConsumerGroupOffset;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
+import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TopicConsumerIndexTest {
+
+    private static final LagProperties PROPERTIES = new LagProperties(true, 30000, 10, 1000, 10);
+
+    @Mock
+    private ConsumerGroupDescriptions groupDescriptions;
+
+    @Mock
+    private ClusterSnapshotService snapshotService;
+
+    private TopicConsumerIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TopicConsumerIndex(groupDescriptions, snapshotService, PROPERTIES);
+    }
+
+    @Test
+    void getConsumerGroups_shouldCombineCommittedOffsetsAndAssignments() {
+        // Given
+        when(groupDescriptions.describeAll(30000)).thenReturn(List.of(
+                group("group-a",
+                        member("c1", new TopicAssignment("orders-v1", new int[]{0, 1})),
+                        member("c2", new TopicAssignment("payments", new int[]{0}))),
+                group("group-b"),
+                group("group-c", member("c3", new TopicAssignment("orders-v1", new int[]{2})))));
+        index.onSample(0, Map.of(
+                "group-a", List.of(new ConsumerGroupOffset("orders-v1", 0, 10, 15, 5)),
+                "group-b", List.of(
+                        new ConsumerGroupOffset("orders-v1", 0, 0, 15, 15),
+                        new ConsumerGroupOffset("orders-v1", 1, 0, 5, 5))));
+        when(snapshotService.current()).thenReturn(Optional.empty());
+
+        // When
+        List<TopicConsumerGroupResponse> orders = index.getConsumerGroups("orders-v1");
+        List<TopicConsumerGroupResponse> payments = index.getConsumerGroups("payments");
+
+        // Then
+        assertThat(orders).containsExactly(
+                new TopicConsumerGroupResponse("group-a", 5, 1, 1),
+                new TopicConsumerGroupResponse("group-b", 20, 2, 0));
+        assertThat(payments).containsExactly(new TopicConsumerGroupResponse("group-a", 0, 0, 1));
+    }
+
+    @Test
+    void onSample_shouldDropTopicsAndGroupsNoLongerConsumed() {
+        // Given
+        when(groupDescriptions.describeAll(30000)).thenReturn(List.of());
+        index.onSample(0, Map.of(
+                "group-a", List.of(new ConsumerGroupOffset("orders", 0, 10, 15, 5)),
+                "group-b", List.of(new ConsumerGroupOffset("orders", 0, 10, 15, 5))));
+
+        // When
+        index.onSample(1, Map.of("group-a", List.of(new ConsumerGroupOffset("payments", 0, 1, 1, 0))));
+
+        // Then
+        when(snapshotService.current()).thenReturn(Optional.empty());
+        assertThat(index.getConsumerGroups("orders")).isEmpty();
+        assertThat(index.getConsumerGroups("payments")).extracting(TopicConsumerGroupResponse::groupId)
+                .containsExactly("group-a");
+    }
+
+    @Test
+    void onSample_whenDescribeFails_shouldKeepPreviousIndex() {
+        // Given
+        when(groupDescriptions.describeAll(30000))
+                .thenReturn(List.of())
+                .thenThrow(new KafkaAdminException("Failed to describe consumer groups"));
+        index.onSample(0, Map.of("group-a", List.of(new ConsumerGroupOffset("orders", 0, 10, 15, 5))));
+
+        // When
+        index.onSample(1, Map.of());
+
+        // Then
+        when(snapshotService.current()).thenReturn(Optional.empty());
+        assertThat(index.getConsumerGroups("orders")).hasSize(1);
+        assertThat(index.indexedAtMs()).isZero();
+    }
+
+    @Test
+    void getConsumerGroups_forTopicMissingFromSnapshot_shouldThrowException() {
+        // Given
+        when(snapshotService.current()).thenReturn(Optional.of(ClusterSnapshot.of(
+                1, Instant.EPOCH, new ClusterInfo("cluster", 1, List.of()),
+                List.of(new Topic("orders", 1, 1, Map.of(), List.of(), false)))));
+
+        // When/Then
+        assertThatThrownBy(() -> index.getConsumerGroups("unknown"))
+                .isInstanceOf(TopicNotFoundException.class);
+    }
+
+    @Test
+    void getConsumerGroups_whenLagSamplingDisabled_shouldThrowException() {
+        // Given
+        TopicConsumerIndex disabled = new TopicConsumerIndex(
+                groupDescriptions, snapshotService, new LagProperties(false, 30000, 10, 1000, 10));
+
+        // When/Then
+        assertThatThrownBy(() -> disabled.getConsumerGroups("orders"))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private static ConsumerGroup group(String groupId, ConsumerGroupMember... members) {
+        return new ConsumerGroup(groupId, "Stable", "range", 1, List.of(members));
+    }
+
+    private static ConsumerGroupMember member(String consumerId, TopicAssignment... assignments) {
+        return new ConsumerGroupMember(consumerId, "client", "/127.0.0.1", List.of(assignments));
+    }
+}
@@ -1,6 +1,7 @@
 package com.kafkaadmin.sharegroup;
 
 import com.kafkaadmin.common.GlobalExceptionHandler;
+import com.kafkaadmin.common.TopicAssignmentResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -74,7 +75,7 @@ class ShareGroupControllerTest {
                 1,
                 List.of(
                         new ShareGroupMemberResponse("consumer-1-id", "consumer-1", "/192.168.1.100",
-                                List.of("topic-0"))
+                                List.of(new TopicAssignmentResponse("topic", new int[]{0, 1})))
                 )
         );
         when(shareGroupService.getShareGroup("my-share-group")).thenReturn(group);
@@ -86,7 +87,9 @@ class ShareGroupControllerTest {
                 .andExpect(jsonPath("$.groupId").value("my-share-group"))
                 .andExpect(jsonPath("$.state").value("Stable"))
                 .andExpect(jsonPath("$.coordinatorId").value(1))
-                .andExpect(jsonPath("$.members.length()").value(1));
+                .andExpect(jsonPath("$.members.length()").value(1))
+                .andExpect(jsonPath("$.members[0].assignments[0].topic").value("topic"))
+                .andExpect(jsonPath("$.members[0].assignments[0].partitions[1]").value(1));
     }
 
     @Test
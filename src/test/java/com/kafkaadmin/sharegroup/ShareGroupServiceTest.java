@@ -1,6 +1,8 @@
 package com.kafkaadmin.sharegroup;
 
 import com.kafkaadmin.common.KafkaAdminPort;
+import com.kafkaadmin.common.TopicAssignment;
+import com.kafkaadmin.common.TopicAssignmentResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -67,9 +69,9 @@ class ShareGroupServiceTest {
                 1,
                 List.of(
                         new ShareGroupMember("consumer-1-id", "consumer-1", "/192.168.1.100",
-                                List.of("topic-0", "topic-1")),
+                                List.of(new TopicAssignment("topic", new int[]{0, 1}))),
                         new ShareGroupMember("consumer-2-id", "consumer-2", "/192.168.1.101",
-                                List.of("topic-2"))
+                                List.of(new TopicAssignment("topic", new int[]{2})))
                 ));
 
         when(kafkaAdminPort.describeShareGroup(groupId)).thenReturn(group);
@@ -82,6 +84,8 @@ class ShareGroupServiceTest {
         assertThat(result.state()).isEqualTo("Stable");
         assertThat(result.coordinatorId()).isEqualTo(1);
         assertThat(result.members()).hasSize(2);
+        assertThat(result.members().getFirst().assignments())
+                .containsExactly(new TopicAssignmentResponse("topic", new int[]{0, 1}));
     }
 
     private ShareGroup createShareGroup(String groupId) {
@@ -0,0 +1,176 @@
+package com.kafkaadmin.snapshot;
+
+import com.kafkaadmin.cluster.Broker;
+import com.kafkaadmin.cluster.ClusterInfo;
+import com.kafkaadmin.common.AsyncKafkaAdminPort;
+import com.kafkaadmin.common.KafkaAdminException;
+import com.kafkaadmin.topic.Topic;
+import com.kafkaadmin.topic.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterSnapshotServiceTest {
+
+    private static final ClusterInfo CLUSTER_INFO = new ClusterInfo(
+            "test-cluster-id",
+            1,
+            List.of(
+                    new Broker(2, "broker-2", 9092, null, false),
+                    new Broker(1, "broker-1", 9092, null, true)
+            ));
+
+    @Mock
+    private AsyncKafkaAdminPort asyncKafkaAdminPort;
+
+    private ClusterSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new ClusterSnapshotService(
+                asyncKafkaAdminPort,
+                new SnapshotProperties(true, 10000, 60000),
+                Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void current_beforeFirstRefresh_shouldBeEmpty() {
+        assertThat(snapshotService.current()).isEmpty();
+    }
+
+    @Test
+    void refresh_shouldPublishSortedSnapshot() {
+        // Given
+        stubCluster(List.of(createTopic("zebra-topic"), createTopic("alpha-topic")));
+
+        // When
+        snapshotService.refresh();
+
+        // Then
+        ClusterSnapshot snapshot = snapshotService.current().orElseThrow();
+        assertThat(snapshot.version()).isEqualTo(1);
+        assertThat(snapshot.topics()).extracting(Topic::name).containsExactly("alpha-topic", "zebra-topic");
+        assertThat(snapshot.clusterInfo().brokers()).extracting(Broker::id).containsExactly(1, 2);
+        assertThat(snapshot.topic("zebra-topic").orElseThrow().partitions())
+                .extracting(TopicPartitionInfo::partition).containsExactly(0, 1);
+    }
+
+    @Test
+    void refresh_whenMetadataUnchanged_shouldKeepVersion() {
+        // Given
+        stubCluster(List.of(createTopic("alpha-topic")));
+
+        // When
+        snapshotService.refresh();
+        snapshotService.refresh();
+
+        // Then
+        assertThat(snapshotService.current().orElseThrow().version()).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_whenMetadataChanged_shouldIncrementVersion() {
+        // Given
+        stubCluster(List.of(createTopic("alpha-topic")));
+        snapshotService.refresh();
+        stubCluster(List.of(createTopic("alpha-topic"), createTopic("beta-topic")));
+
+        // When
+        snapshotService.refresh();
+
+        // Then
+        ClusterSnapshot snapshot = snapshotService.current().orElseThrow();
+        assertThat(snapshot.version()).isEqualTo(2);
+        assertThat(snapshot.topics()).hasSize(2);
+    }
+
+    @Test
+    void refresh_whenKafkaFails_shouldKeepPreviousSnapshot() {
+        // Given
+        stubCluster(List.of(createTopic("alpha-topic")));
+        snapshotService.refresh();
+        when(asyncKafkaAdminPort.getClusterInfo())
+                .thenReturn(CompletableFuture.failedFuture(new KafkaAdminException("Failed to get cluster info")));
+
+        // When
+        snapshotService.refresh();
+
+        // Then
+        assertThat(snapshotService.current().orElseThrow().topics()).hasSize(1);
+    }
+
+    @Test
+    void current_whenRefreshesKeepFailing_shouldExpireSnapshotAfterMaxAge() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> Instant.ofEpochMilli(now.get()));
+        when(clock.millis()).thenAnswer(invocation -> now.get());
+        ClusterSnapshotService service = new ClusterSnapshotService(
+                asyncKafkaAdminPort, new SnapshotProperties(true, 10000, 60000), clock);
+        stubCluster(List.of(createTopic("alpha-topic")));
+        service.refresh();
+        when(asyncKafkaAdminPort.getClusterInfo())
+                .thenReturn(CompletableFuture.failedFuture(new KafkaAdminException("Failed to get cluster info")));
+
+        // When/Then
+        for (long t = 10000; t <= 60000; t += 10000) {
+            now.set(t);
+            service.refresh();
+            assertThat(service.current()).isPresent();
+        }
+        now.set(70000);
+        service.refresh();
+        assertThat(service.current()).isEmpty();
+    }
+
+    @Test
+    void refresh_whenDisabled_shouldNotContactKafka() {
+        // Given
+        ClusterSnapshotService disabled = new ClusterSnapshotService(
+                asyncKafkaAdminPort, new SnapshotProperties(false, 10000, 60000));
+
+        // When
+        disabled.refresh();
+
+        // Then
+        assertThat(disabled.current()).isEmpty();
+        verifyNoInteractions(asyncKafkaAdminPort);
+    }
+
+    private void stubCluster(List<Topic> topics) {
+        List<String> names = topics.stream().map(Topic::name).toList();
+        when(asyncKafkaAdminPort.getClusterInfo()).thenReturn(CompletableFuture.completedFuture(CLUSTER_INFO));
+        when(asyncKafkaAdminPort.listTopicNames()).thenReturn(CompletableFuture.completedFuture(names));
+        when(asyncKafkaAdminPort.describeTopics(names)).thenReturn(CompletableFuture.completedFuture(topics));
+    }
+
+    private Topic createTopic(String name) {
+        return new Topic(
+                name,
+                2,
+                1,
+                Map.of(),
+                List.of(
+                        new TopicPartitionInfo(1, 1, List.of(1), List.of(1)),
+                        new TopicPartitionInfo(0, 1, List.of(1), List.of(1))
+                ),
+                false);
+    }
+}
@@ -1,6 +1,8 @@
 package com.kafkaadmin.topic;
 
 import com.kafkaadmin.common.GlobalExceptionHandler;
+import com.kafkaadmin.common.NdjsonResponses;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,12 +10,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -23,11 +34,14 @@ class TopicControllerTest {
     @Mock
     private TopicService topicService;
 
+    @Mock
+    private ClusterSnapshotService snapshotService;
+
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
-        TopicController controller = new TopicController(topicService);
+        TopicController controller = new TopicController(topicService, snapshotService, new NdjsonResponses(JsonMapper.builder().build()));
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -40,7 +54,7 @@ class TopicControllerTest {
                 new TopicResponse("topic-1", 3, 2, false),
                 new TopicResponse("topic-2", 1, 1, false)
         );
-        when(topicService.listTopics()).thenReturn(topics);
+        when(topicService.listTopics(any(), any())).thenReturn(new TopicPage(topics, null));
 
         // When/Then
         mockMvc.perform(get("/api/v1/topics")
@@ -53,6 +67,91 @@ class TopicControllerTest {
                 .andExpect(jsonPath("$[1].name").value("topic-2"));
     }
 
+    @Test
+    void listTopics_withMoreTopics_shouldReturnNextCursorHeader() throws Exception {
+        // Given
+        List<TopicResponse> topics = List.of(new TopicResponse("orders-a", 3, 2, false));
+        when(topicService.listTopics(any(), any())).thenReturn(new TopicPage(topics, "b3JkZXJzLWE"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/topics")
+                        .param("prefix", "orders-")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string(TopicController.NEXT_CURSOR_HEADER, "b3JkZXJzLWE"));
+        verify(topicService).listTopics(argThat(query ->
+                "orders-".equals(query.prefix()) && query.limit() == 1 && query.after() == null), any());
+    }
+
+    @Test
+    void listTopics_withInvalidLimit_shouldReturnBadRequest() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/api/v1/topics")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("limit must be at least 1"));
+        verifyNoInteractions(topicService);
+    }
+
+    @Test
+    void streamTopics_withNdjsonAccept_shouldWriteOneTopicPerLine() throws Exception {
+        // Given
+        List<TopicResponse> topics = List.of(
+                new TopicResponse("topic-1", 3, 2, false),
+                new TopicResponse("topic-2", 1, 1, false)
+        );
+        when(topicService.streamTopics(any(), any())).thenReturn(new TopicStream(topics.stream(), "dG9waWMtMg"));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/topics")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(TopicController.NEXT_CURSOR_HEADER, "dG9waWMtMg"))
+                .andExpect(content().string("""
+                        {"name":"topic-1","partitionCount":3,"replicationFactor":2,"internal":false}
+                        {"name":"topic-2","partitionCount":1,"replicationFactor":1,"internal":false}
+                        """));
+    }
+
+    @Test
+    void listTopics_withWildcardAccept_shouldReturnJsonArray() throws Exception {
+        // Given
+        when(topicService.listTopics(any(), any()))
+                .thenReturn(new TopicPage(List.of(new TopicResponse("topic-1", 3, 2, false)), null));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/topics")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("topic-1"));
+    }
+
+    @Test
+    void listTopicConfigs_shouldReturnConfigs() throws Exception {
+        // Given
+        List<TopicConfigsResponse> configs = List.of(
+                new TopicConfigsResponse("topic-1", Map.of("cleanup.policy", "compact"), null),
+                new TopicConfigsResponse("topic-2", Map.of(), "Authorization failed")
+        );
+        when(topicService.listTopicConfigs()).thenReturn(configs);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/topics/configs")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("topic-1"))
+                .andExpect(jsonPath("$[0].configs.['cleanup.policy']").value("compact"))
+                .andExpect(jsonPath("$[1].error").value("Authorization failed"));
+    }
+
     @Test
     void getTopic_shouldReturnTopicDetails() throws Exception {
         // Given
@@ -67,7 +166,7 @@ class TopicControllerTest {
                         new TopicPartitionInfoResponse(1, 2, List.of(2, 1), List.of(2, 1))
                 )
         );
-        when(topicService.getTopic("my-topic")).thenReturn(topic);
+        when(topicService.getTopic(eq("my-topic"), any())).thenReturn(topic);
 
         // When/Then
         mockMvc.perform(get("/api/v1/topics/my-topic")
@@ -83,7 +182,7 @@ class TopicControllerTest {
     @Test
     void getTopic_whenNotFound_shouldReturn404() throws Exception {
         // Given
-        when(topicService.getTopic("non-existent"))
+        when(topicService.getTopic(eq("non-existent"), any()))
                 .thenThrow(new TopicNotFoundException("non-existent"));
 
         // When/Then
@@ -113,4 +212,32 @@ class TopicControllerTest {
                 .andExpect(jsonPath("$[0].partition").value(0))
                 .andExpect(jsonPath("$[0].leader").value(1));
     }
+
+    @Test
+    void getTopic_withFields_shouldOmitUnselectedFields() throws Exception {
+        // Given
+        when(topicService.getTopic(eq("my-topic"), any()))
+                .thenReturn(new TopicDetailResponse("my-topic", 3, null, null, null, null));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/topics/my-topic")
+                        .param("fields", "name,partitionCount"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("my-topic"))
+                .andExpect(jsonPath("$.partitionCount").value(3))
+                .andExpect(jsonPath("$.configs").doesNotExist())
+                .andExpect(jsonPath("$.partitions").doesNotExist());
+        verify(topicService).getTopic(eq("my-topic"), argThat(fields ->
+                fields.includes("partitionCount") && !fields.includes("configs")));
+    }
+
+    @Test
+    void getTopic_withUnknownField_shouldReturnBadRequest() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/api/v1/topics/my-topic")
+                        .param("fields", "name,owner"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Unknown field 'owner'")));
+        verifyNoInteractions(topicService);
+    }
 }
@@ -1,17 +1,30 @@
 package com.kafkaadmin.topic;
 
+import com.kafkaadmin.cluster.ClusterInfo;
+import com.kafkaadmin.common.Fields;
+import com.kafkaadmin.common.InvalidRequestException;
 import com.kafkaadmin.common.KafkaAdminPort;
+import com.kafkaadmin.snapshot.ClusterSnapshot;
+import com.kafkaadmin.snapshot.ClusterSnapshotService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,11 +33,14 @@ class TopicServiceTest {
     @Mock
     private KafkaAdminPort kafkaAdminPort;
 
+    @Mock
+    private ClusterSnapshotService snapshotService;
+
     private TopicService topicService;
 
     @BeforeEach
     void setUp() {
-        topicService = new TopicService(kafkaAdminPort);
+        topicService = new TopicService(kafkaAdminPort, snapshotService);
     }
 
     @Test
@@ -34,16 +50,137 @@ class TopicServiceTest {
         Topic topic2 = createTopic("alpha-topic");
 
         when(kafkaAdminPort.listTopicNames()).thenReturn(List.of("zebra-topic", "alpha-topic"));
-        when(kafkaAdminPort.getTopic("zebra-topic")).thenReturn(topic1);
-        when(kafkaAdminPort.getTopic("alpha-topic")).thenReturn(topic2);
+        when(kafkaAdminPort.describeTopics(List.of("alpha-topic", "zebra-topic"))).thenReturn(List.of(topic1, topic2));
 
         // When
-        List<TopicResponse> result = topicService.listTopics();
+        List<TopicResponse> result = topicService.listTopics(TopicQuery.ALL, Fields.ALL).topics();
 
         // Then
         assertThat(result).hasSize(2);
         assertThat(result.get(0).name()).isEqualTo("alpha-topic");
         assertThat(result.get(1).name()).isEqualTo("zebra-topic");
+        verify(kafkaAdminPort, never()).getTopic(anyString());
+    }
+
+    @Test
+    void listTopics_whenSnapshotAvailable_shouldServeFromSnapshot() {
+        // Given
+        ClusterSnapshot snapshot = ClusterSnapshot.of(
+                1,
+                Instant.now(),
+                new ClusterInfo("cluster", 1, List.of()),
+                List.of(createTopic("zebra-topic"), createTopic("alpha-topic")));
+        when(snapshotService.current()).thenReturn(Optional.of(snapshot));
+
+        // When
+        List<TopicResponse> result = topicService.listTopics(TopicQuery.ALL, Fields.ALL).topics();
+
+        // Then
+        assertThat(result).extracting(TopicResponse::name).containsExactly("alpha-topic", "zebra-topic");
+        verifyNoInteractions(kafkaAdminPort);
+    }
+
+    @Test
+    void listTopics_withPrefixAndLimit_shouldDescribeOnlyRequestedPage() {
+        // Given
+        when(kafkaAdminPort.listTopicNames())
+                .thenReturn(List.of("payments", "orders-c", "orders-a", "audit", "orders-b"));
+        when(kafkaAdminPort.describeTopics(List.of("orders-a", "orders-b")))
+                .thenReturn(List.of(createTopic("orders-b"), createTopic("orders-a")));
+
+        // When
+        TopicPage page = topicService.listTopics(TopicQuery.of("orders-", null, 2, null), Fields.ALL);
+
+        // Then
+        assertThat(page.topics()).extracting(TopicResponse::name).containsExactly("orders-a", "orders-b");
+        assertThat(page.nextCursor()).isEqualTo(TopicQuery.cursorAfter("orders-b"));
+    }
+
+    @Test
+    void listTopics_withCursor_shouldReturnFollowingPage() {
+        // Given
+        when(kafkaAdminPort.listTopicNames())
+                .thenReturn(List.of("payments", "orders-c", "orders-a", "audit", "orders-b"));
+        when(kafkaAdminPort.describeTopics(List.of("orders-c"))).thenReturn(List.of(createTopic("orders-c")));
+
+        // When
+        TopicPage page = topicService.listTopics(
+                TopicQuery.of("orders-", null, 2, TopicQuery.cursorAfter("orders-b")), Fields.ALL);
+
+        // Then
+        assertThat(page.topics()).extracting(TopicResponse::name).containsExactly("orders-c");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void listTopics_whenSnapshotAvailable_shouldFilterAndPageSnapshot() {
+        // Given
+        ClusterSnapshot snapshot = ClusterSnapshot.of(
+                1,
+                Instant.now(),
+                new ClusterInfo("cluster", 1, List.of()),
+                List.of(createTopic("orders.v2"), createTopic("orders.v1"), createTopic("orders-dlq"),
+                        createTopic("payments.v1")));
+        when(snapshotService.current()).thenReturn(Optional.of(snapshot));
+
+        // When
+        TopicPage page = topicService.listTopics(TopicQuery.of(null, ".*\\.v\\d+", 2, null), Fields.ALL);
+
+        // Then
+        assertThat(page.topics()).extracting(TopicResponse::name).containsExactly("orders.v1", "orders.v2");
+        assertThat(page.nextCursor()).isEqualTo(TopicQuery.cursorAfter("orders.v2"));
+        verifyNoInteractions(kafkaAdminPort);
+    }
+
+    @Test
+    void streamTopics_shouldDescribeLazilyInChunks() {
+        // Given
+        List<String> names = IntStream.range(0, TopicService.STREAM_DESCRIBE_CHUNK_SIZE + 1)
+                .mapToObj(i -> String.format("topic-%04d", i))
+                .toList();
+        List<String> firstChunk = names.subList(0, TopicService.STREAM_DESCRIBE_CHUNK_SIZE);
+        List<String> secondChunk = names.subList(TopicService.STREAM_DESCRIBE_CHUNK_SIZE, names.size());
+        when(kafkaAdminPort.listTopicNames()).thenReturn(names.reversed());
+        when(kafkaAdminPort.describeTopics(firstChunk))
+                .thenReturn(firstChunk.stream().map(this::createTopic).toList());
+        when(kafkaAdminPort.describeTopics(secondChunk))
+                .thenReturn(secondChunk.stream().map(this::createTopic).toList());
+
+        // When
+        TopicStream stream = topicService.streamTopics(TopicQuery.ALL, Fields.ALL);
+
+        // Then
+        verify(kafkaAdminPort, never()).describeTopics(any());
+        assertThat(stream.topics().map(TopicResponse::name).toList()).isEqualTo(names);
+        assertThat(stream.nextCursor()).isNull();
+    }
+
+    @Test
+    void listTopics_withInvalidRegex_shouldThrowInvalidRequest() {
+        assertThatThrownBy(() -> TopicQuery.of(null, "orders[", null, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Invalid regex");
+    }
+
+    @Test
+    void listTopicConfigs_shouldReturnSortedConfigsIncludingFailures() {
+        // Given
+        List<String> names = List.of("zebra-topic", "alpha-topic");
+        when(kafkaAdminPort.listTopicNames()).thenReturn(names);
+        when(kafkaAdminPort.getTopicConfigs(names)).thenReturn(List.of(
+                new TopicConfigs("zebra-topic", Map.of(), "Authorization failed"),
+                new TopicConfigs("alpha-topic", Map.of("retention.ms", "86400000"), null)));
+
+        // When
+        List<TopicConfigsResponse> result = topicService.listTopicConfigs();
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).name()).isEqualTo("alpha-topic");
+        assertThat(result.get(0).configs()).containsEntry("retention.ms", "86400000");
+        assertThat(result.get(0).error()).isNull();
+        assertThat(result.get(1).name()).isEqualTo("zebra-topic");
+        assertThat(result.get(1).error()).isEqualTo("Authorization failed");
     }
 
     @Test
@@ -65,7 +202,7 @@ class TopicServiceTest {
         when(kafkaAdminPort.getTopic(topicName)).thenReturn(topic);
 
         // When
-        TopicDetailResponse result = topicService.getTopic(topicName);
+        TopicDetailResponse result = topicService.getTopic(topicName, Fields.ALL);
 
         // Then
         assertThat(result.name()).isEqualTo(topicName);
@@ -82,7 +219,7 @@ class TopicServiceTest {
         when(kafkaAdminPort.getTopic(topicName)).thenThrow(new TopicNotFoundException(topicName));
 
         // When/Then
-        assertThatThrownBy(() -> topicService.getTopic(topicName))
+        assertThatThrownBy(() -> topicService.getTopic(topicName, Fields.ALL))
                 .isInstanceOf(TopicNotFoundException.class)
                 .hasMessageContaining(topicName);
     }
@@ -109,6 +246,58 @@ class TopicServiceTest {
         assertThat(result.get(2).partition()).isEqualTo(2);
     }
 
+    @Test
+    void getTopicPartitions_whenTopicMissingFromSnapshot_shouldLookUpDirectly() {
+        // Given
+        String topicName = "new-topic";
+        ClusterSnapshot snapshot = ClusterSnapshot.of(
+                1,
+                Instant.now(),
+                new ClusterInfo("cluster", 1, List.of()),
+                List.of(createTopic("old-topic")));
+        when(snapshotService.current()).thenReturn(Optional.of(snapshot));
+        when(kafkaAdminPort.getTopicPartitions(topicName))
+                .thenReturn(List.of(new TopicPartitionInfo(0, 1, List.of(1), List.of(1))));
+
+        // When
+        List<TopicPartitionInfoResponse> result = topicService.getTopicPartitions(topicName);
+
+        // Then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    void listTopics_withOnlyNameField_shouldNotDescribeTopics() {
+        // Given
+        when(kafkaAdminPort.listTopicNames()).thenReturn(List.of("zebra-topic", "alpha-topic"));
+
+        // When
+        TopicPage page = topicService.listTopics(TopicQuery.ALL, Fields.parse("name", TopicResponse.FIELDS));
+
+        // Then
+        assertThat(page.topics()).containsExactly(
+                new TopicResponse("alpha-topic", null, null, null),
+                new TopicResponse("zebra-topic", null, null, null));
+        verify(kafkaAdminPort, never()).describeTopics(any());
+    }
+
+    @Test
+    void getTopic_withoutConfigsField_shouldSkipConfigLookup() {
+        // Given
+        when(kafkaAdminPort.getTopicMetadata("test-topic")).thenReturn(createTopic("test-topic"));
+
+        // When
+        TopicDetailResponse result = topicService.getTopic(
+                "test-topic", Fields.parse("name,partitionCount", TopicDetailResponse.FIELDS));
+
+        // Then
+        assertThat(result.name()).isEqualTo("test-topic");
+        assertThat(result.partitionCount()).isEqualTo(1);
+        assertThat(result.configs()).isNull();
+        assertThat(result.partitions()).isNull();
+        verify(kafkaAdminPort, never()).getTopic(anyString());
+    }
+
     private Topic createTopic(String name) {
         return new Topic(
                 name,